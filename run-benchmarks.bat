@@ -0,0 +1,21 @@
+@echo off
+echo ========================================
+echo Running JMH Micro-Benchmarks
+echo ========================================
+echo.
+
+cd /d "%~dp0"
+
+echo Compiling benchmarks...
+call mvn -q test-compile
+
+echo.
+echo Running benchmarks with GC profiler (allocation per operation)...
+call mvn -Pbenchmarks exec:exec -Djmh.args="-prof gc %*"
+
+echo.
+echo ========================================
+echo Benchmark Run Completed
+echo ========================================
+echo.
+pause
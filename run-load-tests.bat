@@ -0,0 +1,22 @@
+@echo off
+echo ========================================
+echo Running MLX Order Load Tests
+echo ========================================
+echo.
+
+cd /d "%~dp0"
+
+echo Cleaning previous test results...
+call mvn clean
+
+echo.
+echo Running Load Tests (settings: load* keys in config-staging.properties)...
+call mvn test -Dsurefire.suiteXmlFiles=testng-load.xml
+
+echo.
+echo ========================================
+echo Test Execution Completed
+echo ========================================
+echo Check the extent-reports folder for detailed HTML report
+echo.
+pause
@@ -0,0 +1,22 @@
+@echo off
+echo ========================================
+echo Running MLX API Tests in Parallel
+echo ========================================
+echo.
+
+cd /d "%~dp0"
+
+echo Cleaning previous test results...
+call mvn clean
+
+echo.
+echo Running Login and Create Order Tests (4 parallel threads)...
+call mvn test -Dsurefire.suiteXmlFiles=testng-parallel.xml
+
+echo.
+echo ========================================
+echo Test Execution Completed
+echo ========================================
+echo Check the extent-reports folder for detailed HTML report
+echo.
+pause
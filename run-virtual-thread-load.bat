@@ -0,0 +1,22 @@
+@echo off
+echo ========================================
+echo Running MLX Virtual-Thread Load Tests
+echo ========================================
+echo.
+
+cd /d "%~dp0"
+
+echo Cleaning previous test results...
+call mvn clean
+
+echo.
+echo Running Virtual-Thread Sessions (needs JAVA_HOME on JDK 21+, settings: vt* keys)...
+call mvn test -Dsurefire.suiteXmlFiles=testng-vthreads.xml
+
+echo.
+echo ========================================
+echo Test Execution Completed
+echo ========================================
+echo Check the extent-reports folder for detailed HTML report
+echo.
+pause
@@ -0,0 +1,126 @@
+package com.mlx.api.client;
+
+import com.mlx.api.http.RequestSpecs;
+import com.mlx.api.metrics.Endpoint;
+import com.mlx.api.models.LoginRequest;
+import com.mlx.api.models.RequestBodyWriter;
+import com.mlx.api.models.StandingOrderRequest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Transport-independent MLX request: method, path, headers and body bytes.
+ *
+ * Both clients (MLXApiClient on RestAssured, AsyncMLXApiClient on java.net.http) send exactly what is
+ * built here, so they put the same request line, the same header names/values and the same body bytes
+ * on the wire and can be compared head to head. Only connection-level headers that a transport owns
+ * (Host, Content-Length, and Connection: Keep-Alive, which java.net.http implies for HTTP/1.1 and does not
+ * let callers set) and header order are left to the transport.
+ */
+public class ApiRequest {
+    
+    // RestAssured sends these by default; they are explicit here so the java.net.http transport sends them too
+    private static final String ACCEPT_ANY = "*/*";
+    private static final String ACCEPT_ENCODING = "gzip,deflate";
+    private static final String API_USER_AGENT = "MLX-API-Automation";
+    
+    private final Endpoint endpoint;
+    private final String method;
+    private final String path;
+    private final Map<String, String> headers;
+    private final byte[] body;
+    
+    private ApiRequest(Endpoint endpoint, String method, String path, Map<String, String> headers, byte[] body) {
+        this.endpoint = endpoint;
+        this.method = method;
+        this.path = path;
+        this.headers = Collections.unmodifiableMap(headers);
+        this.body = body;
+    }
+    
+    /**
+     * POST /users/login with the browser headers of the MLX web app
+     */
+    public static ApiRequest login(String email, String password, String applicationType) {
+        Map<String, String> headers = browserHeaders();
+        return new ApiRequest(Endpoint.LOGIN, "POST", Endpoint.LOGIN.getPath(), headers,
+            RequestBodyWriter.write(new LoginRequest(email, password, applicationType)));
+    }
+    
+    /**
+     * POST /orders/saveOrder - the body is serialized by the prebuilt ObjectWriter
+     */
+    public static ApiRequest saveOrder(String authToken, String userId, StandingOrderRequest order) {
+        Map<String, String> headers = browserHeaders();
+        headers.put("authorization", "Bearer " + authToken);
+        if (userId != null && !userId.isEmpty()) {
+            headers.put("user_id", userId);
+        }
+        return new ApiRequest(Endpoint.SAVE_ORDER, "POST", Endpoint.SAVE_ORDER.getPath(), headers,
+            RequestBodyWriter.write(order));
+    }
+    
+    /**
+     * GET /users/{userId} with plain API headers
+     * Accept and User-Agent are set explicitly because RestAssured and java.net.http have different defaults
+     */
+    public static ApiRequest getUser(String authToken, String userId) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Content-Type", "application/json");
+        headers.put("Authorization", "Bearer " + authToken);
+        headers.put("Accept", ACCEPT_ANY);
+        headers.put("User-Agent", API_USER_AGENT);
+        headers.put("Accept-Encoding", ACCEPT_ENCODING);
+        String path = Endpoint.GET_USER.getPath().replace("{userId}",
+            URLEncoder.encode(userId, StandardCharsets.UTF_8).replace("+", "%20"));
+        return new ApiRequest(Endpoint.GET_USER, "GET", path, headers, null);
+    }
+    
+    private static Map<String, String> browserHeaders() {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Content-Type", "application/json");
+        headers.putAll(RequestSpecs.browserHeaders());
+        headers.put("Accept-Encoding", ACCEPT_ENCODING);
+        return headers;
+    }
+    
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+    
+    /**
+     * HTTP method (GET or POST)
+     */
+    public String getMethod() {
+        return method;
+    }
+    
+    /**
+     * Path relative to the base URI, path parameters already filled in
+     */
+    public String getPath() {
+        return path;
+    }
+    
+    /**
+     * Request headers in insertion order (unmodifiable)
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+    
+    /**
+     * Body bytes, or null for requests without a body - shared, do not modify
+     */
+    public byte[] getBody() {
+        return body;
+    }
+    
+    public int getBodyLength() {
+        return body == null ? 0 : body.length;
+    }
+}
@@ -0,0 +1,117 @@
+package com.mlx.api.client;
+
+import com.mlx.api.json.ResponseView;
+import com.mlx.api.metrics.Endpoint;
+import io.restassured.response.Response;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of one MLXApiClient call: status, latency, byte counts and the fields read from the body.
+ *
+ * Immutable, safe to share between threads. The body is parsed once while the result is built and
+ * only the extracted fields are kept, so the parsed tree and the body bytes can be collected as soon
+ * as the call returns. The RestAssured Response is kept only when the client was created with
+ * keepResponses=true.
+ */
+public class ApiResult {
+    
+    private final Endpoint endpoint;
+    private final int statusCode;
+    private final long latencyNanos;
+    private final long requestBytes;
+    private final long responseBytes;
+    private final String message;
+    private final String error;
+    private final Response response;
+    
+    ApiResult(Endpoint endpoint, int statusCode, long latencyNanos, long requestBytes, long responseBytes,
+              ResponseView body, Response response) {
+        this.endpoint = endpoint;
+        this.statusCode = statusCode;
+        this.latencyNanos = latencyNanos;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+        this.message = body.message();
+        this.error = body.error();
+        this.response = response;
+    }
+    
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+    
+    public int getStatusCode() {
+        return statusCode;
+    }
+    
+    /**
+     * True for 2xx status codes
+     */
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+    
+    /**
+     * Time from sending the request to having read the whole response body
+     */
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+    
+    public long getLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+    }
+    
+    /**
+     * Size of the request body sent
+     */
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+    
+    /**
+     * Size of the response body received
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+    
+    /**
+     * "message" field of the body, or null
+     */
+    public String getMessage() {
+        return message;
+    }
+    
+    /**
+     * "error" field of the body, or null
+     */
+    public String getError() {
+        return error;
+    }
+    
+    /**
+     * True if the client kept the full response for this call
+     */
+    public boolean hasResponse() {
+        return response != null;
+    }
+    
+    /**
+     * Full RestAssured response
+     * @throws IllegalStateException if the client was not created with keepResponses=true
+     */
+    public Response getResponse() {
+        if (response == null) {
+            throw new IllegalStateException("Response not kept - create the MLXApiClient with keepResponses=true");
+        }
+        return response;
+    }
+    
+    @Override
+    public String toString() {
+        return endpoint.getMetricName() + " " + statusCode + " in " + getLatencyMillis() + " ms ("
+            + requestBytes + " B sent, " + responseBytes + " B received)";
+    }
+}
@@ -0,0 +1,183 @@
+package com.mlx.api.client;
+
+import com.mlx.api.http.ExchangeLog;
+import com.mlx.api.http.HttpExchange;
+import com.mlx.api.json.ResponseView;
+import com.mlx.api.metrics.Endpoint;
+import com.mlx.api.metrics.MetricsRegistry;
+import com.mlx.api.models.StandingOrderRequest;
+import com.mlx.api.results.ResultsSink;
+import com.mlx.api.utils.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Non-blocking MLX client on java.net.http.HttpClient.sendAsync (HTTP/1.1 or HTTP/2).
+ *
+ * Calls return a CompletableFuture right away; no thread waits while a request is in flight, so a
+ * handful of threads (asyncThreads) keeps thousands of login and saveOrder requests outstanding.
+ * Requests are built by ApiRequest, the same builder MLXApiClient uses, so both transports send the
+ * same request line, headers and body bytes. Results are the same immutable types; they never hold
+ * a RestAssured Response. Calls are counted and timed in MetricsRegistry and appended to the
+ * ResultsSink like every other call, and exchanges follow the httpLogMode policy of ExchangeLog.
+ * java.net.http exposes no connection or per-phase events, so these calls have no
+ * DNS/connect/TLS/first-byte breakdown (see RequestTiming).
+ * They also bypass the blocking RequestLimiter, so nothing here caps what is in flight: callers must.
+ * The open-loop engine holds one of openLoopMaxConcurrency permits per call until it completes.
+ *
+ * HTTP/2 is negotiated with ALPN on https; on plain http the client tries an h2c upgrade, which adds
+ * Upgrade headers the RestAssured transport does not send.
+ */
+public class AsyncMLXApiClient {
+    
+    private static final Logger logger = LogManager.getLogger(AsyncMLXApiClient.class);
+    
+    private final String baseURI;
+    private final Duration requestTimeout;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+    
+    /**
+     * @param baseURI Environment base URI
+     * @param version HTTP_1_1 or HTTP_2
+     * @param threads Threads that run send and completion work - none of them block on the network
+     * @param connectTimeout Limit for opening a connection
+     * @param requestTimeout Limit for a whole request, from send to response headers
+     */
+    public AsyncMLXApiClient(String baseURI, HttpClient.Version version, int threads,
+                             Duration connectTimeout, Duration requestTimeout) {
+        this.baseURI = baseURI;
+        this.requestTimeout = requestTimeout;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "mlx-async-http-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+            .version(version)
+            .connectTimeout(connectTimeout)
+            .executor(executor)
+            .build();
+    }
+    
+    /**
+     * Client for the environment and async* settings in config file
+     */
+    public static AsyncMLXApiClient fromConfig() {
+        return new AsyncMLXApiClient(
+            ConfigReader.getProperty("baseURI"),
+            HttpClient.Version.valueOf(ConfigReader.getProperty("asyncHttpVersion", "HTTP_1_1").trim()),
+            ConfigReader.getIntProperty("asyncThreads", 4),
+            Duration.ofMillis(ConfigReader.getIntProperty("asyncConnectTimeoutMs", 10000)),
+            Duration.ofMillis(ConfigReader.getIntProperty("asyncRequestTimeoutMs", 60000)));
+    }
+    
+    public CompletableFuture<LoginResult> loginAsync(String email, String password, String applicationType) {
+        return send(ApiRequest.login(email, password, applicationType), LoginResult::new);
+    }
+    
+    public CompletableFuture<OrderResult> saveOrderAsync(String authToken, String userId, StandingOrderRequest order) {
+        return send(ApiRequest.saveOrder(authToken, userId, order), OrderResult::new);
+    }
+    
+    public CompletableFuture<UserResult> getUserAsync(String authToken, String userId) {
+        return send(ApiRequest.getUser(authToken, userId), UserResult::new);
+    }
+    
+    public String getBaseURI() {
+        return baseURI;
+    }
+    
+    /**
+     * Stop the client's threads; requests still in flight are abandoned
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+    
+    private <R extends ApiResult> CompletableFuture<R> send(ApiRequest apiRequest, ResultFactory<R> factory) {
+        Endpoint endpoint = apiRequest.getEndpoint();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseURI + apiRequest.getPath()))
+            .timeout(requestTimeout);
+        if (apiRequest.getBody() == null) {
+            // JDKs before 19 still add Content-Length: 0 to a GET (JDK-8283544)
+            builder.GET();
+        } else {
+            builder.method(apiRequest.getMethod(), HttpRequest.BodyPublishers.ofByteArray(apiRequest.getBody()));
+        }
+        apiRequest.getHeaders().forEach(builder::header);
+        HttpRequest request = builder.build();
+        
+        MetricsRegistry.requestStarted(endpoint);
+        long start = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+            .handle((response, failure) -> {
+                long latencyNanos = System.nanoTime() - start;
+                if (failure != null) {
+                    Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause() : failure;
+                    MetricsRegistry.recordError(endpoint, cause, latencyNanos);
+                    ResultsSink.getInstance().recordError(endpoint, latencyNanos, apiRequest.getBodyLength(), cause);
+                    if (ExchangeLog.isCapturing()) {
+                        ExchangeLog.record(new HttpExchange(apiRequest.getMethod(), request.uri().toString(),
+                            apiRequest.getHeaders(), apiRequest.getBody(), 0, null, null, failure, latencyNanos));
+                        ExchangeLog.emitBuffered(endpoint + " failed");
+                    }
+                    throw failure instanceof CompletionException
+                        ? (CompletionException) failure : new CompletionException(failure);
+                }
+                int statusCode = response.statusCode();
+                MetricsRegistry.recordResponse(endpoint, statusCode, latencyNanos);
+                byte[] body = decode(response);
+                R result = factory.create(endpoint, statusCode, latencyNanos, apiRequest.getBodyLength(), body.length,
+                    new ResponseView(statusCode, body), null);
+                MLXApiClient.record(result);
+                if (ExchangeLog.isCapturing()) {
+                    // Recorded and judged on the completing thread, so the per-thread buffer holds just this exchange
+                    ExchangeLog.record(new HttpExchange(apiRequest.getMethod(), request.uri().toString(),
+                        apiRequest.getHeaders(), apiRequest.getBody(), statusCode, response.headers().map(), body,
+                        null, latencyNanos));
+                    MLXApiClient.logExchange(result);
+                }
+                if (logger.isDebugEnabled()) {
+                    logger.debug(result.toString());
+                }
+                return result;
+            });
+    }
+    
+    /**
+     * Undo gzip/deflate content encoding - RestAssured does the same for the blocking transport
+     */
+    private static byte[] decode(HttpResponse<byte[]> response) {
+        String encoding = response.headers().firstValue("Content-Encoding").orElse("").trim();
+        if (encoding.isEmpty() || "identity".equalsIgnoreCase(encoding)) {
+            return response.body();
+        }
+        try (InputStream in = "gzip".equalsIgnoreCase(encoding)
+                ? new GZIPInputStream(new ByteArrayInputStream(response.body()))
+                : new InflaterInputStream(new ByteArrayInputStream(response.body()))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot decode " + encoding + " response body", e);
+        }
+    }
+}
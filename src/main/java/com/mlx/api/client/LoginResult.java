@@ -0,0 +1,54 @@
+package com.mlx.api.client;
+
+import com.mlx.api.json.ResponseView;
+import com.mlx.api.metrics.Endpoint;
+import io.restassured.response.Response;
+
+/**
+ * Result of a login call: token and the logged in user
+ */
+public class LoginResult extends ApiResult {
+    
+    private final String authToken;
+    private final String userId;
+    private final String email;
+    private final String firstName;
+    private final String lastName;
+    
+    LoginResult(Endpoint endpoint, int statusCode, long latencyNanos, long requestBytes, long responseBytes,
+                ResponseView body, Response response) {
+        super(endpoint, statusCode, latencyNanos, requestBytes, responseBytes, body, response);
+        this.authToken = body.getString("data.token");
+        this.userId = body.getString("data.user._id");
+        this.email = body.getString("data.user.email");
+        this.firstName = body.getString("data.user.first_name");
+        this.lastName = body.getString("data.user.last_name");
+    }
+    
+    /**
+     * Status 200 with a token in the body
+     */
+    public boolean isLoginSuccessful() {
+        return getStatusCode() == 200 && authToken != null;
+    }
+    
+    public String getAuthToken() {
+        return authToken;
+    }
+    
+    public String getUserId() {
+        return userId;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+}
@@ -0,0 +1,166 @@
+package com.mlx.api.client;
+
+import com.mlx.api.http.ExchangeLog;
+import com.mlx.api.http.HttpConnectionPool;
+import com.mlx.api.http.RequestSpecs;
+import com.mlx.api.http.RequestTiming;
+import com.mlx.api.json.ResponseView;
+import com.mlx.api.limit.RequestLimiter;
+import com.mlx.api.metrics.Endpoint;
+import com.mlx.api.metrics.MetricsRegistry;
+import com.mlx.api.models.StandingOrderRequest;
+import com.mlx.api.results.ResultsSink;
+import com.mlx.api.utils.ConfigReader;
+import io.restassured.RestAssured;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Stateless client for the MLX API: login, saveOrder and getUser.
+ *
+ * Unlike the page objects, the client keeps no per-call state - every call returns its own immutable
+ * result (LoginResult, OrderResult, UserResult) with the fields read from the body, status, latency
+ * and byte counts. One instance can therefore be shared by any number of threads, and a response
+ * is only reachable for as long as the caller holds its result.
+ * The full RestAssured Response is kept in the result only with keepResponses=true (config key
+ * clientKeepResponses), e.g. for functional tests that log the whole body to the report.
+ *
+ * Requests are built by ApiRequest, shared with the non-blocking AsyncMLXApiClient.
+ * Calls are counted and timed in MetricsRegistry, per-phase times go to LatencyRecorder, and calls
+ * pass the RequestLimiter exactly as for the page objects; every call is also appended to the
+ * ResultsSink. Under the failures-only httpLogMode, exchanges of non-2xx calls are logged and
+ * successful ones discarded.
+ */
+public class MLXApiClient {
+    
+    private static final Logger logger = LogManager.getLogger(MLXApiClient.class);
+    
+    static {
+        // Same pooled keep-alive HttpClient as the page objects
+        HttpConnectionPool.install();
+    }
+    
+    private final String baseURI;
+    private final boolean keepResponses;
+    
+    public MLXApiClient(String baseURI, boolean keepResponses) {
+        this.baseURI = baseURI;
+        this.keepResponses = keepResponses;
+    }
+    
+    /**
+     * Client for a specific environment that does not keep responses
+     */
+    public MLXApiClient(String baseURI) {
+        this(baseURI, false);
+    }
+    
+    /**
+     * Client for the environment and response policy in config file
+     */
+    public static MLXApiClient fromConfig() {
+        return new MLXApiClient(ConfigReader.getProperty("baseURI"),
+            Boolean.parseBoolean(ConfigReader.getProperty("clientKeepResponses", "false").trim()));
+    }
+    
+    /**
+     * Log in with email, password and application type (web/mobile)
+     */
+    public LoginResult login(String email, String password, String applicationType) {
+        return call(ApiRequest.login(email, password, applicationType), LoginResult::new);
+    }
+    
+    /**
+     * Create a standing order - the body is serialized by the prebuilt ObjectWriter before the call is timed
+     */
+    public OrderResult saveOrder(String authToken, String userId, StandingOrderRequest order) {
+        return call(ApiRequest.saveOrder(authToken, userId, order), OrderResult::new);
+    }
+    
+    /**
+     * Fetch user details
+     */
+    public UserResult getUser(String authToken, String userId) {
+        return call(ApiRequest.getUser(authToken, userId), UserResult::new);
+    }
+    
+    public String getBaseURI() {
+        return baseURI;
+    }
+    
+    public boolean isKeepResponses() {
+        return keepResponses;
+    }
+    
+    /**
+     * Send the request, time it, and turn the response into a result while the body is still at hand
+     */
+    private <R extends ApiResult> R call(ApiRequest apiRequest, ResultFactory<R> factory) {
+        Endpoint endpoint = apiRequest.getEndpoint();
+        // Content type and every other header come from the ApiRequest; the spec adds base URI and the exchange log filter
+        RequestSpecification request = RestAssured.given(RequestSpecs.api(baseURI))
+            .headers(apiRequest.getHeaders());
+        if (apiRequest.getBody() != null) {
+            request.body(apiRequest.getBody());
+        }
+        
+        RequestLimiter limiter = RequestLimiter.getInstance();
+        limiter.acquire(endpoint);
+        MetricsRegistry.requestStarted(endpoint);
+        RequestTiming.begin();
+        long start = System.nanoTime();
+        Response response;
+        byte[] responseBody;
+        long latencyNanos = 0;
+        int statusCode = 0;
+        try {
+            response = request.request(Method.valueOf(apiRequest.getMethod()), apiRequest.getPath());
+            responseBody = response.asByteArray();
+            latencyNanos = System.nanoTime() - start;
+            statusCode = response.getStatusCode();
+        } catch (RuntimeException e) {
+            latencyNanos = System.nanoTime() - start;
+            MetricsRegistry.recordError(endpoint, e, latencyNanos);
+            ResultsSink.getInstance().recordError(endpoint, latencyNanos, apiRequest.getBodyLength(), e);
+            ExchangeLog.emitBuffered(endpoint + " failed");
+            throw e;
+        } finally {
+            RequestTiming.end(endpoint);
+            // Released here so that an Error thrown by the call cannot keep the concurrency slot for good
+            limiter.release(endpoint, statusCode, latencyNanos > 0 ? latencyNanos : System.nanoTime() - start);
+        }
+        MetricsRegistry.recordResponse(endpoint, statusCode, latencyNanos);
+        
+        R result = factory.create(endpoint, statusCode, latencyNanos, apiRequest.getBodyLength(), responseBody.length,
+            new ResponseView(statusCode, responseBody), keepResponses ? response : null);
+        record(result);
+        logExchange(result);
+        if (logger.isDebugEnabled()) {
+            logger.debug(result.toString());
+        }
+        return result;
+    }
+    
+    /**
+     * Append a completed call to the ResultsSink, with the order IDs of a saveOrder
+     */
+    static void record(ApiResult result) {
+        ResultsSink.getInstance().record(result.getEndpoint(), result.getStatusCode(), result.getLatencyNanos(),
+            result.getRequestBytes(), result.getResponseBytes(),
+            result instanceof OrderResult ? ((OrderResult) result).getOrderIds() : null);
+    }
+    
+    /**
+     * Failures-only policy for the client: a non-2xx result is the failed check
+     */
+    static void logExchange(ApiResult result) {
+        if (result.isSuccessful()) {
+            ExchangeLog.clearBuffered();
+        } else {
+            ExchangeLog.emitBuffered(result.getEndpoint() + " returned " + result.getStatusCode());
+        }
+    }
+}
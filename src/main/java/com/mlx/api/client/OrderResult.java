@@ -0,0 +1,49 @@
+package com.mlx.api.client;
+
+import com.mlx.api.json.ResponseView;
+import com.mlx.api.metrics.Endpoint;
+import io.restassured.response.Response;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a saveOrder call: the order IDs that were created
+ */
+public class OrderResult extends ApiResult {
+    
+    private final List<String> orderIds;
+    
+    OrderResult(Endpoint endpoint, int statusCode, long latencyNanos, long requestBytes, long responseBytes,
+                ResponseView body, Response response) {
+        super(endpoint, statusCode, latencyNanos, requestBytes, responseBytes, body, response);
+        List<String> ids = body.orderIds();
+        if (ids.isEmpty()) {
+            // Single orders return data.order_id instead of a data.orders array
+            String orderId = body.orderId();
+            ids = orderId == null ? Collections.<String>emptyList() : Collections.singletonList(orderId);
+        }
+        this.orderIds = Collections.unmodifiableList(ids);
+    }
+    
+    /**
+     * Status 201 with at least one order ID
+     */
+    public boolean isOrderCreated() {
+        return getStatusCode() == 201 && !orderIds.isEmpty();
+    }
+    
+    /**
+     * First order ID (standing orders create one order per date), or null
+     */
+    public String getOrderId() {
+        return orderIds.isEmpty() ? null : orderIds.get(0);
+    }
+    
+    /**
+     * All order IDs, in response order (unmodifiable)
+     */
+    public List<String> getOrderIds() {
+        return orderIds;
+    }
+}
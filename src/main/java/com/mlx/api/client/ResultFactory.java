@@ -0,0 +1,14 @@
+package com.mlx.api.client;
+
+import com.mlx.api.json.ResponseView;
+import com.mlx.api.metrics.Endpoint;
+import io.restassured.response.Response;
+
+/**
+ * Constructor reference of a result type (LoginResult::new, OrderResult::new, UserResult::new)
+ */
+interface ResultFactory<R extends ApiResult> {
+    
+    R create(Endpoint endpoint, int statusCode, long latencyNanos, long requestBytes, long responseBytes,
+             ResponseView body, Response response);
+}
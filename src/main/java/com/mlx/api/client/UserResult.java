@@ -0,0 +1,46 @@
+package com.mlx.api.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.mlx.api.json.ResponseView;
+import com.mlx.api.metrics.Endpoint;
+import io.restassured.response.Response;
+
+/**
+ * Result of a getUser call
+ */
+public class UserResult extends ApiResult {
+    
+    private final boolean userPresent;
+    private final String email;
+    private final String firstName;
+    private final String phone;
+    
+    UserResult(Endpoint endpoint, int statusCode, long latencyNanos, long requestBytes, long responseBytes,
+               ResponseView body, Response response) {
+        super(endpoint, statusCode, latencyNanos, requestBytes, responseBytes, body, response);
+        JsonNode user = body.node("data.user");
+        this.userPresent = !user.isMissingNode() && !user.isNull();
+        this.email = body.getString("data.user.email");
+        this.firstName = body.getString("data.user.first_name");
+        this.phone = body.getString("data.user.phone");
+    }
+    
+    /**
+     * Status 200 with a user in the body
+     */
+    public boolean userExists() {
+        return getStatusCode() == 200 && userPresent;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public String getPhone() {
+        return phone;
+    }
+}
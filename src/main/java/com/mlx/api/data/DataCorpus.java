@@ -0,0 +1,160 @@
+package com.mlx.api.data;
+
+import com.mlx.api.utils.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read side of the pre-generated patient corpus written by DataCorpusGenerator.
+ *
+ * The file is memory-mapped read-only and records have a fixed size, so record i is found by
+ * arithmetic instead of parsing. Threads claim records with a single getAndIncrement on a shared
+ * cursor - no locks, and every draw gets a different record until the corpus wraps around.
+ *
+ * File layout (big-endian): 32-byte header [magic, version, recordSize, fieldCount, recordCount(long), reserved]
+ * followed by recordCount records of recordSize bytes; each record holds FIELD_COUNT fields
+ * as [length byte][UTF-8 bytes], in PatientRecord constructor order, zero padded.
+ */
+public class DataCorpus {
+    
+    private static final Logger logger = LogManager.getLogger(DataCorpus.class);
+    
+    static final int MAGIC = 0x4D4C5843; // "MLXC"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 256;
+    static final int FIELD_COUNT = 10;
+    // The whole file is one MappedByteBuffer, so it must stay within Integer.MAX_VALUE bytes
+    static final long MAX_RECORDS = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+    
+    private static volatile DataCorpus shared;
+    
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final int recordSize;
+    private final long recordCount;
+    private final AtomicLong cursor = new AtomicLong();
+    
+    // Per-thread decode buffer - a field is at most 255 bytes
+    private final ThreadLocal<byte[]> scratch = ThreadLocal.withInitial(() -> new byte[255]);
+    
+    private DataCorpus(Path file, MappedByteBuffer buffer, int recordSize, long recordCount) {
+        this.file = file;
+        this.buffer = buffer;
+        this.recordSize = recordSize;
+        this.recordCount = recordCount;
+    }
+    
+    /**
+     * Map a corpus file
+     * @throws IOException if the file cannot be read or is not a corpus file
+     */
+    public static DataCorpus open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a data corpus file (size " + size + "): " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Not a version " + VERSION + " data corpus file: " + file);
+            }
+            int recordSize = buffer.getInt(8);
+            int fieldCount = buffer.getInt(12);
+            long recordCount = buffer.getLong(16);
+            if (fieldCount != FIELD_COUNT || recordCount < 1 || HEADER_SIZE + recordCount * recordSize > size) {
+                throw new IOException("Corrupt data corpus header in " + file);
+            }
+            logger.info("Data corpus mapped: " + file + " (" + recordCount + " records)");
+            return new DataCorpus(file, buffer, recordSize, recordCount);
+        }
+    }
+    
+    /**
+     * Suite-wide corpus from the dataCorpusFile key, or null if the key is empty (callers fall back to Faker)
+     * @throws IllegalStateException if the key is set but the file cannot be opened
+     */
+    public static DataCorpus fromConfig() {
+        String location = ConfigReader.getProperty("dataCorpusFile", "").trim();
+        if (location.isEmpty()) {
+            return null;
+        }
+        DataCorpus corpus = shared;
+        if (corpus == null) {
+            synchronized (DataCorpus.class) {
+                corpus = shared;
+                if (corpus == null) {
+                    Path file = Paths.get(location);
+                    if (!Files.exists(file)) {
+                        throw new IllegalStateException("Data corpus " + file + " not found - generate it with DataCorpusGenerator");
+                    }
+                    try {
+                        corpus = open(file);
+                    } catch (IOException e) {
+                        throw new IllegalStateException("Cannot open data corpus " + file, e);
+                    }
+                    shared = corpus;
+                }
+            }
+        }
+        return corpus;
+    }
+    
+    /**
+     * Claim the next record - each call gets a different record until all have been drawn, then wraps
+     */
+    public PatientRecord next() {
+        long ticket = cursor.getAndIncrement();
+        if (ticket == recordCount) {
+            logger.warn("Data corpus " + file + " exhausted after " + recordCount + " records - wrapping, records will repeat");
+        }
+        return read(ticket % recordCount);
+    }
+    
+    /**
+     * Record at the index (0-based)
+     */
+    public PatientRecord read(long index) {
+        if (index < 0 || index >= recordCount) {
+            throw new IndexOutOfBoundsException("Record " + index + " of " + recordCount);
+        }
+        int position = (int) (HEADER_SIZE + index * recordSize);
+        String[] fields = new String[FIELD_COUNT];
+        byte[] bytes = scratch.get();
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            int length = buffer.get(position) & 0xFF;
+            position++;
+            // Absolute gets leave the shared buffer's position untouched, so concurrent readers are safe
+            for (int i = 0; i < length; i++) {
+                bytes[i] = buffer.get(position + i);
+            }
+            fields[field] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+            position += length;
+        }
+        return new PatientRecord(fields[0], fields[1], fields[2], fields[3], fields[4],
+            fields[5], fields[6], fields[7], fields[8], fields[9]);
+    }
+    
+    public long size() {
+        return recordCount;
+    }
+    
+    /**
+     * Records claimed so far (can exceed size() once the corpus has wrapped)
+     */
+    public long drawn() {
+        return cursor.get();
+    }
+}
@@ -0,0 +1,163 @@
+package com.mlx.api.data;
+
+import com.github.javafaker.Faker;
+import com.mlx.api.utils.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+/**
+ * Writes the patient corpus read by DataCorpus, so load runs do not pay for Faker per order.
+ *
+ * Run once before a load run:
+ *   mvn -q compile exec:java -Dexec.mainClass=com.mlx.api.data.DataCorpusGenerator -Dexec.args="target/data-corpus.bin 100000"
+ * Without arguments the dataCorpusFile and dataCorpusRecords keys from config file are used.
+ * Facility account numbers are unique within a corpus; a corpus holds at most DataCorpus.MAX_RECORDS
+ * (about 8.3 million) records so that DataCorpus can map it.
+ */
+public class DataCorpusGenerator {
+    
+    private static final Logger logger = LogManager.getLogger(DataCorpusGenerator.class);
+    
+    // Longest value kept per field, in PatientRecord constructor order (total fits in RECORD_SIZE)
+    private static final int[] MAX_FIELD_BYTES = {24, 24, 8, 16, 10, 48, 32, 24, 5, 9};
+    
+    private static final int MAX_FACILITY_ACCOUNTS = 10000000;
+    private static final int WRITE_BATCH_RECORDS = 4096;
+    
+    private final Faker faker = new Faker();
+    private final Random random = new Random();
+    // Facility accounts walk the number range with a stride coprime to it, so no number repeats
+    // within MAX_FACILITY_ACCOUNTS draws and each draw costs the same however full the range is
+    private final int facilityStride;
+    private int nextFacilityAccount;
+    
+    public DataCorpusGenerator() {
+        int stride = MAX_FACILITY_ACCOUNTS / 3 + random.nextInt(MAX_FACILITY_ACCOUNTS / 3);
+        // MAX_FACILITY_ACCOUNTS is 2^7 * 5^7, so any stride not divisible by 2 or 5 is coprime to it
+        while (stride % 2 == 0 || stride % 5 == 0) {
+            stride++;
+        }
+        this.facilityStride = stride;
+        this.nextFacilityAccount = random.nextInt(MAX_FACILITY_ACCOUNTS);
+    }
+    
+    /**
+     * Generate recordCount patients into file, replacing it if it exists
+     */
+    public void generate(Path file, long recordCount) throws IOException {
+        if (recordCount < 1 || recordCount > DataCorpus.MAX_RECORDS) {
+            throw new IllegalArgumentException("recordCount must be between 1 and " + DataCorpus.MAX_RECORDS);
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(DataCorpus.HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+            header.putInt(DataCorpus.MAGIC)
+                .putInt(DataCorpus.VERSION)
+                .putInt(DataCorpus.RECORD_SIZE)
+                .putInt(DataCorpus.FIELD_COUNT)
+                .putLong(recordCount);
+            header.clear();
+            writeFully(channel, header);
+            
+            ByteBuffer batch = ByteBuffer.allocate(DataCorpus.RECORD_SIZE * WRITE_BATCH_RECORDS);
+            for (long written = 0; written < recordCount; written++) {
+                writeRecord(batch, newRecord());
+                if (!batch.hasRemaining()) {
+                    batch.flip();
+                    writeFully(channel, batch);
+                    batch.clear();
+                }
+            }
+            batch.flip();
+            writeFully(channel, batch);
+        }
+        logger.info("Data corpus written: " + file + " (" + recordCount + " records, "
+            + Files.size(file) / 1024 + " KB) in " + (System.nanoTime() - start) / 1000000 + " ms");
+    }
+    
+    private PatientRecord newRecord() {
+        // Same value shapes as OrderDataFactory's Faker path
+        String state = faker.address().state().toUpperCase();
+        return new PatientRecord(
+            faker.name().firstName(),
+            faker.name().lastName(),
+            OrderDataFactory.GENDERS[random.nextInt(OrderDataFactory.GENDERS.length)],
+            OrderDataFactory.ETHNICITIES[random.nextInt(OrderDataFactory.ETHNICITIES.length)],
+            String.format("9%09d", random.nextInt(1000000000)),
+            faker.address().streetAddress(),
+            faker.address().city().toUpperCase(),
+            state,
+            faker.address().zipCode().substring(0, 5),
+            uniqueFacilityAccount());
+    }
+    
+    private String uniqueFacilityAccount() {
+        int number = nextFacilityAccount;
+        nextFacilityAccount = (int) ((number + (long) facilityStride) % MAX_FACILITY_ACCOUNTS);
+        return "TG" + String.format("%07d", number);
+    }
+    
+    private static void writeRecord(ByteBuffer batch, PatientRecord record) {
+        int start = batch.position();
+        String[] fields = {
+            record.getFirstName(), record.getLastName(), record.getGender(), record.getEthnicity(),
+            record.getPhone(), record.getStreetAddress(), record.getCity(), record.getState(),
+            record.getZipCode(), record.getFacilityAccount()
+        };
+        for (int i = 0; i < fields.length; i++) {
+            byte[] bytes = truncate(fields[i], MAX_FIELD_BYTES[i]);
+            batch.put((byte) bytes.length);
+            batch.put(bytes);
+        }
+        // Zero padding up to the fixed record size
+        while (batch.position() < start + DataCorpus.RECORD_SIZE) {
+            batch.put((byte) 0);
+        }
+    }
+    
+    /**
+     * UTF-8 bytes of the value, shortened by whole characters until they fit
+     */
+    private static byte[] truncate(String value, int maxBytes) {
+        String text = value == null ? "" : value;
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        while (bytes.length > maxBytes) {
+            text = text.substring(0, text.length() - 1);
+            bytes = text.getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+    
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+    
+    /**
+     * Command line entry point - args: [file] [recordCount]
+     */
+    public static void main(String[] args) throws IOException {
+        String location = args.length > 0 ? args[0] : ConfigReader.getProperty("dataCorpusFile", "").trim();
+        if (location.isEmpty()) {
+            location = "target/data-corpus.bin";
+        }
+        long recordCount = args.length > 1 ? Long.parseLong(args[1]) : ConfigReader.getIntProperty("dataCorpusRecords", 100000);
+        new DataCorpusGenerator().generate(Paths.get(location), recordCount);
+    }
+}
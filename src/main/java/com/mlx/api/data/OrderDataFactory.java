@@ -0,0 +1,202 @@
+package com.mlx.api.data;
+
+import com.github.javafaker.Faker;
+import com.mlx.api.models.Address;
+import com.mlx.api.models.PatientData;
+import com.mlx.api.models.StandingOrderRequest;
+import com.mlx.api.models.TubeData;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Builds the "valid standing order" payload used by both the functional tests
+ * and the load engine, so both send exactly the same request shape.
+ * Patients come from the shared DataCorpus when one is configured, otherwise from Faker.
+ * Faker is not thread-safe - use one instance per thread.
+ */
+public class OrderDataFactory {
+    
+    public static final String PHYSICIAN_NPI = "1093767972";
+    public static final String BILLING_TYPE = "CLIENT";
+    public static final String STANDING_FREQUENCY = "DAILY";
+    public static final String ORDER_CODE = "RPP COVID19";
+    public static final String[] ICD_10_CODES = {"A21.8", "A04.9"};
+    
+    static final String[] GENDERS = {"MALE", "FEMALE", "OTHER"};
+    static final String[] ETHNICITIES = {"ASIAN", "HISPANIC", "CAUCASIAN", "AFRICAN AMERICAN", "OTHER"};
+    
+    private final DataCorpus corpus;
+    private Faker faker;
+    private final Random random;
+    private final Map<Integer, String> dateCache = new HashMap<>();
+    private long dateCacheDay;
+    
+    /**
+     * Factory generating every patient with Faker
+     */
+    public OrderDataFactory() {
+        this(null);
+    }
+    
+    /**
+     * Factory drawing patients from a pre-generated corpus (Faker is not created at all);
+     * a null corpus falls back to Faker
+     */
+    public OrderDataFactory(DataCorpus corpus) {
+        this.corpus = corpus;
+        this.random = new Random();
+    }
+    
+    /**
+     * Factory using the corpus from the dataCorpusFile key, or Faker if the key is empty
+     */
+    public static OrderDataFactory fromConfig() {
+        return new OrderDataFactory(DataCorpus.fromConfig());
+    }
+    
+    /**
+     * Generate dynamic date in MM-dd-yyyy format
+     * Formatted dates are cached for the current day - every order asks for the same few offsets
+     */
+    public String generateDynamicDate(int daysFromToday) {
+        long today = LocalDate.now().toEpochDay();
+        if (today != dateCacheDay) {
+            dateCache.clear();
+            dateCacheDay = today;
+        }
+        return dateCache.computeIfAbsent(daysFromToday, days -> {
+            Calendar cal = Calendar.getInstance();
+            cal.add(Calendar.DAY_OF_MONTH, days);
+            SimpleDateFormat sdf = new SimpleDateFormat("MM-dd-yyyy");
+            return sdf.format(cal.getTime());
+        });
+    }
+    
+    /**
+     * Generate random phone number
+     */
+    public String generatePhoneNumber() {
+        return String.format("9%09d", random.nextInt(1000000000));
+    }
+    
+    /**
+     * Generate random facility account number
+     */
+    public String generateFacilityAccountNumber() {
+        return "TG" + String.format("%07d", random.nextInt(10000000));
+    }
+    
+    /**
+     * Build a daily standing order from tomorrow to 4 days from today (4 orders)
+     * with a freshly generated patient and service address
+     */
+    public StandingOrderData newStandingOrder() {
+        // Patient and address come from the corpus when there is one, otherwise from Faker
+        PatientRecord patient = corpus != null ? corpus.next() : fakePatient();
+        String firstName = patient.getFirstName();
+        String lastName = patient.getLastName();
+        String email = firstName.toLowerCase() + "." + lastName.toLowerCase() + "@test.com";
+        String phone = patient.getPhone();
+        String dateOfBirth = generateDynamicDate(-10000); // ~27 years ago
+        String gender = patient.getGender();
+        String ethnicity = patient.getEthnicity();
+        String race = ethnicity;
+        
+        String streetAddress = patient.getStreetAddress();
+        String city = patient.getCity();
+        String state = patient.getState();
+        String zipCode = patient.getZipCode();
+        
+        // Build patient address
+        List<Address> addresses = new ArrayList<>();
+        addresses.add(new Address(streetAddress, city, state, zipCode));
+        
+        PatientData patientData = new PatientData(
+            firstName,
+            lastName,
+            dateOfBirth,
+            gender,
+            email,
+            phone,
+            false,
+            race,
+            ethnicity,
+            false,
+            addresses
+        );
+        
+        List<String> services = new ArrayList<>();
+        services.add("STOOL SPECIMEN PICKUP");
+        
+        List<String> orderCodes = new ArrayList<>();
+        orderCodes.add(ORDER_CODE);
+        
+        List<String> icd10Codes = new ArrayList<>();
+        for (String code : ICD_10_CODES) {
+            icd10Codes.add(code);
+        }
+        
+        // Service address is the same as patient address
+        Address serviceAddress = new Address(streetAddress, city, state, zipCode);
+        
+        List<TubeData> tubeData = new ArrayList<>();
+        tubeData.add(new TubeData("NASAL SWAB", 1));
+        
+        String startDate = generateDynamicDate(1); // Tomorrow
+        String endDate = generateDynamicDate(4); // 4 days from today
+        String serviceDate = generateDynamicDate(5); // 5 days from today
+        
+        String facilityAccount = patient.getFacilityAccount();
+        
+        StandingOrderRequest request = new StandingOrderRequest(
+            "STANDING ORDER",
+            facilityAccount,
+            PHYSICIAN_NPI,
+            patientData,
+            services,
+            orderCodes,
+            icd10Codes,
+            startDate,
+            endDate,
+            STANDING_FREQUENCY,
+            serviceDate,
+            serviceAddress,
+            BILLING_TYPE,
+            false,
+            true,
+            tubeData,
+            streetAddress + " " + city + " " + state + " " + zipCode
+        );
+        
+        return new StandingOrderData(firstName, lastName, gender, email, phone,
+            streetAddress, city, state, zipCode,
+            facilityAccount, startDate, endDate, serviceDate, request);
+    }
+    
+    /**
+     * Generate a patient with Faker (Faker is created on first use)
+     */
+    private PatientRecord fakePatient() {
+        if (faker == null) {
+            faker = new Faker();
+        }
+        return new PatientRecord(
+            faker.name().firstName(),
+            faker.name().lastName(),
+            GENDERS[random.nextInt(GENDERS.length)],
+            ETHNICITIES[random.nextInt(ETHNICITIES.length)],
+            generatePhoneNumber(),
+            faker.address().streetAddress(),
+            faker.address().city().toUpperCase(),
+            faker.address().state().toUpperCase(),
+            faker.address().zipCode().substring(0, 5),
+            generateFacilityAccountNumber());
+    }
+}
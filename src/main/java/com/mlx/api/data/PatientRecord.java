@@ -0,0 +1,72 @@
+package com.mlx.api.data;
+
+/**
+ * One pre-generated patient from the data corpus: identity, contact, address and facility account
+ */
+public class PatientRecord {
+    
+    private final String firstName;
+    private final String lastName;
+    private final String gender;
+    private final String ethnicity;
+    private final String phone;
+    private final String streetAddress;
+    private final String city;
+    private final String state;
+    private final String zipCode;
+    private final String facilityAccount;
+    
+    public PatientRecord(String firstName, String lastName, String gender, String ethnicity, String phone,
+                         String streetAddress, String city, String state, String zipCode, String facilityAccount) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.gender = gender;
+        this.ethnicity = ethnicity;
+        this.phone = phone;
+        this.streetAddress = streetAddress;
+        this.city = city;
+        this.state = state;
+        this.zipCode = zipCode;
+        this.facilityAccount = facilityAccount;
+    }
+    
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public String getGender() {
+        return gender;
+    }
+    
+    public String getEthnicity() {
+        return ethnicity;
+    }
+    
+    public String getPhone() {
+        return phone;
+    }
+    
+    public String getStreetAddress() {
+        return streetAddress;
+    }
+    
+    public String getCity() {
+        return city;
+    }
+    
+    public String getState() {
+        return state;
+    }
+    
+    public String getZipCode() {
+        return zipCode;
+    }
+    
+    public String getFacilityAccount() {
+        return facilityAccount;
+    }
+}
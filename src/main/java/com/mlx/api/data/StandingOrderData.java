@@ -0,0 +1,105 @@
+package com.mlx.api.data;
+
+import com.mlx.api.models.StandingOrderRequest;
+
+
+/**
+ * Generated standing order payload together with the values used to build it
+ * Functional tests assert on these values, load runs only send the payload
+ */
+public class StandingOrderData {
+    
+    private final String firstName;
+    private final String lastName;
+    private final String gender;
+    private final String email;
+    private final String phone;
+    private final String streetAddress;
+    private final String city;
+    private final String state;
+    private final String zipCode;
+    private final String facilityAccount;
+    private final String startDate;
+    private final String endDate;
+    private final String serviceDate;
+    private final StandingOrderRequest request;
+    
+    public StandingOrderData(String firstName, String lastName, String gender, String email, String phone,
+                             String streetAddress, String city, String state, String zipCode,
+                             String facilityAccount, String startDate, String endDate, String serviceDate,
+                             StandingOrderRequest request) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.gender = gender;
+        this.email = email;
+        this.phone = phone;
+        this.streetAddress = streetAddress;
+        this.city = city;
+        this.state = state;
+        this.zipCode = zipCode;
+        this.facilityAccount = facilityAccount;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.serviceDate = serviceDate;
+        this.request = request;
+    }
+    
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public String getGender() {
+        return gender;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public String getPhone() {
+        return phone;
+    }
+    
+    public String getStreetAddress() {
+        return streetAddress;
+    }
+    
+    public String getCity() {
+        return city;
+    }
+    
+    public String getState() {
+        return state;
+    }
+    
+    public String getZipCode() {
+        return zipCode;
+    }
+    
+    public String getFacilityAccount() {
+        return facilityAccount;
+    }
+    
+    public String getStartDate() {
+        return startDate;
+    }
+    
+    public String getEndDate() {
+        return endDate;
+    }
+    
+    public String getServiceDate() {
+        return serviceDate;
+    }
+    
+    /**
+     * Typed request body ready for MLXOrderPage.createOrder
+     */
+    public StandingOrderRequest getRequest() {
+        return request;
+    }
+}
@@ -0,0 +1,176 @@
+package com.mlx.api.http;
+
+import com.mlx.api.utils.ConfigReader;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.AsynchronouslyFormattable;
+import org.apache.logging.log4j.message.Message;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Request/response logging policy - replaces log().all() on every call.
+ *
+ * ExchangeLogFilter (on every RequestSpecs spec) and AsyncMLXApiClient hand each exchange to record().
+ * What happens next depends on httpLogMode:
+ *   OFF           - nothing, the filter only passes the request on
+ *   FAILURES_ONLY - the last httpLogBufferSize exchanges are kept per thread and logged by emitBuffered()
+ *                   when a check fails (failed test, non-2xx client call); clearBuffered() drops them
+ *   SAMPLED       - every httpLogSampleEvery-th exchange is logged
+ *   FULL          - every exchange is logged
+ * Exchanges are logged at WARN for failures and INFO otherwise, as messages that log4j2 may format
+ * on its async appender thread (see log4j2.xml), so the sending thread only queues a reference.
+ */
+public final class ExchangeLog {
+    
+    private static final Logger logger = LogManager.getLogger(ExchangeLog.class);
+    
+    private static final AtomicLong sequence = new AtomicLong();
+    private static final ThreadLocal<ArrayDeque<HttpExchange>> buffered = new ThreadLocal<>();
+    
+    private static volatile HttpLogMode mode;
+    private static volatile int sampleEvery;
+    private static volatile int bufferSize;
+    
+    static {
+        configure(HttpLogMode.parse(ConfigReader.getProperty("httpLogMode", "FAILURES_ONLY")),
+            ConfigReader.getIntProperty("httpLogSampleEvery", 100),
+            ConfigReader.getIntProperty("httpLogBufferSize", 2));
+    }
+    
+    private ExchangeLog() {
+    }
+    
+    /**
+     * Replace the policy from config file (e.g. FULL while debugging a single test)
+     */
+    public static void configure(HttpLogMode newMode, int newSampleEvery, int newBufferSize) {
+        if (newSampleEvery < 1 || newBufferSize < 1) {
+            throw new IllegalArgumentException("httpLogSampleEvery and httpLogBufferSize must be at least 1");
+        }
+        sampleEvery = newSampleEvery;
+        bufferSize = newBufferSize;
+        mode = newMode;
+        logger.info("HTTP exchange logging: " + newMode
+            + (newMode == HttpLogMode.SAMPLED ? " (1 in " + newSampleEvery + ")" : "")
+            + (newMode == HttpLogMode.FAILURES_ONLY ? " (last " + newBufferSize + " per thread)" : ""));
+    }
+    
+    public static HttpLogMode mode() {
+        return mode;
+    }
+    
+    /**
+     * False in OFF mode - callers skip building the HttpExchange altogether
+     */
+    public static boolean isCapturing() {
+        return mode != HttpLogMode.OFF;
+    }
+    
+    /**
+     * Apply the policy to one exchange
+     */
+    public static void record(HttpExchange exchange) {
+        switch (mode) {
+            case FULL:
+                emit(Level.INFO, exchange, null);
+                break;
+            case SAMPLED:
+                if (sequence.incrementAndGet() % sampleEvery == 0) {
+                    emit(Level.INFO, exchange, "sampled 1 in " + sampleEvery);
+                }
+                break;
+            case FAILURES_ONLY:
+                ArrayDeque<HttpExchange> exchanges = buffered.get();
+                if (exchanges == null) {
+                    exchanges = new ArrayDeque<>();
+                    buffered.set(exchanges);
+                }
+                while (exchanges.size() >= bufferSize) {
+                    exchanges.removeFirst();
+                }
+                exchanges.addLast(exchange);
+                break;
+            default:
+                break;
+        }
+    }
+    
+    /**
+     * Log the exchanges kept for this thread, oldest first, and forget them
+     * @param reason What failed - printed with every exchange
+     * @return Number of exchanges logged
+     */
+    public static int emitBuffered(String reason) {
+        ArrayDeque<HttpExchange> exchanges = buffered.get();
+        if (exchanges == null || exchanges.isEmpty()) {
+            return 0;
+        }
+        int count = exchanges.size();
+        for (HttpExchange exchange = exchanges.pollFirst(); exchange != null; exchange = exchanges.pollFirst()) {
+            emit(Level.WARN, exchange, reason);
+        }
+        return count;
+    }
+    
+    /**
+     * Forget the exchanges kept for this thread - call once its checks have passed
+     */
+    public static void clearBuffered() {
+        ArrayDeque<HttpExchange> exchanges = buffered.get();
+        if (exchanges != null) {
+            exchanges.clear();
+        }
+    }
+    
+    private static void emit(Level level, HttpExchange exchange, String reason) {
+        if (logger.isEnabled(level)) {
+            logger.log(level, new ExchangeMessage(exchange, reason));
+        }
+    }
+    
+    /**
+     * Log message that turns the exchange into text only when an appender asks for it.
+     * HttpExchange is never modified once recorded, so log4j2 may do that on its background thread.
+     */
+    @AsynchronouslyFormattable
+    private static final class ExchangeMessage implements Message {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final transient HttpExchange exchange;
+        private final String reason;
+        private String formatted;
+        
+        ExchangeMessage(HttpExchange exchange, String reason) {
+            this.exchange = exchange;
+            this.reason = reason;
+        }
+        
+        @Override
+        public synchronized String getFormattedMessage() {
+            if (formatted == null) {
+                formatted = "HTTP " + exchange.getMethod() + " " + exchange.getUri()
+                    + (reason != null ? " [" + reason + "]" : "") + "\n" + exchange.format();
+            }
+            return formatted;
+        }
+        
+        @Override
+        public String getFormat() {
+            return "HTTP exchange";
+        }
+        
+        @Override
+        public Object[] getParameters() {
+            return null;
+        }
+        
+        @Override
+        public Throwable getThrowable() {
+            return exchange.getError();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.mlx.api.http;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * RestAssured filter that hands every exchange to ExchangeLog instead of printing it to System.out.
+ * Stateless - RequestSpecs adds the one instance to every spec.
+ */
+public class ExchangeLogFilter implements Filter {
+    
+    static final ExchangeLogFilter INSTANCE = new ExchangeLogFilter();
+    
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!ExchangeLog.isCapturing()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            ExchangeLog.record(new HttpExchange(requestSpec.getMethod(), requestSpec.getURI(), requestSpec.getHeaders(),
+                requestSpec.getBody(), 0, null, null, e, System.nanoTime() - start));
+            throw e;
+        }
+        // The body is buffered by RestAssured already - asByteArray() returns the same bytes the caller reads
+        ExchangeLog.record(new HttpExchange(requestSpec.getMethod(), requestSpec.getURI(), requestSpec.getHeaders(),
+            requestSpec.getBody(), response.getStatusCode(), response.getHeaders(), response.asByteArray(), null,
+            System.nanoTime() - start));
+        return response;
+    }
+}
@@ -0,0 +1,269 @@
+package com.mlx.api.http;
+
+import com.mlx.api.metrics.MetricsRegistry;
+import com.mlx.api.utils.ConfigReader;
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpRequestExecutor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared keep-alive connection pool for all RestAssured calls made by the page objects.
+ *
+ * By default RestAssured builds a new HttpClient (and so a new TCP + TLS connection) for every request.
+ * install() replaces the global RestAssured config with one HttpClient backed by a pooling connection
+ * manager, and records lease wait time, new connections and how often pooled connections are reused.
+ * The client also times each request's phases (DNS, connect, TLS, write, first byte, body read) for
+ * RequestTiming.
+ * Settings come from the httpPool* keys in config-staging.properties.
+ */
+// RestAssured's HttpClientFactory returns the legacy HttpClient 4 API, so the deprecated classes are required
+@SuppressWarnings("deprecation")
+public class HttpConnectionPool {
+    
+    private static final Logger logger = LogManager.getLogger(HttpConnectionPool.class);
+    
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    
+    private static HttpConnectionPool instance;
+    
+    private final int maxTotal;
+    private final int maxPerRoute;
+    private final long keepAliveMs;
+    private final long idleEvictionMs;
+    private final PoolingClientConnectionManager connectionManager;
+    private final ScheduledExecutorService evictor;
+    
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final Recorder leaseWait = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Recorder connectTime = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram leaseWaitTotal = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram connectTimeTotal = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    
+    HttpConnectionPool(int maxTotal, int maxPerRoute, long keepAliveMs, long idleEvictionMs) {
+        this.maxTotal = maxTotal;
+        this.maxPerRoute = maxPerRoute;
+        this.keepAliveMs = keepAliveMs;
+        this.idleEvictionMs = idleEvictionMs;
+        
+        SchemeRegistry schemeRegistry = new SchemeRegistry();
+        schemeRegistry.register(new Scheme("http", 80,
+            new MeteredSocketFactory(PlainSocketFactory.getSocketFactory(), this)));
+        schemeRegistry.register(new Scheme("https", 443,
+            new MeteredLayeredSocketFactory(SSLSocketFactory.getSocketFactory(), this)));
+        
+        connectionManager = new MeteredConnectionManager(schemeRegistry, keepAliveMs, new MeteredDnsResolver());
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        
+        evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mlx-http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long evictionPeriod = Math.max(1000, idleEvictionMs / 2);
+        evictor.scheduleAtFixedRate(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleEvictionMs, TimeUnit.MILLISECONDS);
+        }, evictionPeriod, evictionPeriod, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Install the shared pool into the global RestAssured config (once per JVM)
+     * @return The installed pool
+     */
+    public static synchronized HttpConnectionPool install() {
+        if (instance == null) {
+            instance = new HttpConnectionPool(
+                ConfigReader.getIntProperty("httpPoolMaxTotal", 200),
+                ConfigReader.getIntProperty("httpPoolMaxPerRoute", 200),
+                ConfigReader.getIntProperty("httpPoolKeepAliveMs", 60000),
+                ConfigReader.getIntProperty("httpPoolIdleEvictionMs", 30000));
+            
+            RestAssured.config = RestAssured.config().httpClient(HttpClientConfig.httpClientConfig()
+                .reuseHttpClientInstance()
+                .httpClientFactory(instance::createHttpClient));
+            
+            MetricsRegistry.registerGauge("pool.leased", instance::getLeased);
+            MetricsRegistry.registerGauge("pool.available", instance::getAvailable);
+            MetricsRegistry.registerGauge("pool.pending", instance::getPending);
+            logger.info("Installed shared HTTP connection pool: " + instance);
+        }
+        return instance;
+    }
+    
+    /**
+     * The installed pool, or null if install() has not been called
+     */
+    public static synchronized HttpConnectionPool getInstance() {
+        return instance;
+    }
+    
+    private HttpClient createHttpClient() {
+        // RestAssured still requires the (deprecated) AbstractHttpClient API
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager) {
+            @Override
+            protected HttpRequestExecutor createRequestExecutor() {
+                return new TimedRequestExecutor();
+            }
+        };
+        client.setKeepAliveStrategy((response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMs) : keepAliveMs;
+        });
+        return client;
+    }
+    
+    void connectionOpened(long elapsedNanos) {
+        connectionsOpened.increment();
+        connectTime.recordValue(Math.min(elapsedNanos / 1000, HIGHEST_TRACKABLE_MICROS));
+    }
+    
+    private void connectionLeased(long waitNanos) {
+        leases.increment();
+        leaseWait.recordValue(Math.min(waitNanos / 1000, HIGHEST_TRACKABLE_MICROS));
+    }
+    
+    // ============= Pool Metrics =============
+    
+    /**
+     * Connections handed out by the pool (one per request)
+     */
+    public long getLeaseCount() {
+        return leases.sum();
+    }
+    
+    /**
+     * New TCP (+TLS) connections opened - each one is a handshake that pooling did not save
+     */
+    public long getConnectionsOpened() {
+        return connectionsOpened.sum();
+    }
+    
+    /**
+     * Leases served by an already open connection
+     */
+    public long getConnectionsReused() {
+        return Math.max(0, getLeaseCount() - getConnectionsOpened());
+    }
+    
+    /**
+     * Fraction of leases served by an already open connection (0..1)
+     */
+    public double getReuseRatio() {
+        long leaseCount = getLeaseCount();
+        return leaseCount == 0 ? 0 : (double) getConnectionsReused() / leaseCount;
+    }
+    
+    public int getLeased() {
+        return connectionManager.getTotalStats().getLeased();
+    }
+    
+    public int getAvailable() {
+        return connectionManager.getTotalStats().getAvailable();
+    }
+    
+    public int getPending() {
+        return connectionManager.getTotalStats().getPending();
+    }
+    
+    /**
+     * Cumulative time spent waiting for a pooled connection (microseconds)
+     */
+    public synchronized Histogram getLeaseWait() {
+        leaseWaitTotal.add(leaseWait.getIntervalHistogram());
+        return leaseWaitTotal.copy();
+    }
+    
+    /**
+     * Cumulative connect + TLS handshake time of new connections (microseconds)
+     */
+    public synchronized Histogram getConnectTime() {
+        connectTimeTotal.add(connectTime.getIntervalHistogram());
+        return connectTimeTotal.copy();
+    }
+    
+    /**
+     * One-line pool summary for logs and reports
+     */
+    public String statsSummary() {
+        PoolStats stats = connectionManager.getTotalStats();
+        Histogram wait = getLeaseWait();
+        Histogram connect = getConnectTime();
+        return String.format("leases=%d opened=%d reused=%d (%.1f%%) leased=%d available=%d pending=%d "
+                + "leaseWait p99=%.2fms max=%.2fms connect+tls mean=%.2fms (saved ~%.0fms)",
+            getLeaseCount(), getConnectionsOpened(), getConnectionsReused(), getReuseRatio() * 100,
+            stats.getLeased(), stats.getAvailable(), stats.getPending(),
+            wait.getValueAtPercentile(99) / 1000.0, wait.getMaxValue() / 1000.0,
+            connect.getMean() / 1000.0, connect.getMean() / 1000.0 * getConnectionsReused());
+    }
+    
+    /**
+     * Close all pooled connections and stop the idle evictor
+     */
+    public void shutdown() {
+        evictor.shutdownNow();
+        connectionManager.shutdown();
+    }
+    
+    @Override
+    public String toString() {
+        return "maxTotal=" + maxTotal +
+               ", maxPerRoute=" + maxPerRoute +
+               ", keepAliveMs=" + keepAliveMs +
+               ", idleEvictionMs=" + idleEvictionMs;
+    }
+    
+    /**
+     * Pooling manager that times how long each request waits for a connection
+     */
+    private class MeteredConnectionManager extends PoolingClientConnectionManager {
+        
+        MeteredConnectionManager(SchemeRegistry schemeRegistry, long timeToLiveMs, DnsResolver dnsResolver) {
+            super(schemeRegistry, timeToLiveMs, TimeUnit.MILLISECONDS, dnsResolver);
+        }
+        
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            ClientConnectionRequest request = super.requestConnection(route, state);
+            return new ClientConnectionRequest() {
+                @Override
+                public ManagedClientConnection getConnection(long timeout, TimeUnit unit)
+                        throws InterruptedException, ConnectionPoolTimeoutException {
+                    long start = System.nanoTime();
+                    ManagedClientConnection connection = request.getConnection(timeout, unit);
+                    connectionLeased(System.nanoTime() - start);
+                    return connection;
+                }
+                
+                @Override
+                public void abortRequest() {
+                    request.abortRequest();
+                }
+            };
+        }
+    }
+}
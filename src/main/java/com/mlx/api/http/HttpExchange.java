@@ -0,0 +1,108 @@
+package com.mlx.api.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * One request/response pair captured for ExchangeLog.
+ *
+ * Only references are kept - headers and bodies are turned into text by format(), which runs
+ * when the exchange is actually logged (on failure, or for the sampled/full modes), not per request.
+ * Header holders may be RestAssured Headers or a Map; bodies may be byte[], String or any object.
+ */
+public class HttpExchange {
+    
+    private final String method;
+    private final String uri;
+    private final Object requestHeaders;
+    private final Object requestBody;
+    private final int statusCode;
+    private final Object responseHeaders;
+    private final byte[] responseBody;
+    private final Throwable error;
+    private final long latencyNanos;
+    
+    public HttpExchange(String method, String uri, Object requestHeaders, Object requestBody, int statusCode,
+                        Object responseHeaders, byte[] responseBody, Throwable error, long latencyNanos) {
+        this.method = method;
+        this.uri = uri;
+        this.requestHeaders = requestHeaders;
+        this.requestBody = requestBody;
+        this.statusCode = statusCode;
+        this.responseHeaders = responseHeaders;
+        this.responseBody = responseBody;
+        this.error = error;
+        this.latencyNanos = latencyNanos;
+    }
+    
+    public String getMethod() {
+        return method;
+    }
+    
+    public String getUri() {
+        return uri;
+    }
+    
+    /**
+     * Response status, or 0 if the request failed before a response arrived
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+    
+    public Throwable getError() {
+        return error;
+    }
+    
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+    
+    /**
+     * Request and response as log text, in the layout of RestAssured's log().all()
+     */
+    public String format() {
+        StringBuilder text = new StringBuilder(512);
+        text.append("Request method:\t").append(method).append('\n');
+        text.append("Request URI:\t").append(uri).append('\n');
+        text.append("Headers:\n");
+        appendHeaders(text, requestHeaders);
+        text.append("Body:\n").append(bodyText(requestBody)).append('\n');
+        if (error != null) {
+            text.append("Failed after ").append(latencyNanos / 1000000).append(" ms: ").append(error);
+            return text.toString();
+        }
+        text.append("Response status:\t").append(statusCode)
+            .append(" (").append(latencyNanos / 1000000).append(" ms)\n");
+        text.append("Headers:\n");
+        appendHeaders(text, responseHeaders);
+        text.append("Body:\n").append(bodyText(responseBody));
+        return text.toString();
+    }
+    
+    private static void appendHeaders(StringBuilder text, Object headers) {
+        if (headers instanceof Map) {
+            for (Map.Entry<?, ?> header : ((Map<?, ?>) headers).entrySet()) {
+                text.append('\t').append(header.getKey()).append('=').append(header.getValue()).append('\n');
+            }
+        } else if (headers instanceof Iterable) {
+            // RestAssured Headers - each Header prints as name=value
+            for (Object header : (Iterable<?>) headers) {
+                text.append('\t').append(header).append('\n');
+            }
+        } else if (headers != null) {
+            text.append('\t').append(headers).append('\n');
+        }
+    }
+    
+    private static String bodyText(Object body) {
+        if (body == null) {
+            return "<none>";
+        }
+        if (body instanceof byte[]) {
+            byte[] bytes = (byte[]) body;
+            return bytes.length == 0 ? "<none>" : new String(bytes, StandardCharsets.UTF_8);
+        }
+        return body.toString();
+    }
+}
@@ -0,0 +1,30 @@
+package com.mlx.api.http;
+
+/**
+ * What ExchangeLog does with each request/response exchange (config key httpLogMode)
+ */
+public enum HttpLogMode {
+    
+    /** Nothing is captured or logged */
+    OFF,
+    
+    /** Exchanges are kept per thread and logged only when a check fails (default) */
+    FAILURES_ONLY,
+    
+    /** One exchange in every httpLogSampleEvery is logged */
+    SAMPLED,
+    
+    /** Every exchange is logged - the old log().all() behaviour, functional debugging only */
+    FULL;
+    
+    /**
+     * Mode for a config value, case-insensitive; FAILURES_ONLY if blank
+     * @throws IllegalArgumentException for unknown values
+     */
+    public static HttpLogMode parse(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return FAILURES_ONLY;
+        }
+        return valueOf(value.trim().toUpperCase().replace('-', '_'));
+    }
+}
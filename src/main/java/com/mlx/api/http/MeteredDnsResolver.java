@@ -0,0 +1,25 @@
+package com.mlx.api.http;
+
+import com.mlx.api.metrics.Phase;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * System DNS resolver that adds the lookup time to the request in flight (RequestTiming).
+ * Only called when the pool opens a new connection; the JVM's own address cache still applies.
+ */
+class MeteredDnsResolver implements DnsResolver {
+    
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        long start = System.nanoTime();
+        try {
+            return SystemDefaultDnsResolver.INSTANCE.resolve(host);
+        } finally {
+            RequestTiming.record(Phase.DNS, System.nanoTime() - start);
+        }
+    }
+}
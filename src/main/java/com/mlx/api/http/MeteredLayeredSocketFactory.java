@@ -0,0 +1,81 @@
+package com.mlx.api.http;
+
+import com.mlx.api.metrics.Phase;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.HttpInetSocketAddress;
+import org.apache.http.conn.scheme.SchemeLayeredSocketFactory;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+
+/**
+ * MeteredSocketFactory for TLS schemes - must stay a SchemeLayeredSocketFactory so routes are planned as secure
+ *
+ * The delegate would connect and handshake in one call, so this factory connects a plain socket itself
+ * and layers TLS over it with createLayeredSocket: the TCP connect is timed as CONNECT and the handshake
+ * (including hostname verification) as TLS.
+ */
+// RestAssured's HttpClientFactory returns the legacy HttpClient 4 API, so the deprecated classes are required
+@SuppressWarnings("deprecation")
+class MeteredLayeredSocketFactory extends MeteredSocketFactory implements SchemeLayeredSocketFactory {
+    
+    MeteredLayeredSocketFactory(SchemeLayeredSocketFactory delegate, HttpConnectionPool pool) {
+        super(delegate, pool);
+    }
+    
+    @Override
+    public Socket createSocket(HttpParams params) {
+        // Plain socket - TLS is layered on in connectSocket
+        return new Socket();
+    }
+    
+    @Override
+    public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                HttpParams params) throws IOException, ConnectTimeoutException {
+        Socket plain = socket != null ? socket : new Socket();
+        long start = System.nanoTime();
+        plain.setReuseAddress(HttpConnectionParams.getSoReuseaddr(params));
+        if (localAddress != null) {
+            plain.bind(localAddress);
+        }
+        try {
+            plain.connect(remoteAddress, HttpConnectionParams.getConnectionTimeout(params));
+        } catch (SocketTimeoutException e) {
+            plain.close();
+            throw new ConnectTimeoutException("Connect to " + remoteAddress + " timed out");
+        } catch (IOException e) {
+            plain.close();
+            throw e;
+        }
+        plain.setSoTimeout(HttpConnectionParams.getSoTimeout(params));
+        RequestTiming.record(Phase.CONNECT, System.nanoTime() - start);
+        
+        String host = remoteAddress instanceof HttpInetSocketAddress
+            ? ((HttpInetSocketAddress) remoteAddress).getHttpHost().getHostName()
+            : remoteAddress.getHostName();
+        Socket secure;
+        try {
+            secure = createLayeredSocket(plain, host, remoteAddress.getPort(), params);
+        } catch (IOException e) {
+            plain.close();
+            throw e;
+        }
+        pool.connectionOpened(System.nanoTime() - start);
+        return secure;
+    }
+    
+    @Override
+    public Socket createLayeredSocket(Socket socket, String target, int port, HttpParams params) throws IOException {
+        // Also reached directly for TLS tunnelled through a proxy
+        long start = System.nanoTime();
+        try {
+            return ((SchemeLayeredSocketFactory) delegate).createLayeredSocket(socket, target, port, params);
+        } finally {
+            RequestTiming.record(Phase.TLS, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.mlx.api.http;
+
+import com.mlx.api.metrics.Phase;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.scheme.SchemeSocketFactory;
+import org.apache.http.params.HttpParams;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * Socket factory wrapper that counts and times every new connection (TCP connect plus TLS handshake)
+ * Connections reused from the pool never reach this class, so opened vs leased gives the reuse rate
+ * The connect time is also added to the request in flight (RequestTiming) as CONNECT
+ */
+// RestAssured's HttpClientFactory returns the legacy HttpClient 4 API, so the deprecated classes are required
+@SuppressWarnings("deprecation")
+class MeteredSocketFactory implements SchemeSocketFactory {
+    
+    protected final SchemeSocketFactory delegate;
+    protected final HttpConnectionPool pool;
+    
+    MeteredSocketFactory(SchemeSocketFactory delegate, HttpConnectionPool pool) {
+        this.delegate = delegate;
+        this.pool = pool;
+    }
+    
+    @Override
+    public Socket createSocket(HttpParams params) throws IOException {
+        return delegate.createSocket(params);
+    }
+    
+    @Override
+    public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                HttpParams params) throws IOException, ConnectTimeoutException {
+        long start = System.nanoTime();
+        Socket connected = delegate.connectSocket(socket, remoteAddress, localAddress, params);
+        long elapsed = System.nanoTime() - start;
+        RequestTiming.record(Phase.CONNECT, elapsed);
+        pool.connectionOpened(elapsed);
+        return connected;
+    }
+    
+    @Override
+    public boolean isSecure(Socket socket) {
+        return delegate.isSecure(socket);
+    }
+}
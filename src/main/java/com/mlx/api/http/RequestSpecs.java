@@ -0,0 +1,78 @@
+package com.mlx.api.http;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Prebuilt request specifications, one per environment (base URI).
+ *
+ * Base URI, content type, the constant browser headers and filters are put together once and cached.
+ * Request/response logging is the ExchangeLogFilter, which follows the httpLogMode policy in ExchangeLog.
+ * Page objects start every request from RestAssured.given(spec), which copies the spec, so the cached
+ * instance is only ever read and can be shared by any number of threads. Never call mutating
+ * methods on a spec returned from here.
+ */
+public class RequestSpecs {
+    
+    private static final Map<String, String> BROWSER_HEADERS;
+    
+    static {
+        // Static headers from the MLX web app curl commands
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("accept", "application/json, text/plain, */*");
+        headers.put("accept-language", "en-GB,en;q=0.9,en-US;q=0.8,en-IN;q=0.7");
+        headers.put("origin", "https://staging-mlx.labsquire.com");
+        headers.put("priority", "u=1, i");
+        headers.put("referer", "https://staging-mlx.labsquire.com/");
+        headers.put("sec-ch-ua", "\"Microsoft Edge\";v=\"143\", \"Chromium\";v=\"143\", \"Not A(Brand\";v=\"24\"");
+        headers.put("sec-ch-ua-mobile", "?0");
+        headers.put("sec-ch-ua-platform", "\"Windows\"");
+        headers.put("sec-fetch-dest", "empty");
+        headers.put("sec-fetch-mode", "cors");
+        headers.put("sec-fetch-site", "same-site");
+        headers.put("user-agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/143.0.0.0 Safari/537.36 Edg/143.0.0.0");
+        BROWSER_HEADERS = Collections.unmodifiableMap(headers);
+    }
+    
+    private static final ConcurrentMap<String, RequestSpecification> browserSpecs = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, RequestSpecification> apiSpecs = new ConcurrentHashMap<>();
+    
+    private RequestSpecs() {
+    }
+    
+    /**
+     * Spec that looks like the MLX web app: JSON content type plus all browser headers (login, saveOrder)
+     */
+    public static RequestSpecification browser(String baseUri) {
+        return browserSpecs.computeIfAbsent(baseUri, uri -> baseBuilder(uri)
+            .addHeaders(BROWSER_HEADERS)
+            .build());
+    }
+    
+    /**
+     * Plain JSON API spec without browser headers (getUser)
+     */
+    public static RequestSpecification api(String baseUri) {
+        return apiSpecs.computeIfAbsent(baseUri, uri -> baseBuilder(uri).build());
+    }
+    
+    /**
+     * Constant headers sent with every browser-style request
+     */
+    public static Map<String, String> browserHeaders() {
+        return BROWSER_HEADERS;
+    }
+    
+    private static RequestSpecBuilder baseBuilder(String baseUri) {
+        return new RequestSpecBuilder()
+            .setBaseUri(baseUri)
+            .setContentType("application/json")
+            .addFilter(ExchangeLogFilter.INSTANCE);
+    }
+}
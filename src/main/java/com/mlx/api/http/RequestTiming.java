@@ -0,0 +1,80 @@
+package com.mlx.api.http;
+
+import com.mlx.api.metrics.Endpoint;
+import com.mlx.api.metrics.LatencyRecorder;
+import com.mlx.api.metrics.Phase;
+
+import java.util.Arrays;
+
+/**
+ * Per-thread phase timings of the request in flight on this thread.
+ *
+ * HttpClient 4 runs DNS lookup, connect, TLS handshake, request write and response read on the calling
+ * thread, so the hooks in the pooled client (MeteredDnsResolver, MeteredSocketFactory, TimedRequestExecutor)
+ * add their time to the current thread's timing. The caller brackets a request with begin() and
+ * end(endpoint), which records the phases that happened in LatencyRecorder. Outside begin/end nothing
+ * is recorded. One instance per thread is reused, so timing a request allocates nothing.
+ */
+public final class RequestTiming {
+    
+    private static final Phase[] PHASES = Phase.values();
+    private static final ThreadLocal<RequestTiming> CURRENT = ThreadLocal.withInitial(RequestTiming::new);
+    
+    // -1 = phase did not happen; redirects and retries add up
+    private final long[] nanos = new long[PHASES.length];
+    private boolean active;
+    
+    private RequestTiming() {
+    }
+    
+    /**
+     * Start timing the next request on this thread
+     */
+    public static void begin() {
+        RequestTiming timing = CURRENT.get();
+        Arrays.fill(timing.nanos, -1);
+        timing.active = true;
+    }
+    
+    /**
+     * Stop timing and record the phases that happened since begin() for endpoint
+     */
+    public static void end(Endpoint endpoint) {
+        RequestTiming timing = CURRENT.get();
+        if (!timing.active) {
+            return;
+        }
+        timing.active = false;
+        for (int i = 0; i < PHASES.length; i++) {
+            if (timing.nanos[i] >= 0) {
+                LatencyRecorder.recordPhase(endpoint, PHASES[i], timing.nanos[i]);
+            }
+        }
+    }
+    
+    /**
+     * The timing of this thread's request in flight, or null outside begin/end
+     */
+    static RequestTiming current() {
+        RequestTiming timing = CURRENT.get();
+        return timing.active ? timing : null;
+    }
+    
+    /**
+     * Add time to a phase of this thread's request in flight (ignored outside begin/end)
+     */
+    static void record(Phase phase, long elapsedNanos) {
+        RequestTiming timing = current();
+        if (timing != null) {
+            timing.add(phase, elapsedNanos);
+        }
+    }
+    
+    void add(Phase phase, long elapsedNanos) {
+        if (!active) {
+            return;
+        }
+        int index = phase.ordinal();
+        nanos[index] = Math.max(nanos[index], 0) + Math.max(elapsedNanos, 0);
+    }
+}
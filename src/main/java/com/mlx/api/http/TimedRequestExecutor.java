@@ -0,0 +1,111 @@
+package com.mlx.api.http;
+
+import com.mlx.api.metrics.Phase;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Request executor that times the exchange on an open connection for the request in flight (RequestTiming):
+ * REQUEST_WRITE while headers and body are sent, TIME_TO_FIRST_BYTE from then until the response headers
+ * are in, and BODY_READ from there until the response body has been read to the end (or closed).
+ */
+class TimedRequestExecutor extends HttpRequestExecutor {
+    
+    @Override
+    protected HttpResponse doSendRequest(HttpRequest request, HttpClientConnection conn, HttpContext context)
+            throws IOException, HttpException {
+        long start = System.nanoTime();
+        try {
+            return super.doSendRequest(request, conn, context);
+        } finally {
+            RequestTiming.record(Phase.REQUEST_WRITE, System.nanoTime() - start);
+        }
+    }
+    
+    @Override
+    protected HttpResponse doReceiveResponse(HttpRequest request, HttpClientConnection conn, HttpContext context)
+            throws HttpException, IOException {
+        long start = System.nanoTime();
+        HttpResponse response;
+        try {
+            response = super.doReceiveResponse(request, conn, context);
+        } finally {
+            RequestTiming.record(Phase.TIME_TO_FIRST_BYTE, System.nanoTime() - start);
+        }
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null && response.getEntity() != null) {
+            // The entity is only attached here - the body is read later, by RestAssured, from the wrapped stream
+            response.setEntity(new TimedEntity(response.getEntity(), timing, System.nanoTime()));
+        }
+        return response;
+    }
+    
+    /**
+     * Response entity that adds BODY_READ to the timing it was created for once its stream is exhausted
+     */
+    private static class TimedEntity extends HttpEntityWrapper {
+        
+        private final RequestTiming timing;
+        private final long headersReceivedNanos;
+        private boolean recorded;
+        
+        TimedEntity(HttpEntity entity, RequestTiming timing, long headersReceivedNanos) {
+            super(entity);
+            this.timing = timing;
+            this.headersReceivedNanos = headersReceivedNanos;
+        }
+        
+        private void bodyRead() {
+            if (!recorded) {
+                recorded = true;
+                timing.add(Phase.BODY_READ, System.nanoTime() - headersReceivedNanos);
+            }
+        }
+        
+        @Override
+        public InputStream getContent() throws IOException {
+            return new FilterInputStream(super.getContent()) {
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b < 0) {
+                        bodyRead();
+                    }
+                    return b;
+                }
+                
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int n = super.read(buffer, offset, length);
+                    if (n < 0) {
+                        bodyRead();
+                    }
+                    return n;
+                }
+                
+                @Override
+                public void close() throws IOException {
+                    bodyRead();
+                    super.close();
+                }
+            };
+        }
+        
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            super.writeTo(out);
+            bodyRead();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.mlx.api.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass extraction of data.orders from a saveOrder response with Jackson's streaming parser.
+ *
+ * Only the fields that are asked for are materialised; everything else (patient info, addresses,
+ * tube data...) is skipped token by token, so the cost is linear in the body size and no object
+ * graph is built. Thread-safe - the JsonFactory is shared, parsers are per call.
+ */
+public class OrderStreamExtractor {
+    
+    private static final Logger logger = LogManager.getLogger(OrderStreamExtractor.class);
+    
+    private static final JsonFactory FACTORY = new JsonFactory();
+    
+    private OrderStreamExtractor() {
+    }
+    
+    /**
+     * Non-empty order_id values of data.orders in response order
+     */
+    public static List<String> orderIds(byte[] body) {
+        List<String> orderIds = new ArrayList<>();
+        for (OrderSummary order : extract(body, false)) {
+            if (order.getOrderId() != null && !order.getOrderId().isEmpty()) {
+                orderIds.add(order.getOrderId());
+            }
+        }
+        return orderIds;
+    }
+    
+    /**
+     * order_id, status and phlebo_order.date_of_service of every entry in data.orders
+     */
+    public static List<OrderSummary> orders(byte[] body) {
+        return extract(body, true);
+    }
+    
+    private static List<OrderSummary> extract(byte[] body, boolean withDetails) {
+        List<OrderSummary> orders = new ArrayList<>();
+        if (body == null || body.length == 0) {
+            return orders;
+        }
+        try (JsonParser parser = FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT
+                    || !moveToField(parser, "data") || parser.nextToken() != JsonToken.START_OBJECT
+                    || !moveToField(parser, "orders") || parser.nextToken() != JsonToken.START_ARRAY) {
+                return orders;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                if (token == JsonToken.START_OBJECT) {
+                    orders.add(readOrder(parser, withDetails));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Error extracting orders from response: " + e.getMessage());
+        }
+        return orders;
+    }
+    
+    /**
+     * Advance within the current object to the value of the named field; false if the object has no such field
+     */
+    private static boolean moveToField(JsonParser parser, String name) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            if (name.equals(parser.getCurrentName())) {
+                return true;
+            }
+            parser.nextToken();
+            parser.skipChildren();
+        }
+        return false;
+    }
+    
+    /**
+     * Read one order object; the parser is left on its END_OBJECT
+     */
+    private static OrderSummary readOrder(JsonParser parser, boolean withDetails) throws IOException {
+        String orderId = null;
+        String status = null;
+        String dateOfService = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("order_id".equals(field)) {
+                orderId = text(parser, value);
+            } else if (withDetails && "status".equals(field)) {
+                status = text(parser, value);
+            } else if (withDetails && "phlebo_order".equals(field) && value == JsonToken.START_OBJECT) {
+                dateOfService = readDateOfService(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new OrderSummary(orderId, status, dateOfService);
+    }
+    
+    private static String readDateOfService(JsonParser parser) throws IOException {
+        String dateOfService = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("date_of_service".equals(field)) {
+                dateOfService = text(parser, value);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return dateOfService;
+    }
+    
+    private static String text(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (value.isScalarValue()) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+}
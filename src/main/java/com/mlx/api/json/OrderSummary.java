@@ -0,0 +1,37 @@
+package com.mlx.api.json;
+
+/**
+ * The few fields of one created order that assertions and reports need
+ */
+public class OrderSummary {
+    
+    private final String orderId;
+    private final String status;
+    private final String dateOfService;
+    
+    public OrderSummary(String orderId, String status, String dateOfService) {
+        this.orderId = orderId;
+        this.status = status;
+        this.dateOfService = dateOfService;
+    }
+    
+    public String getOrderId() {
+        return orderId;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    /**
+     * phlebo_order.date_of_service of the order
+     */
+    public String getDateOfService() {
+        return dateOfService;
+    }
+    
+    @Override
+    public String toString() {
+        return "OrderSummary{orderId=" + orderId + ", status=" + status + ", dateOfService=" + dateOfService + "}";
+    }
+}
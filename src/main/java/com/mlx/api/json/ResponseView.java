@@ -0,0 +1,234 @@
+package com.mlx.api.json;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-only view of a response body, parsed once with Jackson.
+ *
+ * response.jsonPath() re-parses the whole body with Groovy GPath on every call; a page object
+ * that reads ten fields parses the body ten times. ResponseView parses it once into a tree and
+ * every accessor walks that tree. Paths use the same syntax as jsonPath ("data.orders[0].order_id")
+ * and are compiled to a JsonPointer once per distinct path; the typed accessors use precompiled
+ * pointers, and at most MAX_CACHED_PATHS caller paths are kept (later ones are compiled per call).
+ *
+ * Missing fields, and bodies that are not JSON, read as null instead of throwing.
+ */
+public class ResponseView {
+    
+    private static final Logger logger = LogManager.getLogger(ResponseView.class);
+    
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int MAX_CACHED_PATHS = 256;
+    private static final Map<String, JsonPointer> POINTERS = new ConcurrentHashMap<>();
+    
+    private static final JsonPointer MESSAGE = compile("message");
+    private static final JsonPointer ERROR = compile("error");
+    private static final JsonPointer ERRORS = compile("errors");
+    private static final JsonPointer DATA_ORDERS = compile("data.orders");
+    private static final JsonPointer DATA_ORDER_ID = compile("data.order_id");
+    
+    private final int statusCode;
+    private final JsonNode root;
+    
+    public ResponseView(int statusCode, byte[] body) {
+        this.statusCode = statusCode;
+        this.root = parse(body);
+    }
+    
+    /**
+     * Parse the body of a RestAssured response
+     */
+    public static ResponseView of(Response response) {
+        return new ResponseView(response.getStatusCode(), response.asByteArray());
+    }
+    
+    private static JsonNode parse(byte[] body) {
+        if (body == null || body.length == 0) {
+            return MissingNode.getInstance();
+        }
+        try {
+            JsonNode node = MAPPER.readTree(body);
+            return node == null ? MissingNode.getInstance() : node;
+        } catch (Exception e) {
+            logger.debug("Response body is not JSON: " + e.getMessage());
+            return MissingNode.getInstance();
+        }
+    }
+    
+    public int getStatusCode() {
+        return statusCode;
+    }
+    
+    /**
+     * Parsed body (MissingNode if the body was empty or not JSON)
+     */
+    public JsonNode root() {
+        return root;
+    }
+    
+    public boolean isJson() {
+        return !root.isMissingNode();
+    }
+    
+    // ========== Typed accessors for MLX responses ==========
+    
+    public String message() {
+        return scalar(root.at(MESSAGE));
+    }
+    
+    public String error() {
+        return scalar(root.at(ERROR));
+    }
+    
+    /**
+     * Validation errors as plain Java objects (Map / List), or null
+     */
+    public Object errors() {
+        return value(root.at(ERRORS));
+    }
+    
+    /**
+     * data.orders of a saveOrder response (empty if there are none)
+     */
+    public List<JsonNode> orders() {
+        JsonNode orders = root.at(DATA_ORDERS);
+        if (!orders.isArray()) {
+            return Collections.emptyList();
+        }
+        List<JsonNode> result = new ArrayList<>(orders.size());
+        for (JsonNode order : orders) {
+            result.add(order);
+        }
+        return result;
+    }
+    
+    /**
+     * Non-empty order_id values of data.orders in response order
+     */
+    public List<String> orderIds() {
+        List<String> orderIds = new ArrayList<>();
+        JsonNode orders = root.at(DATA_ORDERS);
+        if (!orders.isArray()) {
+            return orderIds;
+        }
+        for (JsonNode order : orders) {
+            String orderId = text(order.path("order_id"));
+            if (orderId != null && !orderId.isEmpty()) {
+                orderIds.add(orderId);
+            }
+        }
+        return orderIds;
+    }
+    
+    /**
+     * First order ID of a standing order, or data.order_id of a single order
+     */
+    public String orderId() {
+        JsonNode orders = root.at(DATA_ORDERS);
+        if (orders.isArray() && orders.size() > 0) {
+            return text(orders.get(0).path("order_id"));
+        }
+        return scalar(root.at(DATA_ORDER_ID));
+    }
+    
+    // ========== Path accessors (jsonPath syntax) ==========
+    
+    /**
+     * Node at the path, MissingNode if absent
+     */
+    public JsonNode node(String path) {
+        return root.at(pointer(path));
+    }
+    
+    /**
+     * Value at the path as a string, null if absent, JSON null, an object or an array
+     */
+    public String getString(String path) {
+        return scalar(node(path));
+    }
+    
+    public Integer getInt(String path) {
+        JsonNode node = node(path);
+        return node.isMissingNode() || node.isNull() ? null : node.asInt();
+    }
+    
+    public Boolean getBoolean(String path) {
+        JsonNode node = node(path);
+        return node.isMissingNode() || node.isNull() ? null : node.asBoolean();
+    }
+    
+    /**
+     * Array at the path as a list of plain Java values, null if absent
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getList(String path) {
+        JsonNode node = node(path);
+        return node.isArray() ? MAPPER.convertValue(node, List.class) : null;
+    }
+    
+    /**
+     * Value at the path as a plain Java object (Map, List, String, Number, Boolean), null if absent
+     */
+    public Object get(String path) {
+        return value(node(path));
+    }
+    
+    private static Object value(JsonNode node) {
+        return node.isMissingNode() || node.isNull() ? null : MAPPER.convertValue(node, Object.class);
+    }
+    
+    private static String text(JsonNode node) {
+        return node == null || node.isMissingNode() || node.isNull() ? null : node.asText();
+    }
+    
+    private static String scalar(JsonNode node) {
+        return node.isContainerNode() ? null : text(node);
+    }
+    
+    private static JsonPointer pointer(String path) {
+        JsonPointer pointer = POINTERS.get(path);
+        if (pointer != null) {
+            return pointer;
+        }
+        // Paths built from data (ids, indexes) would otherwise grow the cache for good
+        if (POINTERS.size() >= MAX_CACHED_PATHS) {
+            return compile(path);
+        }
+        return POINTERS.computeIfAbsent(path, ResponseView::compile);
+    }
+    
+    /**
+     * "data.orders[0].order_id" -> "/data/orders/0/order_id"
+     */
+    static JsonPointer compile(String path) {
+        StringBuilder pointer = new StringBuilder(path.length() + 8);
+        for (String segment : path.split("\\.")) {
+            int bracket = segment.indexOf('[');
+            String name = bracket < 0 ? segment : segment.substring(0, bracket);
+            if (!name.isEmpty()) {
+                pointer.append('/').append(name.replace("~", "~0").replace("/", "~1"));
+            }
+            while (bracket >= 0) {
+                int close = segment.indexOf(']', bracket);
+                if (close < 0) {
+                    throw new IllegalArgumentException("Unclosed index in path: " + path);
+                }
+                pointer.append('/').append(segment, bracket + 1, close);
+                bracket = segment.indexOf('[', close);
+            }
+        }
+        return JsonPointer.compile(pointer.toString());
+    }
+}
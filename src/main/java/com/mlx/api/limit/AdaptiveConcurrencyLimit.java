@@ -0,0 +1,211 @@
+package com.mlx.api.limit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit that adapts to the server (AIMD with a latency-gradient signal).
+ *
+ * acquire() waits while limit calls are in flight. Every completed call is a sample:
+ * - failed (5xx, 429 or no response), or smoothed latency above latencyTolerance x the baseline
+ *   latency: the limit is multiplied by backoffRatio, at most once per round trip, since the other
+ *   calls of the same burst saw the same overload
+ * - otherwise, if at least half the limit was in use: the limit grows by 1 / limit, about one per
+ *   round trip of a full window
+ * The baseline is the lowest latency seen. If the limit has backed off to minLimit, the baseline is
+ * reset to the lowest latency of the last minLatencyWindow samples, so it follows a server that got
+ * slower for good instead of pinning the limit at its minimum. The limit stays between minLimit and maxLimit.
+ * State is guarded by a ReentrantLock rather than synchronized, so virtual threads waiting for a slot
+ * unmount instead of pinning their carrier thread.
+ */
+public class AdaptiveConcurrencyLimit {
+    
+    private static final Logger logger = LogManager.getLogger(AdaptiveConcurrencyLimit.class);
+    
+    // Weight of the newest sample in the smoothed latency
+    private static final double SMOOTHING = 0.2;
+    
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final int minLatencyWindow;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotFreed = lock.newCondition();
+    
+    private double limit;
+    private int inFlight;
+    private double smoothedLatencyNanos;
+    private long minLatencyNanos = Long.MAX_VALUE;
+    private long windowMinLatencyNanos = Long.MAX_VALUE;
+    private int windowSamples;
+    private long lastBackoffNanos;
+    private long backoffs;
+    private long waits;
+    
+    /**
+     * @param name Name used in log messages (the endpoint's metric name)
+     * @param initialLimit Concurrency allowed before the first samples
+     * @param minLimit Lowest the limit backs off to (at least 1)
+     * @param maxLimit Highest the limit grows to
+     * @param backoffRatio Factor applied on overload, e.g. 0.9
+     * @param latencyTolerance Smoothed latency over baseline that counts as overload, e.g. 2.0
+     * @param minLatencyWindow Samples after which the baseline latency is re-measured
+     */
+    public AdaptiveConcurrencyLimit(String name, int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                                    double latencyTolerance, int minLatencyWindow) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Need 1 <= minLimit <= maxLimit, got " + minLimit + ".." + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1: " + backoffRatio);
+        }
+        if (latencyTolerance <= 1) {
+            throw new IllegalArgumentException("latencyTolerance must be above 1: " + latencyTolerance);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.minLatencyWindow = Math.max(1, minLatencyWindow);
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+    
+    /**
+     * Wait until fewer than limit calls are in flight and take a slot
+     * @return true if the caller had to wait
+     */
+    public boolean acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            boolean waited = false;
+            while (inFlight >= (int) limit) {
+                if (!waited) {
+                    waited = true;
+                    waits++;
+                }
+                slotFreed.await();
+            }
+            inFlight++;
+            return waited;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Give the slot back with the outcome of the call
+     * @param latencyNanos Time the call took
+     * @param failed true for a 5xx, 429 or a call without response
+     */
+    public void release(long latencyNanos, boolean failed) {
+        lock.lock();
+        try {
+            boolean saturated = inFlight * 2 >= (int) limit;
+            inFlight--;
+            long now = System.nanoTime();
+            
+            minLatencyNanos = Math.min(minLatencyNanos, latencyNanos);
+            windowMinLatencyNanos = Math.min(windowMinLatencyNanos, latencyNanos);
+            if (++windowSamples >= minLatencyWindow) {
+                // A window's minimum measured under our own load is inflated by queueing; only once backing off
+                // is exhausted is the higher latency the server's own, and becomes the new baseline
+                if (limit <= minLimit) {
+                    minLatencyNanos = windowMinLatencyNanos;
+                }
+                windowMinLatencyNanos = Long.MAX_VALUE;
+                windowSamples = 0;
+            }
+            smoothedLatencyNanos = smoothedLatencyNanos == 0
+                ? latencyNanos
+                : smoothedLatencyNanos + (latencyNanos - smoothedLatencyNanos) * SMOOTHING;
+            
+            boolean slow = smoothedLatencyNanos > minLatencyNanos * latencyTolerance;
+            if (failed || slow) {
+                if (now - lastBackoffNanos >= latencyNanos) {
+                    double previous = limit;
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastBackoffNanos = now;
+                    backoffs++;
+                    if (logger.isDebugEnabled()) {
+                        logger.debug(String.format("%s concurrency limit %.1f -> %.1f (%s)",
+                            name, previous, limit, failed ? "failure" : "latency"));
+                    }
+                }
+            } else if (saturated) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Current limit (calls allowed in flight is the integer part)
+     */
+    public double getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Times the limit was lowered
+     */
+    public long getBackoffs() {
+        lock.lock();
+        try {
+            return backoffs;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Calls that had to wait for a slot
+     */
+    public long getWaits() {
+        lock.lock();
+        try {
+            return waits;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public double getSmoothedLatencyMillis() {
+        lock.lock();
+        try {
+            return smoothedLatencyNanos / 1_000_000.0;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public double getMinLatencyMillis() {
+        lock.lock();
+        try {
+            return minLatencyNanos == Long.MAX_VALUE ? 0 : minLatencyNanos / 1_000_000.0;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
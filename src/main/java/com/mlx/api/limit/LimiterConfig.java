@@ -0,0 +1,160 @@
+package com.mlx.api.limit;
+
+import com.mlx.api.metrics.Endpoint;
+import com.mlx.api.utils.ConfigReader;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Settings for the client-side RequestLimiter
+ * Defaults come from the limiter* keys in config-staging.properties; per-endpoint rates use the
+ * endpoint's metric name, e.g. limiterRate.saveOrder
+ */
+public class LimiterConfig {
+    
+    private final LimiterMode mode;
+    private final Map<Endpoint, Double> ratePerSecond;
+    private final int burst;
+    private final Set<Endpoint> adaptiveEndpoints;
+    private final int initialConcurrency;
+    private final int minConcurrency;
+    private final int maxConcurrency;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final int minLatencyWindow;
+    
+    /**
+     * @param mode Limits to apply
+     * @param ratePerSecond Requests per second per endpoint for RATE/BOTH (missing or 0: no cap)
+     * @param burst Tokens a bucket saves up while idle
+     * @param adaptiveEndpoints Endpoints under an adaptive concurrency limit for ADAPTIVE/BOTH
+     * @param initialConcurrency Adaptive limit before the first samples
+     * @param minConcurrency Lowest the adaptive limit backs off to
+     * @param maxConcurrency Highest the adaptive limit grows to
+     * @param backoffRatio Factor applied to the adaptive limit on overload
+     * @param latencyTolerance Smoothed latency over baseline latency that counts as overload
+     * @param minLatencyWindow Samples after which the baseline latency is re-measured
+     */
+    public LimiterConfig(LimiterMode mode, Map<Endpoint, Double> ratePerSecond, int burst, Set<Endpoint> adaptiveEndpoints,
+                         int initialConcurrency, int minConcurrency, int maxConcurrency, double backoffRatio,
+                         double latencyTolerance, int minLatencyWindow) {
+        for (Map.Entry<Endpoint, Double> rate : ratePerSecond.entrySet()) {
+            if (rate.getValue() < 0) {
+                throw new IllegalArgumentException("Rate of " + rate.getKey() + " must not be negative");
+            }
+        }
+        this.mode = mode;
+        this.ratePerSecond = Collections.unmodifiableMap(
+            ratePerSecond.isEmpty() ? new EnumMap<>(Endpoint.class) : new EnumMap<>(ratePerSecond));
+        this.burst = Math.max(1, burst);
+        this.adaptiveEndpoints = Collections.unmodifiableSet(
+            adaptiveEndpoints.isEmpty() ? EnumSet.noneOf(Endpoint.class) : EnumSet.copyOf(adaptiveEndpoints));
+        this.initialConcurrency = initialConcurrency;
+        this.minConcurrency = minConcurrency;
+        this.maxConcurrency = maxConcurrency;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.minLatencyWindow = minLatencyWindow;
+    }
+    
+    /**
+     * Load settings from config file
+     */
+    public static LimiterConfig fromConfig() {
+        Map<Endpoint, Double> ratePerSecond = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            ratePerSecond.put(endpoint, Double.parseDouble(
+                ConfigReader.getProperty("limiterRate." + endpoint.getMetricName(), "0").trim()));
+        }
+        Set<Endpoint> adaptiveEndpoints = EnumSet.noneOf(Endpoint.class);
+        for (String name : ConfigReader.getProperty("limiterAdaptiveEndpoints", "saveOrder").split(",")) {
+            if (name.trim().isEmpty()) {
+                continue;
+            }
+            Endpoint endpoint = byMetricName(name.trim());
+            if (endpoint == null) {
+                throw new IllegalArgumentException("Unknown endpoint in limiterAdaptiveEndpoints: " + name);
+            }
+            adaptiveEndpoints.add(endpoint);
+        }
+        return new LimiterConfig(
+            LimiterMode.valueOf(ConfigReader.getProperty("limiterMode", "OFF").trim().toUpperCase()),
+            ratePerSecond,
+            ConfigReader.getIntProperty("limiterBurst", 5),
+            adaptiveEndpoints,
+            ConfigReader.getIntProperty("limiterInitialConcurrency", 20),
+            ConfigReader.getIntProperty("limiterMinConcurrency", 1),
+            ConfigReader.getIntProperty("limiterMaxConcurrency", 200),
+            Double.parseDouble(ConfigReader.getProperty("limiterBackoffRatio", "0.9").trim()),
+            Double.parseDouble(ConfigReader.getProperty("limiterLatencyTolerance", "2.0").trim()),
+            ConfigReader.getIntProperty("limiterMinLatencyWindow", 500));
+    }
+    
+    private static Endpoint byMetricName(String name) {
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (endpoint.getMetricName().equalsIgnoreCase(name)) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+    
+    public LimiterMode getMode() {
+        return mode;
+    }
+    
+    /**
+     * Requests per second cap of an endpoint, 0 for none
+     */
+    public double getRatePerSecond(Endpoint endpoint) {
+        return ratePerSecond.getOrDefault(endpoint, 0.0);
+    }
+    
+    public int getBurst() {
+        return burst;
+    }
+    
+    public boolean isAdaptive(Endpoint endpoint) {
+        return adaptiveEndpoints.contains(endpoint);
+    }
+    
+    public int getInitialConcurrency() {
+        return initialConcurrency;
+    }
+    
+    public int getMinConcurrency() {
+        return minConcurrency;
+    }
+    
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+    
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+    
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+    
+    public int getMinLatencyWindow() {
+        return minLatencyWindow;
+    }
+    
+    @Override
+    public String toString() {
+        return "mode=" + mode +
+               ", ratePerSecond=" + ratePerSecond +
+               ", burst=" + burst +
+               ", adaptiveEndpoints=" + adaptiveEndpoints +
+               ", concurrency=" + minConcurrency + ".." + maxConcurrency + " (initial " + initialConcurrency + ")" +
+               ", backoffRatio=" + backoffRatio +
+               ", latencyTolerance=" + latencyTolerance +
+               ", minLatencyWindow=" + minLatencyWindow;
+    }
+}
@@ -0,0 +1,27 @@
+package com.mlx.api.limit;
+
+/**
+ * Which limits RequestLimiter applies to outgoing calls
+ */
+public enum LimiterMode {
+    
+    /** No limiting - calls go straight out */
+    OFF,
+    
+    /** Token-bucket requests-per-second cap per endpoint */
+    RATE,
+    
+    /** Adaptive (AIMD) concurrency limit that backs off on rising latency and 5xx */
+    ADAPTIVE,
+    
+    /** Rate cap first, then the adaptive concurrency limit */
+    BOTH;
+    
+    public boolean isRateLimited() {
+        return this == RATE || this == BOTH;
+    }
+    
+    public boolean isAdaptive() {
+        return this == ADAPTIVE || this == BOTH;
+    }
+}
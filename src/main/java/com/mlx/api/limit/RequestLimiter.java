@@ -0,0 +1,211 @@
+package com.mlx.api.limit;
+
+import com.mlx.api.metrics.Endpoint;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client-side limiter around every page-object and MLXApiClient call, so load pointed at a shared
+ * environment (e.g. Backend-Staging) cannot overload it.
+ *
+ * Depending on limiterMode a call first takes a token from its endpoint's TokenBucket (RATE) and then
+ * a slot of its endpoint's AdaptiveConcurrencyLimit (ADAPTIVE), and gives the slot back with its latency
+ * and status. Time spent waiting is not part of the recorded request latency; it is recorded here per
+ * endpoint as throttle wait, next to throttled-call counts and the adaptive limit's state.
+ * With limiterMode=OFF acquire and release return immediately.
+ */
+public class RequestLimiter {
+    
+    private static final Logger logger = LogManager.getLogger(RequestLimiter.class);
+    
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final Endpoint[] ENDPOINTS = Endpoint.values();
+    
+    private static volatile RequestLimiter instance;
+    
+    private final LimiterConfig config;
+    private final boolean enabled;
+    private final TokenBucket[] buckets = new TokenBucket[ENDPOINTS.length];
+    private final AdaptiveConcurrencyLimit[] limits = new AdaptiveConcurrencyLimit[ENDPOINTS.length];
+    private final LongAdder[] calls = new LongAdder[ENDPOINTS.length];
+    private final LongAdder[] throttled = new LongAdder[ENDPOINTS.length];
+    private final Recorder[] throttleWait = new Recorder[ENDPOINTS.length];
+    private final Histogram[] throttleWaitTotal = new Histogram[ENDPOINTS.length];
+    
+    public RequestLimiter(LimiterConfig config) {
+        this.config = config;
+        this.enabled = config.getMode() != LimiterMode.OFF;
+        for (Endpoint endpoint : ENDPOINTS) {
+            int e = endpoint.ordinal();
+            if (config.getMode().isRateLimited() && config.getRatePerSecond(endpoint) > 0) {
+                buckets[e] = new TokenBucket(config.getRatePerSecond(endpoint), config.getBurst());
+            }
+            if (config.getMode().isAdaptive() && config.isAdaptive(endpoint)) {
+                limits[e] = new AdaptiveConcurrencyLimit(endpoint.getMetricName(), config.getInitialConcurrency(),
+                    config.getMinConcurrency(), config.getMaxConcurrency(), config.getBackoffRatio(),
+                    config.getLatencyTolerance(), config.getMinLatencyWindow());
+            }
+            calls[e] = new LongAdder();
+            throttled[e] = new LongAdder();
+            throttleWait[e] = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+            throttleWaitTotal[e] = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        }
+    }
+    
+    /**
+     * The suite-wide limiter, created from the limiter* config keys on first use
+     */
+    public static RequestLimiter getInstance() {
+        RequestLimiter limiter = instance;
+        if (limiter == null) {
+            synchronized (RequestLimiter.class) {
+                if (instance == null) {
+                    instance = new RequestLimiter(LimiterConfig.fromConfig());
+                    if (instance.enabled) {
+                        logger.info("Request limiter enabled: " + instance.config);
+                    }
+                }
+                limiter = instance;
+            }
+        }
+        return limiter;
+    }
+    
+    /**
+     * Replace the suite-wide limiter, e.g. for a load run with its own limits
+     */
+    public static synchronized RequestLimiter install(LimiterConfig config) {
+        instance = new RequestLimiter(config);
+        logger.info("Request limiter installed: " + config);
+        return instance;
+    }
+    
+    /**
+     * Wait for the endpoint's rate and concurrency limits; every acquire must be followed by one release
+     * @throws IllegalStateException if the thread is interrupted while waiting (interrupt flag is kept)
+     */
+    public void acquire(Endpoint endpoint) {
+        if (!enabled) {
+            return;
+        }
+        int e = endpoint.ordinal();
+        long start = System.nanoTime();
+        boolean waited = false;
+        try {
+            TokenBucket bucket = buckets[e];
+            if (bucket != null) {
+                long waitNanos = bucket.reserve();
+                if (waitNanos > 0) {
+                    waited = true;
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                }
+            }
+            AdaptiveConcurrencyLimit limit = limits[e];
+            if (limit != null && limit.acquire()) {
+                waited = true;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while throttled by the request limiter", ex);
+        }
+        calls[e].increment();
+        if (waited) {
+            throttled[e].increment();
+            throttleWait[e].recordValue(Math.min((System.nanoTime() - start) / 1000, HIGHEST_TRACKABLE_MICROS));
+        }
+    }
+    
+    /**
+     * Report the outcome of a call that passed acquire
+     * @param statusCode HTTP status, 0 if no response was received
+     * @param latencyNanos Time the call took (without throttle wait)
+     */
+    public void release(Endpoint endpoint, int statusCode, long latencyNanos) {
+        if (!enabled) {
+            return;
+        }
+        AdaptiveConcurrencyLimit limit = limits[endpoint.ordinal()];
+        if (limit != null) {
+            limit.release(latencyNanos, statusCode == 0 || statusCode == 429 || statusCode >= 500);
+        }
+    }
+    
+    // ============= Limiter Metrics =============
+    
+    public LimiterConfig getConfig() {
+        return config;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Calls that passed the limiter
+     */
+    public long getCallCount(Endpoint endpoint) {
+        return calls[endpoint.ordinal()].sum();
+    }
+    
+    /**
+     * Calls that had to wait for a token or a concurrency slot (throttling events)
+     */
+    public long getThrottledCount(Endpoint endpoint) {
+        return throttled[endpoint.ordinal()].sum();
+    }
+    
+    /**
+     * Cumulative throttle wait of throttled calls (microseconds)
+     */
+    public Histogram getThrottleWait(Endpoint endpoint) {
+        int e = endpoint.ordinal();
+        synchronized (throttleWaitTotal[e]) {
+            throttleWaitTotal[e].add(throttleWait[e].getIntervalHistogram());
+            return throttleWaitTotal[e].copy();
+        }
+    }
+    
+    /**
+     * The endpoint's adaptive concurrency limit, or null if it has none
+     */
+    public AdaptiveConcurrencyLimit getConcurrencyLimit(Endpoint endpoint) {
+        return limits[endpoint.ordinal()];
+    }
+    
+    /**
+     * Limiter state per endpoint for logs and reports
+     */
+    public String statsSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append("mode=").append(config.getMode()).append('\n');
+        if (!enabled) {
+            return summary.toString();
+        }
+        summary.append(String.format("%-10s %8s %8s %9s %10s %10s %7s %8s %8s %10s %10s%n",
+            "endpoint", "rate/s", "calls", "throttled", "wait p99", "wait max",
+            "limit", "inFlight", "backoffs", "lat min", "lat smooth"));
+        for (Endpoint endpoint : ENDPOINTS) {
+            int e = endpoint.ordinal();
+            Histogram wait = getThrottleWait(endpoint);
+            AdaptiveConcurrencyLimit limit = limits[e];
+            summary.append(String.format("%-10s %8s %8d %9d %10.1f %10.1f %7s %8s %8s %10s %10s%n",
+                endpoint.getMetricName(),
+                buckets[e] == null ? "-" : String.format("%.1f", buckets[e].getRatePerSecond()),
+                calls[e].sum(),
+                throttled[e].sum(),
+                wait.getValueAtPercentile(99) / 1000.0,
+                wait.getMaxValue() / 1000.0,
+                limit == null ? "-" : String.format("%.1f", limit.getLimit()),
+                limit == null ? "-" : String.valueOf(limit.getInFlight()),
+                limit == null ? "-" : String.valueOf(limit.getBackoffs()),
+                limit == null ? "-" : String.format("%.1f", limit.getMinLatencyMillis()),
+                limit == null ? "-" : String.format("%.1f", limit.getSmoothedLatencyMillis())));
+        }
+        return summary.toString();
+    }
+}
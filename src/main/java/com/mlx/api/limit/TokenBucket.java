@@ -0,0 +1,61 @@
+package com.mlx.api.limit;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket: ratePerSecond tokens a second, up to burst saved up while idle.
+ *
+ * reserve() always takes a token and lets the balance go negative, so concurrent callers queue
+ * in arrival order: each gets the wait until its own token is refilled and sleeps outside the lock.
+ * The lock is a ReentrantLock so virtual threads never pin their carrier here.
+ */
+public class TokenBucket {
+    
+    private final double ratePerSecond;
+    private final int burst;
+    private final double tokensPerNano;
+    private final ReentrantLock lock = new ReentrantLock();
+    
+    private double tokens;
+    private long lastRefillNanos;
+    
+    /**
+     * @param ratePerSecond Sustained requests per second (must be positive)
+     * @param burst Tokens that can be saved up while idle (at least 1)
+     */
+    public TokenBucket(double ratePerSecond, int burst) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("ratePerSecond must be positive: " + ratePerSecond);
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.burst = Math.max(1, burst);
+        this.tokensPerNano = ratePerSecond / 1_000_000_000.0;
+        this.tokens = this.burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+    
+    /**
+     * Take one token
+     * @return Nanoseconds the caller has to wait before sending (0 if a token was available)
+     */
+    public long reserve() {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            tokens = Math.min(burst, tokens + (now - lastRefillNanos) * tokensPerNano);
+            lastRefillNanos = now;
+            tokens -= 1;
+            return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+    
+    public int getBurst() {
+        return burst;
+    }
+}
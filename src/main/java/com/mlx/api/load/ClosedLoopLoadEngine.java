@@ -0,0 +1,137 @@
+package com.mlx.api.load;
+
+import com.mlx.api.client.MLXApiClient;
+import com.mlx.api.http.HttpConnectionPool;
+import com.mlx.api.utils.ConfigReader;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Closed-loop load engine for the order service
+ * Runs N concurrent virtual users, each looping login -> build order -> MLXApiClient.saveOrder,
+ * for a fixed duration or iteration count, and reports throughput and latency at the end.
+ */
+public class ClosedLoopLoadEngine {
+    
+    private static final Logger logger = LogManager.getLogger(ClosedLoopLoadEngine.class);
+    
+    private final LoadConfig config;
+    private final String email;
+    private final String password;
+    private final String applicationType;
+    private final MLXApiClient client = MLXApiClient.fromConfig();
+    private volatile boolean stopped;
+    
+    public ClosedLoopLoadEngine(LoadConfig config, String email, String password, String applicationType) {
+        this.config = config;
+        this.email = email;
+        this.password = password;
+        this.applicationType = applicationType;
+    }
+    
+    /**
+     * Engine using load settings and test credentials from config file
+     */
+    public static ClosedLoopLoadEngine fromConfig() {
+        return new ClosedLoopLoadEngine(
+            LoadConfig.fromConfig(),
+            ConfigReader.getProperty("testEmail"),
+            ConfigReader.getProperty("testPassword"),
+            ConfigReader.getProperty("applicationType"));
+    }
+    
+    /**
+     * Run all virtual users and block until they finish
+     * @return Merged results of all virtual users
+     */
+    public LoadReport run() throws InterruptedException {
+        logger.info("Starting closed-loop load run against " + ConfigReader.getProperty("baseURI") + ": " + config);
+        
+        int virtualUsers = config.getVirtualUsers();
+        long rampUpMillis = TimeUnit.SECONDS.toMillis(config.getRampUpSeconds());
+        long startNanos = System.nanoTime();
+        long deadlineNanos = config.getDurationSeconds() > 0
+            ? startNanos + TimeUnit.SECONDS.toNanos(config.getDurationSeconds())
+            : Long.MAX_VALUE;
+        
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(virtualUsers, runnable -> {
+            Thread thread = new Thread(runnable, "mlx-vu-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        List<VirtualUser> users = new ArrayList<>();
+        for (int i = 0; i < virtualUsers; i++) {
+            long startDelay = rampUpMillis * i / virtualUsers;
+            VirtualUser user = new VirtualUser(i + 1, config, email, password, applicationType,
+                startDelay, deadlineNanos, this, client);
+            users.add(user);
+            executor.execute(user);
+        }
+        
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                // keep waiting - virtual users stop on their own at the deadline
+            }
+        } catch (InterruptedException e) {
+            stop();
+            executor.shutdownNow();
+            throw e;
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        
+        LoadReport report = merge(users, elapsedMillis);
+        logger.info("Closed-loop load run finished\n" + report.toSummary());
+        logger.info("HTTP connection pool: " + HttpConnectionPool.install().statsSummary());
+        return report;
+    }
+    
+    /**
+     * Ask all virtual users to stop after their current iteration
+     */
+    public void stop() {
+        stopped = true;
+    }
+    
+    boolean isStopped() {
+        return stopped;
+    }
+    
+    private static LoadReport merge(List<VirtualUser> users, long elapsedMillis) {
+        Histogram loginLatency = new Histogram(VirtualUser.MAX_LATENCY_MICROS, 3);
+        Histogram orderLatency = new Histogram(VirtualUser.MAX_LATENCY_MICROS, 3);
+        long iterations = 0;
+        long loginFailures = 0;
+        long orderFailures = 0;
+        long errors = 0;
+        
+        for (VirtualUser user : users) {
+            loginLatency.add(user.loginLatency);
+            orderLatency.add(user.orderLatency);
+            iterations += user.iterations;
+            loginFailures += user.loginFailures;
+            orderFailures += user.orderFailures;
+            errors += user.errors;
+        }
+        return new LoadReport(elapsedMillis, iterations, loginFailures, orderFailures, errors,
+            loginLatency, orderLatency);
+    }
+    
+    /**
+     * Command line entry point - runs with the settings from config file
+     */
+    public static void main(String[] args) throws InterruptedException {
+        LoadReport report = fromConfig().run();
+        System.out.println(report.toSummary());
+    }
+}
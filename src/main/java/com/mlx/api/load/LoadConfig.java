@@ -0,0 +1,94 @@
+package com.mlx.api.load;
+
+import com.mlx.api.utils.ConfigReader;
+
+/**
+ * Settings for a load run
+ * Defaults come from the load* keys in config-staging.properties
+ */
+public class LoadConfig {
+    
+    private final int virtualUsers;
+    private final int durationSeconds;
+    private final int iterationsPerUser;
+    private final int rampUpSeconds;
+    private final int thinkTimeMs;
+    private final boolean loginEveryIteration;
+    
+    /**
+     * @param virtualUsers Number of concurrent virtual users
+     * @param durationSeconds Maximum run time in seconds
+     * @param iterationsPerUser Iterations per virtual user (0 = until duration elapses)
+     * @param rampUpSeconds Time over which virtual users are started
+     * @param thinkTimeMs Pause between iterations of one virtual user
+     */
+    public LoadConfig(int virtualUsers, int durationSeconds, int iterationsPerUser, int rampUpSeconds, int thinkTimeMs) {
+        this(virtualUsers, durationSeconds, iterationsPerUser, rampUpSeconds, thinkTimeMs, true);
+    }
+    
+    /**
+     * @param loginEveryIteration true = every iteration calls /users/login, false = reuse the cached suite session
+     */
+    public LoadConfig(int virtualUsers, int durationSeconds, int iterationsPerUser, int rampUpSeconds, int thinkTimeMs,
+                      boolean loginEveryIteration) {
+        if (virtualUsers < 1) {
+            throw new IllegalArgumentException("virtualUsers must be at least 1");
+        }
+        if (durationSeconds < 1 && iterationsPerUser < 1) {
+            throw new IllegalArgumentException("Either durationSeconds or iterationsPerUser must be set");
+        }
+        this.virtualUsers = virtualUsers;
+        this.durationSeconds = durationSeconds;
+        this.iterationsPerUser = iterationsPerUser;
+        this.rampUpSeconds = rampUpSeconds;
+        this.thinkTimeMs = thinkTimeMs;
+        this.loginEveryIteration = loginEveryIteration;
+    }
+    
+    /**
+     * Load settings from config file
+     */
+    public static LoadConfig fromConfig() {
+        return new LoadConfig(
+            ConfigReader.getIntProperty("loadVirtualUsers", 10),
+            ConfigReader.getIntProperty("loadDurationSeconds", 60),
+            ConfigReader.getIntProperty("loadIterationsPerUser", 0),
+            ConfigReader.getIntProperty("loadRampUpSeconds", 0),
+            ConfigReader.getIntProperty("loadThinkTimeMs", 0),
+            Boolean.parseBoolean(ConfigReader.getProperty("loadLoginEveryIteration", "true").trim()));
+    }
+    
+    public int getVirtualUsers() {
+        return virtualUsers;
+    }
+    
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+    
+    public int getIterationsPerUser() {
+        return iterationsPerUser;
+    }
+    
+    public int getRampUpSeconds() {
+        return rampUpSeconds;
+    }
+    
+    public int getThinkTimeMs() {
+        return thinkTimeMs;
+    }
+    
+    public boolean isLoginEveryIteration() {
+        return loginEveryIteration;
+    }
+    
+    @Override
+    public String toString() {
+        return "virtualUsers=" + virtualUsers +
+               ", durationSeconds=" + durationSeconds +
+               ", iterationsPerUser=" + iterationsPerUser +
+               ", rampUpSeconds=" + rampUpSeconds +
+               ", thinkTimeMs=" + thinkTimeMs +
+               ", loginEveryIteration=" + loginEveryIteration;
+    }
+}
@@ -0,0 +1,106 @@
+package com.mlx.api.load;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Result of a load run: counts, throughput and latency percentiles
+ * Latencies are recorded in microseconds
+ */
+public class LoadReport {
+    
+    private final long elapsedMillis;
+    private final long iterations;
+    private final long loginFailures;
+    private final long orderFailures;
+    private final long errors;
+    private final Histogram loginLatency;
+    private final Histogram orderLatency;
+    
+    public LoadReport(long elapsedMillis, long iterations, long loginFailures, long orderFailures, long errors,
+                      Histogram loginLatency, Histogram orderLatency) {
+        this.elapsedMillis = elapsedMillis;
+        this.iterations = iterations;
+        this.loginFailures = loginFailures;
+        this.orderFailures = orderFailures;
+        this.errors = errors;
+        this.loginLatency = loginLatency;
+        this.orderLatency = orderLatency;
+    }
+    
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+    
+    public long getIterations() {
+        return iterations;
+    }
+    
+    public long getLoginFailures() {
+        return loginFailures;
+    }
+    
+    public long getOrderFailures() {
+        return orderFailures;
+    }
+    
+    public long getErrors() {
+        return errors;
+    }
+    
+    /**
+     * Number of saveOrder requests that were sent
+     */
+    public long getOrdersSent() {
+        return orderLatency.getTotalCount();
+    }
+    
+    /**
+     * saveOrder requests per second over the whole run
+     */
+    public double getOrderThroughput() {
+        return elapsedMillis == 0 ? 0 : getOrdersSent() * 1000.0 / elapsedMillis;
+    }
+    
+    public Histogram getLoginLatency() {
+        return loginLatency;
+    }
+    
+    public Histogram getOrderLatency() {
+        return orderLatency;
+    }
+    
+    /**
+     * Human readable summary for logs and reports
+     */
+    public String toSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append("Elapsed: ").append(elapsedMillis).append(" ms\n");
+        summary.append("Iterations: ").append(iterations).append('\n');
+        summary.append("Orders sent: ").append(getOrdersSent())
+               .append(String.format(" (%.2f req/s)", getOrderThroughput())).append('\n');
+        summary.append("Login failures: ").append(loginFailures).append('\n');
+        summary.append("Order failures: ").append(orderFailures).append('\n');
+        summary.append("Errors: ").append(errors).append('\n');
+        summary.append(formatLatency("login", loginLatency)).append('\n');
+        summary.append(formatLatency("saveOrder", orderLatency));
+        return summary.toString();
+    }
+    
+    private static String formatLatency(String name, Histogram histogram) {
+        if (histogram.getTotalCount() == 0) {
+            return name + " latency: no samples";
+        }
+        return String.format("%s latency (ms): p50=%.1f p90=%.1f p99=%.1f max=%.1f mean=%.1f",
+            name,
+            histogram.getValueAtPercentile(50) / 1000.0,
+            histogram.getValueAtPercentile(90) / 1000.0,
+            histogram.getValueAtPercentile(99) / 1000.0,
+            histogram.getMaxValue() / 1000.0,
+            histogram.getMean() / 1000.0);
+    }
+    
+    @Override
+    public String toString() {
+        return toSummary();
+    }
+}
@@ -0,0 +1,106 @@
+package com.mlx.api.load;
+
+import com.mlx.api.utils.ConfigReader;
+
+/**
+ * Settings for an open-loop (constant arrival rate) run
+ * Defaults come from the openLoop* keys in config-staging.properties
+ */
+public class OpenLoopConfig {
+    
+    private final OpenLoopOperation operation;
+    private final double ratePerSecond;
+    private final int durationSeconds;
+    private final int maxConcurrency;
+    private final int maxQueued;
+    private final int lagThresholdMs;
+    private final boolean async;
+    
+    /**
+     * @param operation API call issued for every arrival
+     * @param ratePerSecond Target arrival rate, independent of response times
+     * @param durationSeconds Length of the schedule
+     * @param maxConcurrency Worker threads available to send requests (async: requests in flight)
+     * @param maxQueued Arrivals allowed to wait for a worker (async: for an in-flight slot) before they are
+     *                  counted as missed
+     * @param lagThresholdMs Start delay after the scheduled time that counts as falling behind
+     */
+    public OpenLoopConfig(OpenLoopOperation operation, double ratePerSecond, int durationSeconds,
+                          int maxConcurrency, int maxQueued, int lagThresholdMs) {
+        this(operation, ratePerSecond, durationSeconds, maxConcurrency, maxQueued, lagThresholdMs, false);
+    }
+    
+    /**
+     * @param async true = send through AsyncMLXApiClient (java.net.http, a few threads, maxConcurrency requests
+     *              in flight), false = blocking MLXApiClient on maxConcurrency worker threads
+     */
+    public OpenLoopConfig(OpenLoopOperation operation, double ratePerSecond, int durationSeconds,
+                          int maxConcurrency, int maxQueued, int lagThresholdMs, boolean async) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("ratePerSecond must be positive");
+        }
+        if (durationSeconds < 1 || maxConcurrency < 1) {
+            throw new IllegalArgumentException("durationSeconds and maxConcurrency must be at least 1");
+        }
+        this.operation = operation;
+        this.ratePerSecond = ratePerSecond;
+        this.durationSeconds = durationSeconds;
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueued = maxQueued;
+        this.lagThresholdMs = lagThresholdMs;
+        this.async = async;
+    }
+    
+    /**
+     * Load settings from config file
+     */
+    public static OpenLoopConfig fromConfig() {
+        return new OpenLoopConfig(
+            OpenLoopOperation.valueOf(ConfigReader.getProperty("openLoopOperation", "SAVE_ORDER").trim()),
+            Double.parseDouble(ConfigReader.getProperty("openLoopRatePerSecond", "10").trim()),
+            ConfigReader.getIntProperty("openLoopDurationSeconds", 60),
+            ConfigReader.getIntProperty("openLoopMaxConcurrency", 100),
+            ConfigReader.getIntProperty("openLoopMaxQueued", 1000),
+            ConfigReader.getIntProperty("openLoopLagThresholdMs", 10),
+            Boolean.parseBoolean(ConfigReader.getProperty("openLoopAsync", "false").trim()));
+    }
+    
+    public OpenLoopOperation getOperation() {
+        return operation;
+    }
+    
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+    
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+    
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+    
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+    
+    public int getLagThresholdMs() {
+        return lagThresholdMs;
+    }
+    
+    public boolean isAsync() {
+        return async;
+    }
+    
+    @Override
+    public String toString() {
+        return "operation=" + operation +
+               ", ratePerSecond=" + ratePerSecond +
+               ", durationSeconds=" + durationSeconds +
+               ", maxConcurrency=" + maxConcurrency +
+               ", maxQueued=" + maxQueued +
+               ", lagThresholdMs=" + lagThresholdMs +
+               ", async=" + async;
+    }
+}
@@ -0,0 +1,294 @@
+package com.mlx.api.load;
+
+import com.mlx.api.client.ApiResult;
+import com.mlx.api.client.AsyncMLXApiClient;
+import com.mlx.api.client.MLXApiClient;
+import com.mlx.api.data.OrderDataFactory;
+import com.mlx.api.http.HttpConnectionPool;
+import com.mlx.api.models.StandingOrderRequest;
+import com.mlx.api.session.Session;
+import com.mlx.api.session.SessionCache;
+import com.mlx.api.utils.ConfigReader;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load engine: sends requests at a fixed arrival rate no matter how fast responses come back.
+ *
+ * A single dispatcher thread computes the send time of request i as start + i / rate and hands it to a
+ * worker pool. Latency is measured from that scheduled time, so time spent waiting behind slow
+ * responses is counted instead of silently lowering the send rate (coordinated omission).
+ * The dispatcher builds each saveOrder body before it waits for the arrival's send time, so building
+ * is not part of the measured latency. Arrivals that start late or cannot be queued are counted and
+ * flagged in the report; dropped arrivals have no latency, so the report gives their share next to
+ * the percentiles.
+ *
+ * With openLoopAsync=true requests go through AsyncMLXApiClient instead: a few threads send, and
+ * completions are recorded from the client's callbacks. A sender takes one of maxConcurrency permits
+ * before each call and the callback gives it back, so at most maxConcurrency requests are in flight;
+ * up to maxQueued further arrivals wait for a permit.
+ * Both transports send identical requests, so the same schedule compares them head to head.
+ */
+public class OpenLoopLoadEngine {
+    
+    private static final Logger logger = LogManager.getLogger(OpenLoopLoadEngine.class);
+    
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+    
+    private final OpenLoopConfig config;
+    private final String email;
+    private final String password;
+    private final String applicationType;
+    private volatile boolean stopped;
+    
+    private final MLXApiClient client = MLXApiClient.fromConfig();
+    private final AsyncMLXApiClient asyncClient;
+    // Only the dispatcher thread builds request bodies
+    private final OrderDataFactory orderDataFactory;
+    private final Histogram responseTime = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final Histogram serviceTime = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder lateStarts = new LongAdder();
+    private final AtomicLong maxStartLagNanos = new AtomicLong();
+    private final AtomicInteger outstanding = new AtomicInteger();
+    // Async only: the blocking transport is already capped by its maxConcurrency worker threads
+    private final Semaphore inFlightPermits;
+    
+    public OpenLoopLoadEngine(OpenLoopConfig config, String email, String password, String applicationType) {
+        this.config = config;
+        this.email = email;
+        this.password = password;
+        this.applicationType = applicationType;
+        this.asyncClient = config.isAsync() ? AsyncMLXApiClient.fromConfig() : null;
+        this.inFlightPermits = new Semaphore(config.getMaxConcurrency());
+        this.orderDataFactory = config.getOperation() == OpenLoopOperation.SAVE_ORDER
+            ? OrderDataFactory.fromConfig() : null;
+    }
+    
+    /**
+     * Engine using open-loop settings and test credentials from config file
+     */
+    public static OpenLoopLoadEngine fromConfig() {
+        return new OpenLoopLoadEngine(
+            OpenLoopConfig.fromConfig(),
+            ConfigReader.getProperty("testEmail"),
+            ConfigReader.getProperty("testPassword"),
+            ConfigReader.getProperty("applicationType"));
+    }
+    
+    /**
+     * Run the schedule and block until all sent requests have completed
+     */
+    public OpenLoopReport run() throws InterruptedException {
+        logger.info("Starting open-loop load run against " + ConfigReader.getProperty("baseURI") + ": " + config);
+        
+        if (config.getOperation() != OpenLoopOperation.LOGIN) {
+            loginOnce();
+        }
+        
+        // Async senders wait only for an in-flight permit, never on the network, so a few threads are enough
+        int threads = asyncClient != null ? ConfigReader.getIntProperty("asyncThreads", 4) : config.getMaxConcurrency();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "mlx-open-loop-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        double nanosPerArrival = TimeUnit.SECONDS.toNanos(1) / config.getRatePerSecond();
+        long lagThresholdNanos = TimeUnit.MILLISECONDS.toNanos(config.getLagThresholdMs());
+        int maxOutstanding = config.getMaxConcurrency() + config.getMaxQueued();
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+        long scheduledCount = 0;
+        long missed = 0;
+        StandingOrderRequest nextOrder = null;
+        
+        try {
+            for (long i = 0; !stopped; i++) {
+                long scheduledNanos = startNanos + (long) (i * nanosPerArrival);
+                if (scheduledNanos >= endNanos) {
+                    break;
+                }
+                // Built ahead of the send time; a dropped arrival leaves its body to the next one
+                if (nextOrder == null && config.getOperation() == OpenLoopOperation.SAVE_ORDER) {
+                    nextOrder = orderDataFactory.newStandingOrder().getRequest();
+                }
+                long now;
+                while ((now = System.nanoTime()) < scheduledNanos) {
+                    LockSupport.parkNanos(scheduledNanos - now);
+                }
+                scheduledCount++;
+                
+                if (outstanding.get() >= maxOutstanding) {
+                    if (missed++ == 0) {
+                        logger.warn("Open-loop engine cannot keep to the schedule: " + maxOutstanding
+                            + " requests outstanding, arrivals are being dropped");
+                    }
+                    continue;
+                }
+                outstanding.incrementAndGet();
+                StandingOrderRequest orderRequest = nextOrder;
+                nextOrder = null;
+                executor.execute(() -> execute(scheduledNanos, lagThresholdNanos, orderRequest));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        if (!executor.awaitTermination(MAX_LATENCY_MICROS, TimeUnit.MICROSECONDS)) {
+            executor.shutdownNow();
+        }
+        // Async requests are still in flight after their senders finished
+        long drainDeadline = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(MAX_LATENCY_MICROS);
+        while (outstanding.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        
+        OpenLoopReport report = new OpenLoopReport(config, elapsedMillis, scheduledCount, completed.sum(),
+            failures.sum(), errors.sum(), missed, lateStarts.sum(),
+            TimeUnit.NANOSECONDS.toMicros(maxStartLagNanos.get()),
+            responseTime.copy(), serviceTime.copy());
+        if (!report.isScheduleKept()) {
+            logger.warn("Open-loop engine fell behind the schedule - results include queueing delay");
+        }
+        logger.info("Open-loop load run finished\n" + report.toSummary());
+        logger.info("HTTP connection pool: " + HttpConnectionPool.install().statsSummary());
+        return report;
+    }
+    
+    /**
+     * Stop producing arrivals; requests already sent still complete
+     */
+    public void stop() {
+        stopped = true;
+    }
+    
+    /**
+     * Log in before the schedule starts so the first arrivals do not pay for it
+     * Workers read the token from the session cache, which refreshes it in the background on long runs
+     */
+    private void loginOnce() {
+        try {
+            SessionCache.getInstance().getSession(email, password, applicationType);
+        } catch (IllegalStateException e) {
+            throw new IllegalStateException(e.getMessage() + " - cannot start open-loop run for " + config.getOperation(), e);
+        }
+    }
+    
+    private void execute(long scheduledNanos, long lagThresholdNanos, StandingOrderRequest orderRequest) {
+        boolean inFlight = false;
+        boolean permit = false;
+        try {
+            Session session = null;
+            if (config.getOperation() != OpenLoopOperation.LOGIN) {
+                session = SessionCache.getInstance().getSession(email, password, applicationType);
+            }
+            if (asyncClient != null) {
+                // Waiting for a permit is queueing, so it counts towards the start lag below
+                inFlightPermits.acquire();
+                permit = true;
+            }
+            
+            long sendNanos = System.nanoTime();
+            long startLag = sendNanos - scheduledNanos;
+            if (startLag > lagThresholdNanos) {
+                lateStarts.increment();
+            }
+            maxStartLagNanos.accumulateAndGet(startLag, Math::max);
+            
+            if (asyncClient != null) {
+                sendAsync(session, orderRequest).whenComplete((result, failure) -> {
+                    try {
+                        if (failure != null) {
+                            errors.increment();
+                            logger.error("Open-loop request failed: " + failure.getMessage());
+                        } else {
+                            complete(result, scheduledNanos, sendNanos);
+                        }
+                    } finally {
+                        inFlightPermits.release();
+                        outstanding.decrementAndGet();
+                    }
+                });
+                inFlight = true;
+                return;
+            }
+            
+            ApiResult result;
+            switch (config.getOperation()) {
+                case LOGIN:
+                    result = client.login(email, password, applicationType);
+                    break;
+                case SAVE_ORDER:
+                    result = client.saveOrder(session.getAuthToken(), session.getUserId(), orderRequest);
+                    break;
+                default:
+                    result = client.getUser(session.getAuthToken(), session.getUserId());
+                    break;
+            }
+            complete(result, scheduledNanos, sendNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errors.increment();
+        } catch (Exception e) {
+            errors.increment();
+            logger.error("Open-loop request failed: " + e.getMessage());
+        } finally {
+            // Async requests release their permit and slot when they complete
+            if (!inFlight) {
+                if (permit) {
+                    inFlightPermits.release();
+                }
+                outstanding.decrementAndGet();
+            }
+        }
+    }
+    
+    private CompletableFuture<? extends ApiResult> sendAsync(Session session, StandingOrderRequest orderRequest) {
+        switch (config.getOperation()) {
+            case LOGIN:
+                return asyncClient.loginAsync(email, password, applicationType);
+            case SAVE_ORDER:
+                return asyncClient.saveOrderAsync(session.getAuthToken(), session.getUserId(), orderRequest);
+            default:
+                return asyncClient.getUserAsync(session.getAuthToken(), session.getUserId());
+        }
+    }
+    
+    private void complete(ApiResult result, long scheduledNanos, long sendNanos) {
+        long endNanos = System.nanoTime();
+        record(responseTime, endNanos - scheduledNanos);
+        record(serviceTime, endNanos - sendNanos);
+        completed.increment();
+        if (result.getStatusCode() != config.getOperation().getExpectedStatusCode()) {
+            failures.increment();
+        }
+    }
+    
+    private static void record(Histogram histogram, long elapsedNanos) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_LATENCY_MICROS));
+    }
+    
+    /**
+     * Command line entry point - runs with the settings from config file
+     */
+    public static void main(String[] args) throws InterruptedException {
+        OpenLoopReport report = fromConfig().run();
+        System.out.println(report.toSummary());
+    }
+}
@@ -0,0 +1,26 @@
+package com.mlx.api.load;
+
+/**
+ * API call issued for each arrival of an open-loop run (MLXApiClient, or AsyncMLXApiClient when async)
+ */
+public enum OpenLoopOperation {
+    
+    /** MLXApiClient.login - expects 200 */
+    LOGIN(200),
+    
+    /** MLXApiClient.saveOrder with a freshly built standing order - expects 201 */
+    SAVE_ORDER(201),
+    
+    /** MLXApiClient.getUser for the logged in user - expects 200 */
+    GET_USER(200);
+    
+    private final int expectedStatusCode;
+    
+    OpenLoopOperation(int expectedStatusCode) {
+        this.expectedStatusCode = expectedStatusCode;
+    }
+    
+    public int getExpectedStatusCode() {
+        return expectedStatusCode;
+    }
+}
@@ -0,0 +1,160 @@
+package com.mlx.api.load;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Result of an open-loop run
+ * responseTime is measured from each request's scheduled send time (corrected for coordinated omission),
+ * serviceTime from its actual send time. Both are recorded in microseconds. Missed arrivals were never
+ * sent and are in neither histogram; getMissedRate says how much of the schedule the percentiles leave out.
+ */
+public class OpenLoopReport {
+    
+    private final OpenLoopConfig config;
+    private final long elapsedMillis;
+    private final long scheduled;
+    private final long completed;
+    private final long failures;
+    private final long errors;
+    private final long missed;
+    private final long lateStarts;
+    private final long maxStartLagMicros;
+    private final Histogram responseTime;
+    private final Histogram serviceTime;
+    
+    public OpenLoopReport(OpenLoopConfig config, long elapsedMillis, long scheduled, long completed,
+                          long failures, long errors, long missed, long lateStarts, long maxStartLagMicros,
+                          Histogram responseTime, Histogram serviceTime) {
+        this.config = config;
+        this.elapsedMillis = elapsedMillis;
+        this.scheduled = scheduled;
+        this.completed = completed;
+        this.failures = failures;
+        this.errors = errors;
+        this.missed = missed;
+        this.lateStarts = lateStarts;
+        this.maxStartLagMicros = maxStartLagMicros;
+        this.responseTime = responseTime;
+        this.serviceTime = serviceTime;
+    }
+    
+    public OpenLoopConfig getConfig() {
+        return config;
+    }
+    
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+    
+    /**
+     * Arrivals produced by the schedule
+     */
+    public long getScheduled() {
+        return scheduled;
+    }
+    
+    public long getCompleted() {
+        return completed;
+    }
+    
+    /**
+     * Completed requests with an unexpected status code
+     */
+    public long getFailures() {
+        return failures;
+    }
+    
+    public long getErrors() {
+        return errors;
+    }
+    
+    /**
+     * Arrivals dropped because maxQueued requests were already waiting for a worker (async: an in-flight slot)
+     */
+    public long getMissed() {
+        return missed;
+    }
+    
+    /**
+     * Share of the scheduled arrivals that were dropped (0..1)
+     */
+    public double getMissedRate() {
+        return scheduled == 0 ? 0 : (double) missed / scheduled;
+    }
+    
+    /**
+     * Requests that started more than lagThresholdMs after their scheduled time
+     */
+    public long getLateStarts() {
+        return lateStarts;
+    }
+    
+    public long getMaxStartLagMicros() {
+        return maxStartLagMicros;
+    }
+    
+    /**
+     * True when every arrival was sent and none started later than the lag threshold
+     */
+    public boolean isScheduleKept() {
+        return missed == 0 && lateStarts == 0;
+    }
+    
+    public double getAchievedRate() {
+        return elapsedMillis == 0 ? 0 : completed * 1000.0 / elapsedMillis;
+    }
+    
+    public Histogram getResponseTime() {
+        return responseTime;
+    }
+    
+    public Histogram getServiceTime() {
+        return serviceTime;
+    }
+    
+    /**
+     * Human readable summary for logs and reports
+     */
+    public String toSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append("Operation: ").append(config.getOperation())
+               .append(", transport: ").append(config.isAsync() ? "async (java.net.http)" : "blocking (RestAssured)").append('\n');
+        summary.append(String.format("Target rate: %.2f req/s, achieved: %.2f req/s%n",
+            config.getRatePerSecond(), getAchievedRate()));
+        summary.append("Scheduled: ").append(scheduled)
+               .append(", completed: ").append(completed)
+               .append(", failures: ").append(failures)
+               .append(", errors: ").append(errors).append('\n');
+        summary.append("Schedule kept: ").append(isScheduleKept())
+               .append(" (missed: ").append(missed)
+               .append(", late starts: ").append(lateStarts)
+               .append(", max start lag: ").append(String.format("%.1f", maxStartLagMicros / 1000.0))
+               .append(" ms)\n");
+        if (missed > 0) {
+            summary.append(String.format("WARNING: %d of %d arrivals (%.2f%%) were dropped and are not in the "
+                + "percentiles below - the response time of those requests is unbounded%n",
+                missed, scheduled, getMissedRate() * 100));
+        }
+        summary.append(formatLatency("response time (from schedule)", responseTime)).append('\n');
+        summary.append(formatLatency("service time (from send)", serviceTime));
+        return summary.toString();
+    }
+    
+    private static String formatLatency(String name, Histogram histogram) {
+        if (histogram.getTotalCount() == 0) {
+            return name + ": no samples";
+        }
+        return String.format("%s (ms): p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f",
+            name,
+            histogram.getValueAtPercentile(50) / 1000.0,
+            histogram.getValueAtPercentile(90) / 1000.0,
+            histogram.getValueAtPercentile(99) / 1000.0,
+            histogram.getValueAtPercentile(99.9) / 1000.0,
+            histogram.getMaxValue() / 1000.0);
+    }
+    
+    @Override
+    public String toString() {
+        return toSummary();
+    }
+}
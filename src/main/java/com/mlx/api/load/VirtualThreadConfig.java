@@ -0,0 +1,109 @@
+package com.mlx.api.load;
+
+import com.mlx.api.utils.ConfigReader;
+
+/**
+ * Settings for a virtual-thread session run
+ * Defaults come from the vt* keys in config-staging.properties
+ */
+public class VirtualThreadConfig {
+    
+    private final int sessions;
+    private final int durationSeconds;
+    private final int iterationsPerSession;
+    private final int rampUpSeconds;
+    private final int thinkTimeMs;
+    private final int blockedThresholdMs;
+    private final int sampleIntervalMs;
+    private final boolean platformFallback;
+    
+    /**
+     * @param sessions Concurrent sessions, one virtual thread each
+     * @param durationSeconds Maximum run time in seconds
+     * @param iterationsPerSession createOrder -> getUserDetails iterations per session (0 = until duration elapses)
+     * @param rampUpSeconds Time over which sessions are started
+     * @param thinkTimeMs Pause between iterations of one session
+     * @param blockedThresholdMs Shortest pinned / monitor-blocked interval recorded by the flight recorder
+     * @param sampleIntervalMs How often scheduler and thread counts are sampled
+     * @param platformFallback Run on platform threads when the JDK has no virtual threads (instead of failing)
+     */
+    public VirtualThreadConfig(int sessions, int durationSeconds, int iterationsPerSession, int rampUpSeconds,
+                               int thinkTimeMs, int blockedThresholdMs, int sampleIntervalMs, boolean platformFallback) {
+        if (sessions < 1) {
+            throw new IllegalArgumentException("sessions must be at least 1");
+        }
+        if (durationSeconds < 1 && iterationsPerSession < 1) {
+            throw new IllegalArgumentException("Either durationSeconds or iterationsPerSession must be set");
+        }
+        if (sampleIntervalMs < 1) {
+            throw new IllegalArgumentException("sampleIntervalMs must be at least 1");
+        }
+        this.sessions = sessions;
+        this.durationSeconds = durationSeconds;
+        this.iterationsPerSession = iterationsPerSession;
+        this.rampUpSeconds = rampUpSeconds;
+        this.thinkTimeMs = thinkTimeMs;
+        this.blockedThresholdMs = blockedThresholdMs;
+        this.sampleIntervalMs = sampleIntervalMs;
+        this.platformFallback = platformFallback;
+    }
+    
+    /**
+     * Load settings from config file
+     */
+    public static VirtualThreadConfig fromConfig() {
+        return new VirtualThreadConfig(
+            ConfigReader.getIntProperty("vtSessions", 10000),
+            ConfigReader.getIntProperty("vtDurationSeconds", 300),
+            ConfigReader.getIntProperty("vtIterationsPerSession", 0),
+            ConfigReader.getIntProperty("vtRampUpSeconds", 60),
+            ConfigReader.getIntProperty("vtThinkTimeMs", 1000),
+            ConfigReader.getIntProperty("vtBlockedThresholdMs", 20),
+            ConfigReader.getIntProperty("vtSampleIntervalMs", 1000),
+            Boolean.parseBoolean(ConfigReader.getProperty("vtPlatformFallback", "false").trim()));
+    }
+    
+    public int getSessions() {
+        return sessions;
+    }
+    
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+    
+    public int getIterationsPerSession() {
+        return iterationsPerSession;
+    }
+    
+    public int getRampUpSeconds() {
+        return rampUpSeconds;
+    }
+    
+    public int getThinkTimeMs() {
+        return thinkTimeMs;
+    }
+    
+    public int getBlockedThresholdMs() {
+        return blockedThresholdMs;
+    }
+    
+    public int getSampleIntervalMs() {
+        return sampleIntervalMs;
+    }
+    
+    public boolean isPlatformFallback() {
+        return platformFallback;
+    }
+    
+    @Override
+    public String toString() {
+        return "sessions=" + sessions +
+               ", durationSeconds=" + durationSeconds +
+               ", iterationsPerSession=" + iterationsPerSession +
+               ", rampUpSeconds=" + rampUpSeconds +
+               ", thinkTimeMs=" + thinkTimeMs +
+               ", blockedThresholdMs=" + blockedThresholdMs +
+               ", sampleIntervalMs=" + sampleIntervalMs +
+               ", platformFallback=" + platformFallback;
+    }
+}
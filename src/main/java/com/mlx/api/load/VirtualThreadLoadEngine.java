@@ -0,0 +1,258 @@
+package com.mlx.api.load;
+
+import com.mlx.api.client.LoginResult;
+import com.mlx.api.client.MLXApiClient;
+import com.mlx.api.client.OrderResult;
+import com.mlx.api.client.UserResult;
+import com.mlx.api.data.OrderDataFactory;
+import com.mlx.api.http.HttpConnectionPool;
+import com.mlx.api.models.StandingOrderRequest;
+import com.mlx.api.utils.ConfigReader;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Session-per-virtual-thread load engine for very high session counts (10k+ in one JVM).
+ *
+ * Every session runs on its own virtual thread: login once, then loop createOrder -> getUserDetails
+ * with think time until the deadline. Blocking HTTP calls park the virtual thread instead of holding a
+ * platform thread, so the session count is limited by memory and the connection pool, not by threads.
+ * VirtualThreadMonitor reports whether the HTTP stack pins carriers while it blocks.
+ *
+ * Needs Java 21+ at run time (the code itself is compiled for Java 11). On older JDKs the run fails,
+ * or uses one platform thread per session when vtPlatformFallback=true.
+ * Nothing on the session path uses synchronized, so the engine itself does not pin carriers.
+ */
+public class VirtualThreadLoadEngine {
+    
+    private static final Logger logger = LogManager.getLogger(VirtualThreadLoadEngine.class);
+    
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+    
+    private final VirtualThreadConfig config;
+    private final String email;
+    private final String password;
+    private final String applicationType;
+    private final MLXApiClient client = MLXApiClient.fromConfig();
+    private volatile boolean stopped;
+    
+    // OrderDataFactory is not thread-safe and too heavy to create per session: one per carrier, each behind a lock
+    private final OrderDataFactory[] orderDataFactories;
+    private final ReentrantLock[] orderDataLocks;
+    
+    private final Histogram loginLatency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final Histogram orderLatency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final Histogram userLatency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final LongAdder sessionsStarted = new LongAdder();
+    private final LongAdder iterations = new LongAdder();
+    private final LongAdder loginFailures = new LongAdder();
+    private final LongAdder orderFailures = new LongAdder();
+    private final LongAdder userFailures = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    
+    public VirtualThreadLoadEngine(VirtualThreadConfig config, String email, String password, String applicationType) {
+        this.config = config;
+        this.email = email;
+        this.password = password;
+        this.applicationType = applicationType;
+        int stripes = VirtualThreads.schedulerParallelism();
+        this.orderDataFactories = new OrderDataFactory[stripes];
+        this.orderDataLocks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            orderDataFactories[i] = OrderDataFactory.fromConfig();
+            orderDataLocks[i] = new ReentrantLock();
+        }
+    }
+    
+    /**
+     * Engine using vt* settings and test credentials from config file
+     */
+    public static VirtualThreadLoadEngine fromConfig() {
+        return new VirtualThreadLoadEngine(
+            VirtualThreadConfig.fromConfig(),
+            ConfigReader.getProperty("testEmail"),
+            ConfigReader.getProperty("testPassword"),
+            ConfigReader.getProperty("applicationType"));
+    }
+    
+    /**
+     * Start all sessions and block until they finish
+     * @throws IllegalStateException if the JDK has no virtual threads and platform fallback is off
+     */
+    public VirtualThreadReport run() throws InterruptedException {
+        boolean virtual = VirtualThreads.isAvailable();
+        if (!virtual && !config.isPlatformFallback()) {
+            throw new IllegalStateException("Virtual-thread mode needs Java 21 or newer (running on "
+                + System.getProperty("java.version") + ") - set vtPlatformFallback=true to use platform threads");
+        }
+        logger.info("Starting " + (virtual ? "virtual" : "platform") + "-thread session run against "
+            + ConfigReader.getProperty("baseURI") + ": " + config);
+        int poolSize = ConfigReader.getIntProperty("httpPoolMaxTotal", 200);
+        if (config.getSessions() > poolSize) {
+            logger.warn(config.getSessions() + " sessions share " + poolSize + " pooled connections (httpPoolMaxTotal) "
+                + "- calls wait for a free connection, which shows up as latency");
+        }
+        
+        ThreadFactory threadFactory = virtual ? VirtualThreads.factory("mlx-vt-session-") : platformThreads();
+        VirtualThreadMonitor monitor = new VirtualThreadMonitor(config, activeSessions::get);
+        monitor.start();
+        
+        int sessions = config.getSessions();
+        long rampUpMillis = TimeUnit.SECONDS.toMillis(config.getRampUpSeconds());
+        long startNanos = System.nanoTime();
+        long deadlineNanos = config.getDurationSeconds() > 0
+            ? startNanos + TimeUnit.SECONDS.toNanos(config.getDurationSeconds())
+            : Long.MAX_VALUE;
+        
+        List<Thread> threads = new ArrayList<>(sessions);
+        try {
+            for (int i = 0; i < sessions; i++) {
+                int id = i + 1;
+                long startDelay = rampUpMillis * i / sessions;
+                Thread thread = threadFactory.newThread(() -> runSession(id, startDelay, deadlineNanos));
+                thread.start();
+                threads.add(thread);
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            stop();
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+            throw e;
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+        VirtualThreadStats stats = monitor.stop(Paths.get("test-output", "vthreads", "virtual-threads_" + timestamp + ".jfr"));
+        VirtualThreadReport report = new VirtualThreadReport(config, virtual, elapsedMillis, sessionsStarted.sum(),
+            iterations.sum(), loginFailures.sum(), orderFailures.sum(), userFailures.sum(), errors.sum(),
+            loginLatency.copy(), orderLatency.copy(), userLatency.copy(), stats);
+        logger.info("Virtual-thread session run finished\n" + report.toSummary());
+        logger.info("HTTP connection pool: " + HttpConnectionPool.install().statsSummary());
+        return report;
+    }
+    
+    /**
+     * Ask all sessions to stop after their current iteration
+     */
+    public void stop() {
+        stopped = true;
+    }
+    
+    private void runSession(int id, long startDelayMillis, long deadlineNanos) {
+        try {
+            if (startDelayMillis > 0) {
+                Thread.sleep(startDelayMillis);
+            }
+            if (stopped || System.nanoTime() >= deadlineNanos) {
+                return;
+            }
+            sessionsStarted.increment();
+            activeSessions.incrementAndGet();
+            try {
+                // Step 1: Login - every session holds its own token
+                long loginStart = System.nanoTime();
+                LoginResult login = client.login(email, password, applicationType);
+                record(loginLatency, System.nanoTime() - loginStart);
+                if (!login.isLoginSuccessful()) {
+                    loginFailures.increment();
+                    return;
+                }
+                
+                int maxIterations = config.getIterationsPerSession();
+                int completed = 0;
+                while (!stopped && System.nanoTime() < deadlineNanos
+                        && (maxIterations == 0 || completed < maxIterations)) {
+                    runIteration(id, login);
+                    completed++;
+                    iterations.increment();
+                    if (config.getThinkTimeMs() > 0) {
+                        Thread.sleep(config.getThinkTimeMs());
+                    }
+                }
+            } finally {
+                activeSessions.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            errors.increment();
+            logger.error("Session " + id + " login failed: " + e.getMessage());
+        }
+    }
+    
+    private void runIteration(int id, LoginResult login) {
+        try {
+            // Step 2: Build order (not part of the measured latency)
+            StandingOrderRequest order = newOrder(id);
+            
+            // Step 3: createOrder
+            long orderStart = System.nanoTime();
+            OrderResult orderResult = client.saveOrder(login.getAuthToken(), login.getUserId(), order);
+            record(orderLatency, System.nanoTime() - orderStart);
+            if (orderResult.getStatusCode() != 201) {
+                orderFailures.increment();
+            }
+            
+            // Step 4: getUserDetails
+            long userStart = System.nanoTime();
+            UserResult userResult = client.getUser(login.getAuthToken(), login.getUserId());
+            record(userLatency, System.nanoTime() - userStart);
+            if (userResult.getStatusCode() != 200) {
+                userFailures.increment();
+            }
+        } catch (Exception e) {
+            errors.increment();
+            logger.error("Session " + id + " iteration failed: " + e.getMessage());
+        }
+    }
+    
+    private StandingOrderRequest newOrder(int id) {
+        int stripe = id % orderDataFactories.length;
+        ReentrantLock lock = orderDataLocks[stripe];
+        lock.lock();
+        try {
+            return orderDataFactories[stripe].newStandingOrder().getRequest();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private static ThreadFactory platformThreads() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "mlx-session-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+    
+    private static void record(Histogram histogram, long elapsedNanos) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_LATENCY_MICROS));
+    }
+    
+    /**
+     * Command line entry point - runs with the settings from config file
+     */
+    public static void main(String[] args) throws InterruptedException {
+        VirtualThreadReport report = fromConfig().run();
+        System.out.println(report.toSummary());
+    }
+}
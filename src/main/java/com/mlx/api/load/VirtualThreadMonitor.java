@@ -0,0 +1,246 @@
+package com.mlx.api.load;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.PlatformManagedObject;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Watches the virtual thread scheduler during a run.
+ *
+ * Pinning and blocked time come from a flight recording (jdk.VirtualThreadPinned, jdk.JavaMonitorEnter,
+ * jdk.VirtualThreadSubmitFailed) that is parsed when the run stops; the JFR API exists since Java 11 and
+ * events a JDK does not know are simply never recorded. Scheduler counts are sampled from
+ * jdk.management.VirtualThreadSchedulerMXBean (JDK 24+) when present, platform thread counts from
+ * ThreadMXBean on every JDK.
+ */
+class VirtualThreadMonitor {
+    
+    private static final Logger logger = LogManager.getLogger(VirtualThreadMonitor.class);
+    
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String MONITOR_ENTER_EVENT = "jdk.JavaMonitorEnter";
+    private static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+    private static final int TOP_SITES = 5;
+    
+    private final VirtualThreadConfig config;
+    private final IntSupplier activeSessions;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final SchedulerBean scheduler = SchedulerBean.find();
+    private ScheduledExecutorService sampler;
+    private Recording recording;
+    
+    // Written by the sampler thread only, read after it has been shut down
+    private int peakPlatformThreads;
+    private int peakActiveSessions;
+    private long peakCarrierThreads = -1;
+    private long peakMountedThreads = -1;
+    private long peakQueuedThreads = -1;
+    
+    VirtualThreadMonitor(VirtualThreadConfig config, IntSupplier activeSessions) {
+        this.config = config;
+        this.activeSessions = activeSessions;
+    }
+    
+    void start() {
+        if (FlightRecorder.isAvailable()) {
+            Duration threshold = Duration.ofMillis(config.getBlockedThresholdMs());
+            recording = new Recording();
+            recording.setName("mlx-virtual-threads");
+            recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recording.enable(MONITOR_ENTER_EVENT).withThreshold(threshold).withStackTrace();
+            recording.enable(SUBMIT_FAILED_EVENT);
+            recording.start();
+        } else {
+            logger.warn("Flight recorder not available - pinning and blocked time will not be reported");
+        }
+        if (scheduler == null) {
+            logger.info("VirtualThreadSchedulerMXBean not available on Java " + System.getProperty("java.version")
+                + " - carrier counts come from platform thread samples only");
+        }
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mlx-vt-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(this::sample, 0, config.getSampleIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+    
+    private void sample() {
+        peakPlatformThreads = Math.max(peakPlatformThreads, threads.getThreadCount());
+        peakActiveSessions = Math.max(peakActiveSessions, activeSessions.getAsInt());
+        if (scheduler != null) {
+            peakCarrierThreads = Math.max(peakCarrierThreads, scheduler.poolSize());
+            peakMountedThreads = Math.max(peakMountedThreads, scheduler.mounted());
+            peakQueuedThreads = Math.max(peakQueuedThreads, scheduler.queued());
+        }
+    }
+    
+    /**
+     * Stop sampling and recording
+     * @param recordingFile Where to keep the flight recording
+     */
+    VirtualThreadStats stop(Path recordingFile) throws InterruptedException {
+        sampler.shutdown();
+        sampler.awaitTermination(config.getSampleIntervalMs() + 1000L, TimeUnit.MILLISECONDS);
+        sample();
+        
+        int parallelism = scheduler != null ? scheduler.parallelism() : VirtualThreads.schedulerParallelism();
+        if (recording == null) {
+            return new VirtualThreadStats(false, -1, -1, -1, new HashMap<>(), -1, -1, new HashMap<>(), -1,
+                parallelism, peakCarrierThreads, peakMountedThreads, peakQueuedThreads,
+                peakPlatformThreads, peakActiveSessions, null);
+        }
+        
+        recording.stop();
+        long pinnedCount = 0;
+        long pinnedTotalNanos = 0;
+        long pinnedMaxNanos = 0;
+        long monitorCount = 0;
+        long monitorTotalNanos = 0;
+        long submitFailures = 0;
+        Map<String, Long> pinnedSites = new HashMap<>();
+        Map<String, Long> monitors = new HashMap<>();
+        try {
+            if (recordingFile.getParent() != null) {
+                Files.createDirectories(recordingFile.getParent());
+            }
+            recording.dump(recordingFile);
+            for (RecordedEvent event : RecordingFile.readAllEvents(recordingFile)) {
+                String name = event.getEventType().getName();
+                long nanos = event.getDuration().toNanos();
+                if (PINNED_EVENT.equals(name)) {
+                    pinnedCount++;
+                    pinnedTotalNanos += nanos;
+                    pinnedMaxNanos = Math.max(pinnedMaxNanos, nanos);
+                    pinnedSites.merge(site(event.getStackTrace()), 1L, Long::sum);
+                } else if (MONITOR_ENTER_EVENT.equals(name)) {
+                    monitorCount++;
+                    monitorTotalNanos += nanos;
+                    RecordedClass monitorClass = event.getClass("monitorClass");
+                    monitors.merge(monitorClass == null ? "unknown" : monitorClass.getName(), 1L, Long::sum);
+                } else if (SUBMIT_FAILED_EVENT.equals(name)) {
+                    submitFailures++;
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Cannot read flight recording " + recordingFile + ": " + e.getMessage());
+        } finally {
+            recording.close();
+        }
+        if (pinnedCount > 0) {
+            logger.warn("Virtual threads were pinned to their carrier " + pinnedCount + " times - see " + recordingFile);
+        }
+        return new VirtualThreadStats(true, pinnedCount, pinnedTotalNanos, pinnedMaxNanos, top(pinnedSites),
+            monitorCount, monitorTotalNanos, top(monitors), submitFailures, parallelism,
+            peakCarrierThreads, peakMountedThreads, peakQueuedThreads, peakPlatformThreads, peakActiveSessions,
+            recordingFile.toString());
+    }
+    
+    /**
+     * First frame outside the JDK - the library or test code that blocked while holding a monitor
+     */
+    private static String site(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return format(frame);
+            }
+        }
+        return format(stackTrace.getFrames().get(0));
+    }
+    
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+    
+    private static Map<String, Long> top(Map<String, Long> counts) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(counts.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+        Map<String, Long> top = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : entries.subList(0, Math.min(TOP_SITES, entries.size()))) {
+            top.put(entry.getKey(), entry.getValue());
+        }
+        return top;
+    }
+    
+    /**
+     * Reflective handle on jdk.management.VirtualThreadSchedulerMXBean
+     */
+    private static final class SchedulerBean {
+        
+        private final Object bean;
+        private final Method parallelism;
+        private final Method poolSize;
+        private final Method mounted;
+        private final Method queued;
+        
+        private SchedulerBean(Object bean, Class<?> type) throws NoSuchMethodException {
+            this.bean = bean;
+            this.parallelism = type.getMethod("getParallelism");
+            this.poolSize = type.getMethod("getPoolSize");
+            this.mounted = type.getMethod("getMountedVirtualThreadCount");
+            this.queued = type.getMethod("getQueuedVirtualThreadCount");
+        }
+        
+        static SchedulerBean find() {
+            try {
+                Class<? extends PlatformManagedObject> type = Class.forName("jdk.management.VirtualThreadSchedulerMXBean")
+                    .asSubclass(PlatformManagedObject.class);
+                return new SchedulerBean(ManagementFactory.getPlatformMXBean(type), type);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+        
+        int parallelism() {
+            return (int) read(parallelism);
+        }
+        
+        long poolSize() {
+            return read(poolSize);
+        }
+        
+        long mounted() {
+            return read(mounted);
+        }
+        
+        long queued() {
+            return read(queued);
+        }
+        
+        private long read(Method method) {
+            try {
+                return ((Number) method.invoke(bean)).longValue();
+            } catch (ReflectiveOperationException e) {
+                return -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.mlx.api.load;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Result of a virtual-thread session run
+ * Latencies are recorded in microseconds per call; stats hold pinning, blocked time and scheduler counts
+ */
+public class VirtualThreadReport {
+    
+    private final VirtualThreadConfig config;
+    private final boolean virtualThreads;
+    private final long elapsedMillis;
+    private final long sessionsStarted;
+    private final long iterations;
+    private final long loginFailures;
+    private final long orderFailures;
+    private final long userFailures;
+    private final long errors;
+    private final Histogram loginLatency;
+    private final Histogram orderLatency;
+    private final Histogram userLatency;
+    private final VirtualThreadStats stats;
+    
+    public VirtualThreadReport(VirtualThreadConfig config, boolean virtualThreads, long elapsedMillis,
+                               long sessionsStarted, long iterations, long loginFailures, long orderFailures,
+                               long userFailures, long errors, Histogram loginLatency, Histogram orderLatency,
+                               Histogram userLatency, VirtualThreadStats stats) {
+        this.config = config;
+        this.virtualThreads = virtualThreads;
+        this.elapsedMillis = elapsedMillis;
+        this.sessionsStarted = sessionsStarted;
+        this.iterations = iterations;
+        this.loginFailures = loginFailures;
+        this.orderFailures = orderFailures;
+        this.userFailures = userFailures;
+        this.errors = errors;
+        this.loginLatency = loginLatency;
+        this.orderLatency = orderLatency;
+        this.userLatency = userLatency;
+        this.stats = stats;
+    }
+    
+    public VirtualThreadConfig getConfig() {
+        return config;
+    }
+    
+    /**
+     * False when the run fell back to platform threads (JDK without virtual threads)
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+    
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+    
+    public long getSessionsStarted() {
+        return sessionsStarted;
+    }
+    
+    /**
+     * Completed createOrder -> getUserDetails iterations over all sessions
+     */
+    public long getIterations() {
+        return iterations;
+    }
+    
+    public long getLoginFailures() {
+        return loginFailures;
+    }
+    
+    public long getOrderFailures() {
+        return orderFailures;
+    }
+    
+    public long getUserFailures() {
+        return userFailures;
+    }
+    
+    public long getErrors() {
+        return errors;
+    }
+    
+    public double getIterationThroughput() {
+        return elapsedMillis == 0 ? 0 : iterations * 1000.0 / elapsedMillis;
+    }
+    
+    public Histogram getLoginLatency() {
+        return loginLatency;
+    }
+    
+    public Histogram getOrderLatency() {
+        return orderLatency;
+    }
+    
+    public Histogram getUserLatency() {
+        return userLatency;
+    }
+    
+    public VirtualThreadStats getStats() {
+        return stats;
+    }
+    
+    /**
+     * Human readable summary for logs and reports
+     */
+    public String toSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append("Threads: ").append(virtualThreads ? "virtual" : "platform (fallback)")
+               .append(", Java ").append(System.getProperty("java.version")).append('\n');
+        summary.append("Elapsed: ").append(elapsedMillis).append(" ms\n");
+        summary.append("Sessions started: ").append(sessionsStarted).append(" of ").append(config.getSessions()).append('\n');
+        summary.append("Iterations: ").append(iterations)
+               .append(String.format(" (%.2f/s)", getIterationThroughput())).append('\n');
+        summary.append("Failures: login=").append(loginFailures)
+               .append(", saveOrder=").append(orderFailures)
+               .append(", getUser=").append(userFailures)
+               .append(", errors=").append(errors).append('\n');
+        summary.append(formatLatency("login", loginLatency)).append('\n');
+        summary.append(formatLatency("saveOrder", orderLatency)).append('\n');
+        summary.append(formatLatency("getUser", userLatency)).append('\n');
+        summary.append(stats.toSummary());
+        return summary.toString();
+    }
+    
+    private static String formatLatency(String name, Histogram histogram) {
+        if (histogram.getTotalCount() == 0) {
+            return name + " latency: no samples";
+        }
+        return String.format("%s latency (ms): p50=%.1f p90=%.1f p99=%.1f max=%.1f",
+            name,
+            histogram.getValueAtPercentile(50) / 1000.0,
+            histogram.getValueAtPercentile(90) / 1000.0,
+            histogram.getValueAtPercentile(99) / 1000.0,
+            histogram.getMaxValue() / 1000.0);
+    }
+    
+    @Override
+    public String toString() {
+        return toSummary();
+    }
+}
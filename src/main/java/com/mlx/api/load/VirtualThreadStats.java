@@ -0,0 +1,185 @@
+package com.mlx.api.load;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Pinning, blocked-time and scheduler statistics of a virtual-thread run, see VirtualThreadMonitor
+ * Counts that the running JDK cannot provide are -1.
+ */
+public class VirtualThreadStats {
+    
+    private final boolean recorded;
+    private final long pinnedCount;
+    private final long pinnedTotalNanos;
+    private final long pinnedMaxNanos;
+    private final Map<String, Long> pinnedSites;
+    private final long monitorBlockedCount;
+    private final long monitorBlockedTotalNanos;
+    private final Map<String, Long> blockedMonitors;
+    private final long submitFailures;
+    private final int schedulerParallelism;
+    private final long peakCarrierThreads;
+    private final long peakMountedThreads;
+    private final long peakQueuedThreads;
+    private final int peakPlatformThreads;
+    private final int peakActiveSessions;
+    private final String recordingFile;
+    
+    public VirtualThreadStats(boolean recorded, long pinnedCount, long pinnedTotalNanos, long pinnedMaxNanos,
+                              Map<String, Long> pinnedSites, long monitorBlockedCount, long monitorBlockedTotalNanos,
+                              Map<String, Long> blockedMonitors, long submitFailures, int schedulerParallelism,
+                              long peakCarrierThreads, long peakMountedThreads, long peakQueuedThreads,
+                              int peakPlatformThreads, int peakActiveSessions, String recordingFile) {
+        this.recorded = recorded;
+        this.pinnedCount = pinnedCount;
+        this.pinnedTotalNanos = pinnedTotalNanos;
+        this.pinnedMaxNanos = pinnedMaxNanos;
+        this.pinnedSites = Collections.unmodifiableMap(pinnedSites);
+        this.monitorBlockedCount = monitorBlockedCount;
+        this.monitorBlockedTotalNanos = monitorBlockedTotalNanos;
+        this.blockedMonitors = Collections.unmodifiableMap(blockedMonitors);
+        this.submitFailures = submitFailures;
+        this.schedulerParallelism = schedulerParallelism;
+        this.peakCarrierThreads = peakCarrierThreads;
+        this.peakMountedThreads = peakMountedThreads;
+        this.peakQueuedThreads = peakQueuedThreads;
+        this.peakPlatformThreads = peakPlatformThreads;
+        this.peakActiveSessions = peakActiveSessions;
+        this.recordingFile = recordingFile;
+    }
+    
+    /**
+     * False if the flight recorder was not available - pinning and blocked-time counts are then -1
+     */
+    public boolean isRecorded() {
+        return recorded;
+    }
+    
+    /**
+     * Times a virtual thread blocked while pinned to its carrier (jdk.VirtualThreadPinned)
+     */
+    public long getPinnedCount() {
+        return pinnedCount;
+    }
+    
+    public long getPinnedTotalNanos() {
+        return pinnedTotalNanos;
+    }
+    
+    public long getPinnedMaxNanos() {
+        return pinnedMaxNanos;
+    }
+    
+    /**
+     * Most frequent pinning sites (first non-JDK stack frame -> count), most frequent first
+     */
+    public Map<String, Long> getPinnedSites() {
+        return pinnedSites;
+    }
+    
+    /**
+     * Contended monitor entries longer than the threshold, all threads (jdk.JavaMonitorEnter)
+     */
+    public long getMonitorBlockedCount() {
+        return monitorBlockedCount;
+    }
+    
+    public long getMonitorBlockedTotalNanos() {
+        return monitorBlockedTotalNanos;
+    }
+    
+    /**
+     * Most contended monitor classes (class -> count), most frequent first
+     */
+    public Map<String, Long> getBlockedMonitors() {
+        return blockedMonitors;
+    }
+    
+    /**
+     * Virtual threads the scheduler failed to start or continue (jdk.VirtualThreadSubmitFailed)
+     */
+    public long getSubmitFailures() {
+        return submitFailures;
+    }
+    
+    public int getSchedulerParallelism() {
+        return schedulerParallelism;
+    }
+    
+    /**
+     * Largest carrier pool size seen - above parallelism means the scheduler compensated for pinned carriers
+     */
+    public long getPeakCarrierThreads() {
+        return peakCarrierThreads;
+    }
+    
+    public long getPeakMountedThreads() {
+        return peakMountedThreads;
+    }
+    
+    public long getPeakQueuedThreads() {
+        return peakQueuedThreads;
+    }
+    
+    /**
+     * Largest number of live platform threads in the JVM (carriers included, virtual threads not)
+     */
+    public int getPeakPlatformThreads() {
+        return peakPlatformThreads;
+    }
+    
+    public int getPeakActiveSessions() {
+        return peakActiveSessions;
+    }
+    
+    /**
+     * Flight recording with the raw events (open in JDK Mission Control), or null
+     */
+    public String getRecordingFile() {
+        return recordingFile;
+    }
+    
+    /**
+     * Human readable summary for logs and reports
+     */
+    public String toSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append("Peak active sessions: ").append(peakActiveSessions)
+               .append(", peak platform threads: ").append(peakPlatformThreads).append('\n');
+        summary.append("Scheduler: parallelism=").append(schedulerParallelism)
+               .append(", peak carriers=").append(format(peakCarrierThreads))
+               .append(", peak mounted=").append(format(peakMountedThreads))
+               .append(", peak queued=").append(format(peakQueuedThreads))
+               .append(", submit failures=").append(format(submitFailures)).append('\n');
+        if (!recorded) {
+            summary.append("Pinning / blocked time: not recorded (flight recorder unavailable)");
+            return summary.toString();
+        }
+        summary.append(String.format("Pinned: %d events, total %.1f ms, max %.1f ms%n",
+            pinnedCount, pinnedTotalNanos / 1e6, pinnedMaxNanos / 1e6));
+        appendTop(summary, pinnedSites);
+        summary.append(String.format("Monitor blocked: %d events, total %.1f ms%n",
+            monitorBlockedCount, monitorBlockedTotalNanos / 1e6));
+        appendTop(summary, blockedMonitors);
+        if (recordingFile != null) {
+            summary.append("Flight recording: ").append(recordingFile);
+        }
+        return summary.toString().trim();
+    }
+    
+    private static void appendTop(StringBuilder summary, Map<String, Long> top) {
+        for (Map.Entry<String, Long> entry : top.entrySet()) {
+            summary.append("  ").append(entry.getValue()).append(" x ").append(entry.getKey()).append('\n');
+        }
+    }
+    
+    private static String format(long value) {
+        return value < 0 ? "n/a" : String.valueOf(value);
+    }
+    
+    @Override
+    public String toString() {
+        return toSummary();
+    }
+}
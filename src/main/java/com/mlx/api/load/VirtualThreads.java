@@ -0,0 +1,83 @@
+package com.mlx.api.load;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to JDK 21+ virtual threads from code compiled for Java 11.
+ *
+ * Thread.ofVirtual() is looked up reflectively once; on older JDKs isAvailable() is false and
+ * callers fall back to platform threads.
+ */
+public class VirtualThreads {
+    
+    private static final Logger logger = LogManager.getLogger(VirtualThreads.class);
+    
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        try {
+            // Methods of the public Thread.Builder interface - the builder class itself is JDK internal
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builder.getMethod("name", String.class, long.class);
+            builderFactory = builder.getMethod("factory");
+        } catch (ReflectiveOperationException e) {
+            logger.debug("Virtual threads not available on Java " + System.getProperty("java.version"));
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+    }
+    
+    private VirtualThreads() {
+    }
+    
+    /**
+     * True when running on a JDK with virtual threads (21+)
+     */
+    public static boolean isAvailable() {
+        return OF_VIRTUAL != null;
+    }
+    
+    /**
+     * Factory for unstarted virtual threads named prefix0, prefix1, ...
+     * @throws IllegalStateException if the JDK has no virtual threads
+     */
+    public static ThreadFactory factory(String namePrefix) {
+        if (!isAvailable()) {
+            throw new IllegalStateException("Virtual threads need Java 21 or newer, running on "
+                + System.getProperty("java.version"));
+        }
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            builder = BUILDER_NAME.invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create virtual thread factory", e);
+        }
+    }
+    
+    /**
+     * Carrier threads the virtual thread scheduler runs on (jdk.virtualThreadScheduler.parallelism)
+     */
+    public static int schedulerParallelism() {
+        String parallelism = System.getProperty("jdk.virtualThreadScheduler.parallelism");
+        if (parallelism != null) {
+            try {
+                return Integer.parseInt(parallelism.trim());
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring invalid jdk.virtualThreadScheduler.parallelism: " + parallelism);
+            }
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,125 @@
+package com.mlx.api.load;
+
+import com.mlx.api.client.LoginResult;
+import com.mlx.api.client.MLXApiClient;
+import com.mlx.api.client.OrderResult;
+import com.mlx.api.data.OrderDataFactory;
+import com.mlx.api.data.StandingOrderData;
+import com.mlx.api.session.Session;
+import com.mlx.api.session.SessionCache;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One closed-loop virtual user: login -> build order -> saveOrder, repeated
+ * With loadLoginEveryIteration=false the login step is replaced by the cached suite session
+ * Each virtual user owns its data factory and histograms; the stateless API client is shared by all of them
+ */
+class VirtualUser implements Runnable {
+    
+    private static final Logger logger = LogManager.getLogger(VirtualUser.class);
+    
+    static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+    
+    private final int id;
+    private final LoadConfig config;
+    private final String email;
+    private final String password;
+    private final String applicationType;
+    private final long startDelayMillis;
+    private final long deadlineNanos;
+    private final ClosedLoopLoadEngine engine;
+    private final MLXApiClient client;
+    
+    private final OrderDataFactory orderDataFactory = OrderDataFactory.fromConfig();
+    
+    final Histogram loginLatency = new Histogram(MAX_LATENCY_MICROS, 3);
+    final Histogram orderLatency = new Histogram(MAX_LATENCY_MICROS, 3);
+    long iterations;
+    long loginFailures;
+    long orderFailures;
+    long errors;
+    
+    VirtualUser(int id, LoadConfig config, String email, String password, String applicationType,
+                long startDelayMillis, long deadlineNanos, ClosedLoopLoadEngine engine, MLXApiClient client) {
+        this.id = id;
+        this.config = config;
+        this.email = email;
+        this.password = password;
+        this.applicationType = applicationType;
+        this.startDelayMillis = startDelayMillis;
+        this.deadlineNanos = deadlineNanos;
+        this.engine = engine;
+        this.client = client;
+    }
+    
+    @Override
+    public void run() {
+        try {
+            if (startDelayMillis > 0) {
+                Thread.sleep(startDelayMillis);
+            }
+            logger.info("Virtual user " + id + " started");
+            
+            int maxIterations = config.getIterationsPerUser();
+            while (!engine.isStopped() && System.nanoTime() < deadlineNanos
+                    && (maxIterations == 0 || iterations < maxIterations)) {
+                runIteration();
+                iterations++;
+                
+                if (config.getThinkTimeMs() > 0) {
+                    Thread.sleep(config.getThinkTimeMs());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Virtual user " + id + " finished after " + iterations + " iterations");
+    }
+    
+    private void runIteration() {
+        try {
+            // Step 1: Login (or reuse the cached session)
+            String authToken;
+            String userId;
+            if (config.isLoginEveryIteration()) {
+                long loginStart = System.nanoTime();
+                LoginResult login = client.login(email, password, applicationType);
+                record(loginLatency, System.nanoTime() - loginStart);
+                
+                if (login.getStatusCode() != 200) {
+                    loginFailures++;
+                    return;
+                }
+                authToken = login.getAuthToken();
+                userId = login.getUserId();
+            } else {
+                Session session = SessionCache.getInstance().getSession(email, password, applicationType);
+                authToken = session.getAuthToken();
+                userId = session.getUserId();
+            }
+            
+            // Step 2: Build order (not part of the measured latency)
+            StandingOrderData standingOrder = orderDataFactory.newStandingOrder();
+            
+            // Step 3: saveOrder
+            long orderStart = System.nanoTime();
+            OrderResult order = client.saveOrder(authToken, userId, standingOrder.getRequest());
+            record(orderLatency, System.nanoTime() - orderStart);
+            
+            if (order.getStatusCode() != 201) {
+                orderFailures++;
+            }
+        } catch (Exception e) {
+            errors++;
+            logger.error("Virtual user " + id + " iteration failed: " + e.getMessage());
+        }
+    }
+    
+    private static void record(Histogram histogram, long elapsedNanos) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_LATENCY_MICROS));
+    }
+}
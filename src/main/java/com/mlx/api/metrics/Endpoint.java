@@ -0,0 +1,30 @@
+package com.mlx.api.metrics;
+
+/**
+ * MLX API endpoints called through the page objects
+ */
+public enum Endpoint {
+    
+    LOGIN("login", "/users/login"),
+    SAVE_ORDER("saveOrder", "/orders/saveOrder"),
+    GET_USER("getUser", "/users/{userId}");
+    
+    private final String metricName;
+    private final String path;
+    
+    Endpoint(String metricName, String path) {
+        this.metricName = metricName;
+        this.path = path;
+    }
+    
+    /**
+     * Short name used in metric keys, config keys and reports (e.g. saveOrder)
+     */
+    public String getMetricName() {
+        return metricName;
+    }
+    
+    public String getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,270 @@
+package com.mlx.api.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Suite-wide latency recorder for every call made through the page objects.
+ *
+ * One HdrHistogram Recorder per endpoint and status class is allocated up front, so recording is a
+ * wait-free array update with no allocation. Readers drain the recorders into cumulative histograms,
+ * which can be printed as percentiles or written to a mergeable histogram log (.hlog).
+ * Per-phase times (DNS, connect, TLS, write, first byte, body read - see Phase) are kept the same way,
+ * per endpoint and phase; connection phases only have samples for requests that opened a connection.
+ * Values are recorded in microseconds, anything above one minute is clamped.
+ */
+public class LatencyRecorder {
+    
+    private static final Logger logger = LogManager.getLogger(LatencyRecorder.class);
+    
+    public static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    
+    private static final Endpoint[] ENDPOINTS = Endpoint.values();
+    private static final StatusClass[] STATUS_CLASSES = StatusClass.values();
+    private static final Phase[] PHASES = Phase.values();
+    
+    private static final Recorder[][] recorders = new Recorder[ENDPOINTS.length][STATUS_CLASSES.length];
+    private static final Histogram[][] intervals = new Histogram[ENDPOINTS.length][STATUS_CLASSES.length];
+    private static final Histogram[][] totals = new Histogram[ENDPOINTS.length][STATUS_CLASSES.length];
+    private static final Recorder[][] phaseRecorders = new Recorder[ENDPOINTS.length][PHASES.length];
+    private static final Histogram[][] phaseIntervals = new Histogram[ENDPOINTS.length][PHASES.length];
+    private static final Histogram[][] phaseTotals = new Histogram[ENDPOINTS.length][PHASES.length];
+    private static final long startTimeMillis = System.currentTimeMillis();
+    
+    static {
+        for (int e = 0; e < ENDPOINTS.length; e++) {
+            for (int s = 0; s < STATUS_CLASSES.length; s++) {
+                recorders[e][s] = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+                totals[e][s] = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+            }
+            for (int p = 0; p < PHASES.length; p++) {
+                phaseRecorders[e][p] = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+                phaseTotals[e][p] = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+            }
+        }
+    }
+    
+    private LatencyRecorder() {
+    }
+    
+    /**
+     * Record one completed call
+     * @param endpoint Endpoint that was called
+     * @param statusCode HTTP status code of the response
+     * @param elapsedNanos Time from send to response in nanoseconds
+     */
+    public static void record(Endpoint endpoint, int statusCode, long elapsedNanos) {
+        recorders[endpoint.ordinal()][StatusClass.indexOf(statusCode)].recordValue(toMicros(elapsedNanos));
+    }
+    
+    /**
+     * Record a call that failed without a response (connection error, timeout)
+     */
+    public static void recordError(Endpoint endpoint, long elapsedNanos) {
+        recorders[endpoint.ordinal()][StatusClass.ERROR.ordinal()].recordValue(toMicros(elapsedNanos));
+    }
+    
+    /**
+     * Record the time one phase of a call took (see RequestTiming)
+     */
+    public static void recordPhase(Endpoint endpoint, Phase phase, long elapsedNanos) {
+        phaseRecorders[endpoint.ordinal()][phase.ordinal()].recordValue(toMicros(elapsedNanos));
+    }
+    
+    private static long toMicros(long elapsedNanos) {
+        long micros = elapsedNanos / 1000;
+        if (micros < 0) {
+            return 0;
+        }
+        return micros > HIGHEST_TRACKABLE_MICROS ? HIGHEST_TRACKABLE_MICROS : micros;
+    }
+    
+    /**
+     * Cumulative histogram for one endpoint and status class since the start of the run
+     */
+    public static synchronized Histogram getHistogram(Endpoint endpoint, StatusClass statusClass) {
+        drain();
+        return totals[endpoint.ordinal()][statusClass.ordinal()].copy();
+    }
+    
+    /**
+     * Cumulative histograms of every endpoint and status class, indexed [endpoint.ordinal()][statusClass.ordinal()];
+     * drains the recorders once for the whole set instead of once per histogram
+     */
+    public static synchronized Histogram[][] getHistograms() {
+        drain();
+        Histogram[][] copies = new Histogram[ENDPOINTS.length][STATUS_CLASSES.length];
+        for (int e = 0; e < ENDPOINTS.length; e++) {
+            for (int s = 0; s < STATUS_CLASSES.length; s++) {
+                copies[e][s] = totals[e][s].copy();
+            }
+        }
+        return copies;
+    }
+    
+    /**
+     * Cumulative histogram for one endpoint over all status classes
+     */
+    public static synchronized Histogram getHistogram(Endpoint endpoint) {
+        drain();
+        Histogram merged = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        for (Histogram histogram : totals[endpoint.ordinal()]) {
+            merged.add(histogram);
+        }
+        return merged;
+    }
+    
+    /**
+     * Cumulative histogram of one phase of an endpoint's calls since the start of the run
+     */
+    public static synchronized Histogram getPhaseHistogram(Endpoint endpoint, Phase phase) {
+        drain();
+        return phaseTotals[endpoint.ordinal()][phase.ordinal()].copy();
+    }
+    
+    private static void drain() {
+        for (int e = 0; e < ENDPOINTS.length; e++) {
+            for (int s = 0; s < STATUS_CLASSES.length; s++) {
+                intervals[e][s] = recorders[e][s].getIntervalHistogram(intervals[e][s]);
+                totals[e][s].add(intervals[e][s]);
+            }
+            for (int p = 0; p < PHASES.length; p++) {
+                phaseIntervals[e][p] = phaseRecorders[e][p].getIntervalHistogram(phaseIntervals[e][p]);
+                phaseTotals[e][p].add(phaseIntervals[e][p]);
+            }
+        }
+    }
+    
+    /**
+     * Percentile table (ms) for every endpoint and status class that has samples
+     */
+    public static synchronized String summary() {
+        drain();
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%-10s %-6s %8s %9s %9s %9s %9s %9s%n",
+            "endpoint", "status", "count", "p50", "p90", "p99", "p99.9", "max"));
+        for (int e = 0; e < ENDPOINTS.length; e++) {
+            for (int s = 0; s < STATUS_CLASSES.length; s++) {
+                Histogram histogram = totals[e][s];
+                if (histogram.getTotalCount() == 0) {
+                    continue;
+                }
+                summary.append(String.format("%-10s %-6s %8d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    ENDPOINTS[e].getMetricName(),
+                    STATUS_CLASSES[s].getLabel(),
+                    histogram.getTotalCount(),
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0));
+            }
+        }
+        return summary.toString();
+    }
+    
+    /**
+     * Percentile table (ms) per endpoint and request phase; count is how many calls went through
+     * the phase (for dns/connect/tls: how many opened a new connection)
+     */
+    public static synchronized String phaseSummary() {
+        drain();
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%-10s %-8s %8s %9s %9s %9s %9s %9s%n",
+            "endpoint", "phase", "count", "mean", "p50", "p90", "p99", "max"));
+        for (int e = 0; e < ENDPOINTS.length; e++) {
+            for (int p = 0; p < PHASES.length; p++) {
+                Histogram histogram = phaseTotals[e][p];
+                if (histogram.getTotalCount() == 0) {
+                    continue;
+                }
+                summary.append(String.format("%-10s %-8s %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    ENDPOINTS[e].getMetricName(),
+                    PHASES[p].getLabel(),
+                    histogram.getTotalCount(),
+                    histogram.getMean() / 1000.0,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getMaxValue() / 1000.0));
+            }
+        }
+        return summary.toString();
+    }
+    
+    /**
+     * Write the cumulative histograms to directory as a histogram log (one tagged entry per
+     * endpoint.statusClass and endpoint.phase.label, mergeable with HistogramLogReader/HistogramLogProcessor)
+     * plus a percentile summary text file
+     * @return The .hlog file that was written
+     */
+    public static synchronized File writeHistogramLog(String directory) throws IOException {
+        File dir = new File(directory);
+        if (!dir.exists()) {
+            dir.mkdirs();
+        }
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+        File logFile = new File(dir, "MLX_Latency_" + timestamp + ".hlog");
+        long endTimeMillis = System.currentTimeMillis();
+        
+        drain();
+        HistogramLogWriter writer;
+        try {
+            writer = new HistogramLogWriter(logFile);
+        } catch (FileNotFoundException e) {
+            throw new IOException("Cannot create histogram log: " + logFile, e);
+        }
+        try {
+            writer.outputLogFormatVersion();
+            writer.outputStartTime(startTimeMillis);
+            writer.setBaseTime(startTimeMillis);
+            writer.outputLegend();
+            for (int e = 0; e < ENDPOINTS.length; e++) {
+                for (int s = 0; s < STATUS_CLASSES.length; s++) {
+                    Histogram histogram = totals[e][s].copy();
+                    if (histogram.getTotalCount() == 0) {
+                        continue;
+                    }
+                    histogram.setTag(ENDPOINTS[e].getMetricName() + "." + STATUS_CLASSES[s].getLabel());
+                    histogram.setStartTimeStamp(startTimeMillis);
+                    histogram.setEndTimeStamp(endTimeMillis);
+                    writer.outputIntervalHistogram(histogram);
+                }
+                for (int p = 0; p < PHASES.length; p++) {
+                    Histogram histogram = phaseTotals[e][p].copy();
+                    if (histogram.getTotalCount() == 0) {
+                        continue;
+                    }
+                    histogram.setTag(ENDPOINTS[e].getMetricName() + ".phase." + PHASES[p].getLabel());
+                    histogram.setStartTimeStamp(startTimeMillis);
+                    histogram.setEndTimeStamp(endTimeMillis);
+                    writer.outputIntervalHistogram(histogram);
+                }
+            }
+        } finally {
+            writer.close();
+        }
+        
+        File summaryFile = new File(dir, "MLX_Latency_" + timestamp + ".txt");
+        try (FileWriter summaryWriter = new FileWriter(summaryFile)) {
+            summaryWriter.write("Latency in ms (recorded in microseconds)\n");
+            summaryWriter.write(summary());
+            summaryWriter.write("\nPer-phase breakdown in ms\n");
+            summaryWriter.write(phaseSummary());
+        }
+        logger.info("Latency histograms written to " + logFile.getPath());
+        return logFile;
+    }
+}
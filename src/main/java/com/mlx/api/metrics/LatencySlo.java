@@ -0,0 +1,107 @@
+package com.mlx.api.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One latency objective: the given percentile of an endpoint's latency stays below a threshold.
+ * Written in config as endpoint.pPERCENTILE<THRESHOLD, e.g. saveOrder.p95<800ms, login.p99.9<1.5s
+ */
+public class LatencySlo {
+    
+    private static final Pattern SYNTAX = Pattern.compile(
+        "\\s*([A-Za-z]+)\\.p(\\d+(?:\\.\\d+)?)\\s*<\\s*(\\d+(?:\\.\\d+)?)\\s*(ms|s)?\\s*");
+    
+    private final Endpoint endpoint;
+    private final double percentile;
+    private final double thresholdMillis;
+    
+    /**
+     * @param endpoint Endpoint the objective applies to
+     * @param percentile Percentile between 0 and 100 (exclusive), e.g. 95 or 99.9
+     * @param thresholdMillis Latency the percentile must stay below
+     */
+    public LatencySlo(Endpoint endpoint, double percentile, double thresholdMillis) {
+        if (percentile <= 0 || percentile >= 100) {
+            throw new IllegalArgumentException("SLO percentile must be between 0 and 100: " + percentile);
+        }
+        if (thresholdMillis <= 0) {
+            throw new IllegalArgumentException("SLO threshold must be positive: " + thresholdMillis);
+        }
+        this.endpoint = endpoint;
+        this.percentile = percentile;
+        this.thresholdMillis = thresholdMillis;
+    }
+    
+    /**
+     * Objective for one definition, e.g. saveOrder.p95<800ms (unit ms if omitted)
+     * @throws IllegalArgumentException for malformed definitions or unknown endpoints
+     */
+    public static LatencySlo parse(String definition) {
+        Matcher matcher = SYNTAX.matcher(definition);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("SLO must look like saveOrder.p95<800ms - got " + definition);
+        }
+        Endpoint endpoint = null;
+        for (Endpoint candidate : Endpoint.values()) {
+            if (candidate.getMetricName().equalsIgnoreCase(matcher.group(1))) {
+                endpoint = candidate;
+            }
+        }
+        if (endpoint == null) {
+            throw new IllegalArgumentException("Unknown endpoint in SLO " + definition);
+        }
+        double threshold = Double.parseDouble(matcher.group(3));
+        if ("s".equals(matcher.group(4))) {
+            threshold *= 1000;
+        }
+        return new LatencySlo(endpoint, Double.parseDouble(matcher.group(2)), threshold);
+    }
+    
+    /**
+     * Objectives for a comma-separated list of definitions; empty list for a blank value
+     */
+    public static List<LatencySlo> parseList(String definitions) {
+        if (definitions == null || definitions.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<LatencySlo> slos = new ArrayList<>();
+        for (String definition : definitions.split(",")) {
+            if (!definition.trim().isEmpty()) {
+                slos.add(parse(definition));
+            }
+        }
+        return Collections.unmodifiableList(slos);
+    }
+    
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+    
+    public double getPercentile() {
+        return percentile;
+    }
+    
+    public double getThresholdMillis() {
+        return thresholdMillis;
+    }
+    
+    /**
+     * Fraction of calls allowed above the threshold (0.05 for p95)
+     */
+    public double getAllowedExceedance() {
+        return (100 - percentile) / 100;
+    }
+    
+    @Override
+    public String toString() {
+        return endpoint.getMetricName() + ".p" + format(percentile) + "<" + format(thresholdMillis) + "ms";
+    }
+    
+    static String format(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+}
@@ -0,0 +1,152 @@
+package com.mlx.api.metrics;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Suite-wide metrics for every call made through the page objects and API clients.
+ *
+ * Counters are LongAdders (striped, so many threads can bump the same one without contending), kept
+ * per endpoint and HTTP status code and, for calls without a response, per endpoint and exception
+ * class. Timers are the per endpoint and status class histograms of LatencyRecorder, which this
+ * registry records into. Gauges are calls in flight per endpoint plus any value registered with
+ * registerGauge (pool, results sink and report queues register themselves).
+ *
+ * Endpoint and status counters are allocated up front and found by array index, so recording takes
+ * no lock and allocates nothing; an exception class gets its counter the first time it is seen.
+ * snapshot() can be called at any time while the run goes on - it copies the current values without
+ * stopping the writers, so counters read a few nanoseconds apart may be off by the calls in between.
+ */
+public final class MetricsRegistry {
+    
+    // Status codes 100-599 have their own counter; 0 (no response) and anything else share slot 0
+    private static final int STATUS_SLOTS = 600;
+    
+    private static final Endpoint[] ENDPOINTS = Endpoint.values();
+    
+    private static final LongAdder[][] statusCounters = new LongAdder[ENDPOINTS.length][STATUS_SLOTS];
+    private static final LongAdder[] inFlight = new LongAdder[ENDPOINTS.length];
+    // Generic arrays cannot be created, hence the raw array
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final ConcurrentMap<Class<?>, LongAdder>[] errorCounters = new ConcurrentMap[ENDPOINTS.length];
+    private static final ConcurrentMap<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    
+    static {
+        for (int e = 0; e < ENDPOINTS.length; e++) {
+            statusCounters[e][0] = new LongAdder();
+            for (int s = 100; s < STATUS_SLOTS; s++) {
+                statusCounters[e][s] = new LongAdder();
+            }
+            inFlight[e] = new LongAdder();
+            errorCounters[e] = new ConcurrentHashMap<>();
+        }
+    }
+    
+    private MetricsRegistry() {
+    }
+    
+    /**
+     * A call to the endpoint is about to be sent; pair with recordResponse or recordError
+     */
+    public static void requestStarted(Endpoint endpoint) {
+        inFlight[endpoint.ordinal()].increment();
+    }
+    
+    /**
+     * Count a completed call and record its latency
+     * @param elapsedNanos Time from send to response in nanoseconds
+     */
+    public static void recordResponse(Endpoint endpoint, int statusCode, long elapsedNanos) {
+        int e = endpoint.ordinal();
+        inFlight[e].decrement();
+        statusCounters[e][slot(statusCode)].increment();
+        LatencyRecorder.record(endpoint, statusCode, elapsedNanos);
+    }
+    
+    /**
+     * Count a call that failed without a response (connection error, timeout) by exception class
+     */
+    public static void recordError(Endpoint endpoint, Throwable error, long elapsedNanos) {
+        int e = endpoint.ordinal();
+        inFlight[e].decrement();
+        statusCounters[e][0].increment();
+        Class<?> errorClass = error == null ? Throwable.class : error.getClass();
+        LongAdder counter = errorCounters[e].get(errorClass);
+        if (counter == null) {
+            counter = errorCounters[e].computeIfAbsent(errorClass, key -> new LongAdder());
+        }
+        counter.increment();
+        LatencyRecorder.recordError(endpoint, elapsedNanos);
+    }
+    
+    private static int slot(int statusCode) {
+        return statusCode >= 100 && statusCode < STATUS_SLOTS ? statusCode : 0;
+    }
+    
+    /**
+     * Expose a value under name in every snapshot, replacing an earlier gauge of that name. The supplier
+     * is called by snapshot() on the reading thread, so it must be thread-safe and cheap.
+     */
+    public static void registerGauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+    
+    /**
+     * Calls to the endpoint sent but not yet completed
+     */
+    public static long getInFlight(Endpoint endpoint) {
+        return inFlight[endpoint.ordinal()].sum();
+    }
+    
+    /**
+     * Calls to the endpoint that completed with the status code (0: no response)
+     */
+    public static long getCount(Endpoint endpoint, int statusCode) {
+        return statusCounters[endpoint.ordinal()][slot(statusCode)].sum();
+    }
+    
+    /**
+     * Current values of every counter and timer with samples, plus all gauges
+     */
+    public static MetricsSnapshot snapshot() {
+        Map<String, Long> counters = new TreeMap<>();
+        Map<String, Long> gaugeValues = new TreeMap<>();
+        Map<String, Histogram> timers = new TreeMap<>();
+        Histogram[][] histograms = LatencyRecorder.getHistograms();
+        for (Endpoint endpoint : ENDPOINTS) {
+            int e = endpoint.ordinal();
+            String prefix = "requests." + endpoint.getMetricName() + ".";
+            for (int s = 0; s < STATUS_SLOTS; s++) {
+                long count = statusCounters[e][s] == null ? 0 : statusCounters[e][s].sum();
+                if (count > 0) {
+                    counters.put(prefix + (s == 0 ? "error" : Integer.toString(s)), count);
+                }
+            }
+            for (Map.Entry<Class<?>, LongAdder> error : errorCounters[e].entrySet()) {
+                counters.merge("errors." + endpoint.getMetricName() + "." + error.getKey().getSimpleName(),
+                    error.getValue().sum(), Long::sum);
+            }
+            gaugeValues.put("inFlight." + endpoint.getMetricName(), inFlight[e].sum());
+            for (StatusClass statusClass : StatusClass.values()) {
+                Histogram histogram = histograms[e][statusClass.ordinal()];
+                if (histogram.getTotalCount() > 0) {
+                    timers.put("latency." + endpoint.getMetricName() + "." + statusClass.getLabel(), histogram);
+                }
+            }
+        }
+        for (Map.Entry<String, LongSupplier> gauge : gauges.entrySet()) {
+            try {
+                gaugeValues.put(gauge.getKey(), gauge.getValue().getAsLong());
+            } catch (RuntimeException ex) {
+                // A gauge of a component that was shut down; leave it out rather than fail the snapshot
+            }
+        }
+        return new MetricsSnapshot(System.currentTimeMillis(), counters, gaugeValues, timers);
+    }
+}
@@ -0,0 +1,67 @@
+package com.mlx.api.metrics;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Values of the MetricsRegistry at one point in time; later calls do not change it.
+ *
+ * Keys: requests.<endpoint>.<status code or "error">, errors.<endpoint>.<exception class>,
+ * inFlight.<endpoint> and registered gauge names, latency.<endpoint>.<status class> (microseconds).
+ */
+public final class MetricsSnapshot {
+    
+    private final long timestampMillis;
+    private final Map<String, Long> counters;
+    private final Map<String, Long> gauges;
+    private final Map<String, Histogram> timers;
+    
+    MetricsSnapshot(long timestampMillis, Map<String, Long> counters, Map<String, Long> gauges,
+                    Map<String, Histogram> timers) {
+        this.timestampMillis = timestampMillis;
+        this.counters = Collections.unmodifiableMap(counters);
+        this.gauges = Collections.unmodifiableMap(gauges);
+        this.timers = Collections.unmodifiableMap(timers);
+    }
+    
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+    
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+    
+    /**
+     * Counter value, 0 if it has not counted anything yet
+     */
+    public long getCounter(String name) {
+        return counters.getOrDefault(name, 0L);
+    }
+    
+    public Map<String, Long> getGauges() {
+        return gauges;
+    }
+    
+    /**
+     * Latency histograms (copies) by name
+     */
+    public Map<String, Histogram> getTimers() {
+        return timers;
+    }
+    
+    /**
+     * One line per counter and gauge, and count and percentiles (ms) per timer
+     */
+    public String toSummary() {
+        StringBuilder summary = new StringBuilder();
+        counters.forEach((name, value) -> summary.append(String.format("%-40s %12d%n", name, value)));
+        gauges.forEach((name, value) -> summary.append(String.format("%-40s %12d%n", name, value)));
+        timers.forEach((name, histogram) -> summary.append(String.format("%-40s %12d  p50 %.1f  p99 %.1f  max %.1f%n",
+            name, histogram.getTotalCount(), histogram.getValueAtPercentile(50) / 1000.0,
+            histogram.getValueAtPercentile(99) / 1000.0, histogram.getMaxValue() / 1000.0)));
+        return summary.toString();
+    }
+}
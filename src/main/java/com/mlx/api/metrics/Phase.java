@@ -0,0 +1,28 @@
+package com.mlx.api.metrics;
+
+/**
+ * Phases of one HTTP request, timed by the HTTP layer behind the page objects.
+ * DNS, CONNECT and TLS only happen when the pool opens a new connection; a reused connection skips them.
+ */
+public enum Phase {
+    
+    DNS("dns"),
+    CONNECT("connect"),
+    TLS("tls"),
+    REQUEST_WRITE("write"),
+    TIME_TO_FIRST_BYTE("ttfb"),
+    BODY_READ("read");
+    
+    private final String label;
+    
+    Phase(String label) {
+        this.label = label;
+    }
+    
+    /**
+     * Short name used in reports and histogram log tags (e.g. ttfb)
+     */
+    public String getLabel() {
+        return label;
+    }
+}
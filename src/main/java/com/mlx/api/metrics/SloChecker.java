@@ -0,0 +1,289 @@
+package com.mlx.api.metrics;
+
+import com.mlx.api.utils.ConfigReader;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Checks latency SLOs against recorded samples and only reports a breach when it is statistically significant.
+ *
+ * For an objective pX < T every sample is a trial that either exceeds T or not; the objective holds
+ * while the exceedance probability is at most (100 - X) / 100. With k of n samples above T the checker
+ * computes a one-sided Clopper-Pearson (exact binomial) bound on either side of k / n at the configured
+ * confidence: BREACHED when the lower bound is above the allowed exceedance, MET when the upper bound is
+ * at or below it, INCONCLUSIVE otherwise. The reported interval of the percentile itself is the pair of
+ * order statistics bracketing it at the same confidence. Thresholds are compared at the histogram's
+ * resolution (3 significant digits).
+ *
+ * Config: latencySlos (comma-separated, e.g. saveOrder.p95<800ms,login.p99<400ms), sloConfidence (0.95),
+ * sloMinSamples (20)
+ */
+public class SloChecker {
+    
+    private static final int BISECTION_STEPS = 40;
+    private static final double[] LANCZOS = {
+        0.99999999999980993, 676.5203681218851, -1259.1392167224028, 771.32342877765313,
+        -176.61502916214059, 12.507343278686905, -0.13857109526572012,
+        9.9843695780195716e-6, 1.5056327351493116e-7
+    };
+    
+    private final List<LatencySlo> slos;
+    private final double confidence;
+    private final int minSamples;
+    
+    /**
+     * @param slos Objectives to check
+     * @param confidence Confidence level of the bounds, e.g. 0.95
+     * @param minSamples Below this many samples the verdict is INSUFFICIENT_SAMPLES
+     */
+    public SloChecker(List<LatencySlo> slos, double confidence, int minSamples) {
+        if (confidence <= 0 || confidence >= 1) {
+            throw new IllegalArgumentException("SLO confidence must be between 0 and 1: " + confidence);
+        }
+        this.slos = Collections.unmodifiableList(new ArrayList<>(slos));
+        this.confidence = confidence;
+        this.minSamples = Math.max(1, minSamples);
+    }
+    
+    /**
+     * Checker for latencySlos, sloConfidence and sloMinSamples from the config
+     */
+    public static SloChecker fromConfig() {
+        return new SloChecker(
+            LatencySlo.parseList(ConfigReader.getProperty("latencySlos", "")),
+            Double.parseDouble(ConfigReader.getProperty("sloConfidence", "0.95")),
+            ConfigReader.getIntProperty("sloMinSamples", 20));
+    }
+    
+    public List<LatencySlo> getSlos() {
+        return slos;
+    }
+    
+    public double getConfidence() {
+        return confidence;
+    }
+    
+    /**
+     * Every objective checked against the suite-wide LatencyRecorder histograms
+     */
+    public List<SloResult> checkRecorded() {
+        List<SloResult> results = new ArrayList<>();
+        for (LatencySlo slo : slos) {
+            results.add(check(slo, LatencyRecorder.getHistogram(slo.getEndpoint())));
+        }
+        return results;
+    }
+    
+    /**
+     * The objectives of one endpoint checked against the suite-wide LatencyRecorder histogram
+     */
+    public List<SloResult> checkRecorded(Endpoint endpoint) {
+        return check(endpoint, LatencyRecorder.getHistogram(endpoint));
+    }
+    
+    /**
+     * The objectives of one endpoint checked against histogram (microseconds), e.g. an open-loop response time
+     */
+    public List<SloResult> check(Endpoint endpoint, Histogram histogram) {
+        List<SloResult> results = new ArrayList<>();
+        for (LatencySlo slo : slos) {
+            if (slo.getEndpoint() == endpoint) {
+                results.add(check(slo, histogram));
+            }
+        }
+        return results;
+    }
+    
+    /**
+     * One objective checked against histogram (microseconds)
+     */
+    public SloResult check(LatencySlo slo, Histogram histogram) {
+        long n = histogram.getTotalCount();
+        double observed = n == 0 ? 0 : histogram.getValueAtPercentile(slo.getPercentile()) / 1000.0;
+        if (n < minSamples) {
+            return new SloResult(slo, SloResult.Verdict.INSUFFICIENT_SAMPLES, n, 0, observed, 0, 0, confidence);
+        }
+        long thresholdMicros = Math.round(slo.getThresholdMillis() * 1000);
+        long k = n - histogram.getCountBetweenValues(0, thresholdMicros);
+        double alpha = 1 - confidence;
+        double lower = lowerBound(n, k, alpha);
+        double upper = upperBound(n, k, alpha);
+        
+        double allowed = slo.getAllowedExceedance();
+        SloResult.Verdict verdict;
+        if (lower > allowed) {
+            verdict = SloResult.Verdict.BREACHED;
+        } else if (upper <= allowed) {
+            verdict = SloResult.Verdict.MET;
+        } else {
+            verdict = SloResult.Verdict.INCONCLUSIVE;
+        }
+        // Distribution-free bounds of the percentile itself: the order statistics whose ranks bracket
+        // Binomial(n, X / 100) at the same one-sided confidence
+        double fraction = slo.getPercentile() / 100;
+        long lowerRank = lowestRank(n, fraction, alpha);
+        long upperRank = highestRank(n, fraction, alpha);
+        double lowerMillis = histogram.getValueAtPercentile(100.0 * lowerRank / n) / 1000.0;
+        double upperMillis = histogram.getValueAtPercentile(100.0 * upperRank / n) / 1000.0;
+        return new SloResult(slo, verdict, n, k, observed, lowerMillis, upperMillis, confidence);
+    }
+    
+    /**
+     * True if any result is a significant breach
+     */
+    public static boolean anyBreached(List<SloResult> results) {
+        for (SloResult result : results) {
+            if (result.isBreached()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * One line per result
+     */
+    public static String summary(List<SloResult> results) {
+        StringBuilder summary = new StringBuilder();
+        for (SloResult result : results) {
+            summary.append(result).append(System.lineSeparator());
+        }
+        return summary.toString();
+    }
+    
+    /**
+     * Smallest p for which seeing k or more of n is still plausible: P(X >= k | p) = alpha
+     */
+    static double lowerBound(long n, long k, double alpha) {
+        if (k == 0) {
+            return 0;
+        }
+        double low = 0;
+        double high = 1;
+        for (int i = 0; i < BISECTION_STEPS; i++) {
+            double p = (low + high) / 2;
+            if (upperTail(n, k, p) > alpha) {
+                high = p;
+            } else {
+                low = p;
+            }
+        }
+        return low;
+    }
+    
+    /**
+     * Largest p for which seeing k or fewer of n is still plausible: P(X <= k | p) = alpha
+     */
+    static double upperBound(long n, long k, double alpha) {
+        if (k == n) {
+            return 1;
+        }
+        double low = 0;
+        double high = 1;
+        for (int i = 0; i < BISECTION_STEPS; i++) {
+            double p = (low + high) / 2;
+            if (lowerTail(n, k, p) > alpha) {
+                low = p;
+            } else {
+                high = p;
+            }
+        }
+        return high;
+    }
+    
+    /**
+     * Largest rank r with P(Y <= r - 1) <= alpha for Y ~ Binomial(n, fraction): the r-th smallest sample
+     * is at or below the true percentile with the checker's confidence
+     */
+    static long lowestRank(long n, double fraction, double alpha) {
+        long low = 1;
+        long high = n;
+        while (low < high) {
+            long rank = (low + high + 1) / 2;
+            if (lowerTail(n, rank - 1, fraction) <= alpha) {
+                low = rank;
+            } else {
+                high = rank - 1;
+            }
+        }
+        return low;
+    }
+    
+    /**
+     * Smallest rank r with P(Y >= r) <= alpha for Y ~ Binomial(n, fraction): the r-th smallest sample
+     * is at or above the true percentile with the checker's confidence
+     */
+    static long highestRank(long n, double fraction, double alpha) {
+        long low = 1;
+        long high = n;
+        while (low < high) {
+            long rank = (low + high) / 2;
+            if (upperTail(n, rank, fraction) <= alpha) {
+                high = rank;
+            } else {
+                low = rank + 1;
+            }
+        }
+        return low;
+    }
+    
+    /**
+     * P(X >= k) for X ~ Binomial(n, p), summed outwards from k until the terms stop mattering
+     */
+    static double upperTail(long n, long k, double p) {
+        double logTerm = logPmf(n, k, p);
+        double logSum = logTerm;
+        double logRatio = Math.log(p) - Math.log1p(-p);
+        for (long i = k; i < n; i++) {
+            logTerm += Math.log((double) (n - i) / (i + 1)) + logRatio;
+            logSum = logAdd(logSum, logTerm);
+            if (i + 1 > n * p && logTerm < logSum - 40) {
+                break;
+            }
+        }
+        return Math.min(1, Math.exp(logSum));
+    }
+    
+    /**
+     * P(X <= k) for X ~ Binomial(n, p), summed outwards from k until the terms stop mattering
+     */
+    static double lowerTail(long n, long k, double p) {
+        double logTerm = logPmf(n, k, p);
+        double logSum = logTerm;
+        double logRatio = Math.log1p(-p) - Math.log(p);
+        for (long i = k; i > 0; i--) {
+            logTerm += Math.log((double) i / (n - i + 1)) + logRatio;
+            logSum = logAdd(logSum, logTerm);
+            if (i - 1 < n * p && logTerm < logSum - 40) {
+                break;
+            }
+        }
+        return Math.min(1, Math.exp(logSum));
+    }
+    
+    private static double logPmf(long n, long k, double p) {
+        return logGamma(n + 1) - logGamma(k + 1) - logGamma(n - k + 1)
+            + k * Math.log(p) + (n - k) * Math.log1p(-p);
+    }
+    
+    private static double logAdd(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+    
+    /**
+     * ln(Gamma(x)) for x >= 1 (Lanczos approximation, g = 7)
+     */
+    private static double logGamma(double x) {
+        x -= 1;
+        double sum = LANCZOS[0];
+        for (int i = 1; i < LANCZOS.length; i++) {
+            sum += LANCZOS[i] / (x + i);
+        }
+        double t = x + 7.5;
+        return 0.5 * Math.log(2 * Math.PI) + (x + 0.5) * Math.log(t) - t + Math.log(sum);
+    }
+}
@@ -0,0 +1,107 @@
+package com.mlx.api.metrics;
+
+/**
+ * Outcome of checking one LatencySlo against a latency histogram (see SloChecker)
+ */
+public class SloResult {
+    
+    /**
+     * What the samples say about the objective at the checker's confidence level
+     */
+    public enum Verdict {
+        
+        /** Even the upper confidence bound of the percentile is below the threshold */
+        MET,
+        
+        /** Even the lower confidence bound of the percentile is above the threshold - the only failing verdict */
+        BREACHED,
+        
+        /** The confidence interval contains the threshold; more samples are needed to tell */
+        INCONCLUSIVE,
+        
+        /** Fewer samples than sloMinSamples */
+        INSUFFICIENT_SAMPLES
+    }
+    
+    private final LatencySlo slo;
+    private final Verdict verdict;
+    private final long samples;
+    private final long exceeding;
+    private final double observedMillis;
+    private final double lowerMillis;
+    private final double upperMillis;
+    private final double confidence;
+    
+    SloResult(LatencySlo slo, Verdict verdict, long samples, long exceeding, double observedMillis,
+              double lowerMillis, double upperMillis, double confidence) {
+        this.slo = slo;
+        this.verdict = verdict;
+        this.samples = samples;
+        this.exceeding = exceeding;
+        this.observedMillis = observedMillis;
+        this.lowerMillis = lowerMillis;
+        this.upperMillis = upperMillis;
+        this.confidence = confidence;
+    }
+    
+    public LatencySlo getSlo() {
+        return slo;
+    }
+    
+    public Verdict getVerdict() {
+        return verdict;
+    }
+    
+    /**
+     * True only for a statistically significant breach
+     */
+    public boolean isBreached() {
+        return verdict == Verdict.BREACHED;
+    }
+    
+    public long getSamples() {
+        return samples;
+    }
+    
+    /**
+     * Samples above the threshold
+     */
+    public long getExceeding() {
+        return exceeding;
+    }
+    
+    /**
+     * Percentile of the samples (point estimate)
+     */
+    public double getObservedMillis() {
+        return observedMillis;
+    }
+    
+    /**
+     * Lower confidence bound of the percentile
+     */
+    public double getLowerMillis() {
+        return lowerMillis;
+    }
+    
+    /**
+     * Upper confidence bound of the percentile
+     */
+    public double getUpperMillis() {
+        return upperMillis;
+    }
+    
+    public double getConfidence() {
+        return confidence;
+    }
+    
+    @Override
+    public String toString() {
+        if (verdict == Verdict.INSUFFICIENT_SAMPLES) {
+            return slo + ": " + verdict + " (" + samples + " samples)";
+        }
+        return String.format("%s: %s - p%s %.1f ms, %.0f%% CI [%.1f, %.1f] ms, %d of %d samples above threshold",
+            slo, verdict, LatencySlo.format(slo.getPercentile()), observedMillis, confidence * 100,
+            lowerMillis, upperMillis, exceeding, samples);
+    }
+}
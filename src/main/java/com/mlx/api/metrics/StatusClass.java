@@ -0,0 +1,38 @@
+package com.mlx.api.metrics;
+
+/**
+ * HTTP status class of a response; ERROR means no response was received (connection failure, timeout)
+ */
+public enum StatusClass {
+    
+    ERROR("error"),
+    INFORMATIONAL("1xx"),
+    SUCCESS("2xx"),
+    REDIRECTION("3xx"),
+    CLIENT_ERROR("4xx"),
+    SERVER_ERROR("5xx");
+    
+    private static final StatusClass[] BY_ORDINAL = values();
+    
+    private final String label;
+    
+    StatusClass(String label) {
+        this.label = label;
+    }
+    
+    public String getLabel() {
+        return label;
+    }
+    
+    /**
+     * Index of the status class for a status code - arithmetic only, safe for the hot path
+     */
+    public static int indexOf(int statusCode) {
+        int statusClass = statusCode / 100;
+        return statusClass >= 1 && statusClass <= 5 ? statusClass : ERROR.ordinal();
+    }
+    
+    public static StatusClass of(int statusCode) {
+        return BY_ORDINAL[indexOf(statusCode)];
+    }
+}
@@ -0,0 +1,71 @@
+package com.mlx.api.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Patient or service address in a saveOrder request
+ */
+@JsonPropertyOrder({"address_line_1", "city", "state", "zip"})
+public class Address {
+    
+    private final String addressLine1;
+    private final String city;
+    private final String state;
+    private final String zip;
+    
+    public Address(String addressLine1, String city, String state, String zip) {
+        this.addressLine1 = addressLine1;
+        this.city = city;
+        this.state = state;
+        this.zip = zip;
+    }
+    
+    @JsonProperty("address_line_1")
+    public String getAddressLine1() {
+        return addressLine1;
+    }
+    
+    @JsonProperty("city")
+    public String getCity() {
+        return city;
+    }
+    
+    @JsonProperty("state")
+    public String getState() {
+        return state;
+    }
+    
+    @JsonProperty("zip")
+    public String getZip() {
+        return zip;
+    }
+    
+    /**
+     * Mutable map form, for callers that still edit request bodies by key
+     */
+    public Map<String, String> toMap() {
+        Map<String, String> map = new LinkedHashMap<>();
+        map.put("address_line_1", addressLine1);
+        map.put("city", city);
+        map.put("state", state);
+        map.put("zip", zip);
+        return map;
+    }
+    
+    static List<Map<String, String>> toMaps(List<Address> addresses) {
+        if (addresses == null) {
+            return null;
+        }
+        List<Map<String, String>> maps = new ArrayList<>(addresses.size());
+        for (Address address : addresses) {
+            maps.add(address == null ? null : address.toMap());
+        }
+        return maps;
+    }
+}
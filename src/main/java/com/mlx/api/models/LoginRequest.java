@@ -0,0 +1,36 @@
+package com.mlx.api.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Body of a login request
+ */
+@JsonPropertyOrder({"email", "password", "application_type"})
+public class LoginRequest {
+    
+    private final String email;
+    private final String password;
+    private final String applicationType;
+    
+    public LoginRequest(String email, String password, String applicationType) {
+        this.email = email;
+        this.password = password;
+        this.applicationType = applicationType;
+    }
+    
+    @JsonProperty("email")
+    public String getEmail() {
+        return email;
+    }
+    
+    @JsonProperty("password")
+    public String getPassword() {
+        return password;
+    }
+    
+    @JsonProperty("application_type")
+    public String getApplicationType() {
+        return applicationType;
+    }
+}
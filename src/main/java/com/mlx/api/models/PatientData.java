@@ -0,0 +1,120 @@
+package com.mlx.api.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Patient block (patient_data) of a saveOrder request
+ */
+@JsonPropertyOrder({"first_name", "last_name", "date_of_birth", "gender", "email", "mobile_number1",
+    "homebound", "ethnicity", "race", "hardstick", "addresses"})
+public class PatientData {
+    
+    private final String firstName;
+    private final String lastName;
+    private final String dateOfBirth;
+    private final String gender;
+    private final String email;
+    private final String mobileNumber;
+    private final boolean homebound;
+    private final String ethnicity;
+    private final String race;
+    private final boolean hardstick;
+    private final List<Address> addresses;
+    
+    public PatientData(String firstName, String lastName, String dateOfBirth, String gender, String email,
+                       String mobileNumber, boolean homebound, String ethnicity, String race, boolean hardstick,
+                       List<Address> addresses) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.dateOfBirth = dateOfBirth;
+        this.gender = gender;
+        this.email = email;
+        this.mobileNumber = mobileNumber;
+        this.homebound = homebound;
+        this.ethnicity = ethnicity;
+        this.race = race;
+        this.hardstick = hardstick;
+        this.addresses = addresses == null ? null : Collections.unmodifiableList(new ArrayList<>(addresses));
+    }
+    
+    @JsonProperty("first_name")
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    @JsonProperty("last_name")
+    public String getLastName() {
+        return lastName;
+    }
+    
+    @JsonProperty("date_of_birth")
+    public String getDateOfBirth() {
+        return dateOfBirth;
+    }
+    
+    @JsonProperty("gender")
+    public String getGender() {
+        return gender;
+    }
+    
+    @JsonProperty("email")
+    public String getEmail() {
+        return email;
+    }
+    
+    @JsonProperty("mobile_number1")
+    public String getMobileNumber() {
+        return mobileNumber;
+    }
+    
+    @JsonProperty("homebound")
+    public boolean isHomebound() {
+        return homebound;
+    }
+    
+    @JsonProperty("ethnicity")
+    public String getEthnicity() {
+        return ethnicity;
+    }
+    
+    @JsonProperty("race")
+    public String getRace() {
+        return race;
+    }
+    
+    @JsonProperty("hardstick")
+    public boolean isHardstick() {
+        return hardstick;
+    }
+    
+    @JsonProperty("addresses")
+    public List<Address> getAddresses() {
+        return addresses;
+    }
+    
+    /**
+     * Mutable map form, for callers that still edit request bodies by key
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("first_name", firstName);
+        map.put("last_name", lastName);
+        map.put("date_of_birth", dateOfBirth);
+        map.put("gender", gender);
+        map.put("email", email);
+        map.put("mobile_number1", mobileNumber);
+        map.put("homebound", homebound);
+        map.put("ethnicity", ethnicity);
+        map.put("race", race);
+        map.put("hardstick", hardstick);
+        map.put("addresses", Address.toMaps(addresses));
+        return map;
+    }
+}
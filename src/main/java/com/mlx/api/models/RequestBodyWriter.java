@@ -0,0 +1,46 @@
+package com.mlx.api.models;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Serializes typed request models to JSON bytes.
+ *
+ * The ObjectWriter is built once per model type, so Jackson resolves the serializers on the
+ * first call and every later call is a straight write into a byte array. ObjectWriter is
+ * immutable and thread-safe, so all threads share it.
+ */
+public class RequestBodyWriter {
+    
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectWriter STANDING_ORDER_WRITER = MAPPER.writerFor(StandingOrderRequest.class);
+    private static final ObjectWriter LOGIN_WRITER = MAPPER.writerFor(LoginRequest.class);
+    
+    private RequestBodyWriter() {
+    }
+    
+    /**
+     * JSON body of a saveOrder request
+     * @throws IllegalArgumentException if the request cannot be serialized
+     */
+    public static byte[] write(StandingOrderRequest request) {
+        try {
+            return STANDING_ORDER_WRITER.writeValueAsBytes(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize standing order request", e);
+        }
+    }
+    
+    /**
+     * JSON body of a login request
+     * @throws IllegalArgumentException if the request cannot be serialized
+     */
+    public static byte[] write(LoginRequest request) {
+        try {
+            return LOGIN_WRITER.writeValueAsBytes(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize login request", e);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.mlx.api.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Body of a /orders/saveOrder request.
+ * Immutable, so one instance can be serialized (or re-sent) from any thread; see RequestBodyWriter.
+ */
+@JsonPropertyOrder({"order_type", "facility_account_number", "physician_npi", "patient_data", "services",
+    "order_codes", "icd_10_codes", "standing_start_date", "standing_end_date", "standing_frequency",
+    "date_of_service", "appointment_time", "service_address", "billing_type", "is_stat", "fasting",
+    "tube_data", "service_address_string"})
+public class StandingOrderRequest {
+    
+    // The UI always sends an empty appointment time for standing orders
+    private static final String APPOINTMENT_TIME = "";
+    
+    private final String orderType;
+    private final String facilityAccountNumber;
+    private final String physicianNpi;
+    private final PatientData patientData;
+    private final List<String> services;
+    private final List<String> orderCodes;
+    private final List<String> icd10Codes;
+    private final String standingStartDate;
+    private final String standingEndDate;
+    private final String standingFrequency;
+    private final String dateOfService;
+    private final Address serviceAddress;
+    private final String billingType;
+    private final boolean stat;
+    private final boolean fasting;
+    private final List<TubeData> tubeData;
+    private final String serviceAddressString;
+    
+    public StandingOrderRequest(String orderType, String facilityAccountNumber, String physicianNpi,
+                                PatientData patientData, List<String> services, List<String> orderCodes,
+                                List<String> icd10Codes, String standingStartDate, String standingEndDate,
+                                String standingFrequency, String dateOfService, Address serviceAddress,
+                                String billingType, boolean stat, boolean fasting, List<TubeData> tubeData,
+                                String serviceAddressString) {
+        this.orderType = orderType;
+        this.facilityAccountNumber = facilityAccountNumber;
+        this.physicianNpi = physicianNpi;
+        this.patientData = patientData;
+        this.services = unmodifiable(services);
+        this.orderCodes = unmodifiable(orderCodes);
+        this.icd10Codes = unmodifiable(icd10Codes);
+        this.standingStartDate = standingStartDate;
+        this.standingEndDate = standingEndDate;
+        this.standingFrequency = standingFrequency;
+        this.dateOfService = dateOfService;
+        this.serviceAddress = serviceAddress;
+        this.billingType = billingType;
+        this.stat = stat;
+        this.fasting = fasting;
+        this.tubeData = unmodifiable(tubeData);
+        this.serviceAddressString = serviceAddressString;
+    }
+    
+    /**
+     * Read-only copy, so a caller changing its list afterwards does not change the request
+     */
+    private static <T> List<T> unmodifiable(List<T> list) {
+        return list == null ? null : Collections.unmodifiableList(new ArrayList<>(list));
+    }
+    
+    @JsonProperty("order_type")
+    public String getOrderType() {
+        return orderType;
+    }
+    
+    @JsonProperty("facility_account_number")
+    public String getFacilityAccountNumber() {
+        return facilityAccountNumber;
+    }
+    
+    @JsonProperty("physician_npi")
+    public String getPhysicianNpi() {
+        return physicianNpi;
+    }
+    
+    @JsonProperty("patient_data")
+    public PatientData getPatientData() {
+        return patientData;
+    }
+    
+    @JsonProperty("services")
+    public List<String> getServices() {
+        return services;
+    }
+    
+    @JsonProperty("order_codes")
+    public List<String> getOrderCodes() {
+        return orderCodes;
+    }
+    
+    @JsonProperty("icd_10_codes")
+    public List<String> getIcd10Codes() {
+        return icd10Codes;
+    }
+    
+    @JsonProperty("standing_start_date")
+    public String getStandingStartDate() {
+        return standingStartDate;
+    }
+    
+    @JsonProperty("standing_end_date")
+    public String getStandingEndDate() {
+        return standingEndDate;
+    }
+    
+    @JsonProperty("standing_frequency")
+    public String getStandingFrequency() {
+        return standingFrequency;
+    }
+    
+    @JsonProperty("date_of_service")
+    public String getDateOfService() {
+        return dateOfService;
+    }
+    
+    @JsonProperty("appointment_time")
+    public String getAppointmentTime() {
+        return APPOINTMENT_TIME;
+    }
+    
+    @JsonProperty("service_address")
+    public Address getServiceAddress() {
+        return serviceAddress;
+    }
+    
+    @JsonProperty("billing_type")
+    public String getBillingType() {
+        return billingType;
+    }
+    
+    @JsonProperty("is_stat")
+    public boolean isStat() {
+        return stat;
+    }
+    
+    @JsonProperty("fasting")
+    public boolean isFasting() {
+        return fasting;
+    }
+    
+    @JsonProperty("tube_data")
+    public List<TubeData> getTubeData() {
+        return tubeData;
+    }
+    
+    @JsonProperty("service_address_string")
+    public String getServiceAddressString() {
+        return serviceAddressString;
+    }
+    
+    /**
+     * Mutable map form, for callers that still edit request bodies by key (e.g. negative tests removing a field)
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("order_type", orderType);
+        map.put("facility_account_number", facilityAccountNumber);
+        map.put("physician_npi", physicianNpi);
+        map.put("patient_data", patientData == null ? null : patientData.toMap());
+        map.put("services", services);
+        map.put("order_codes", orderCodes);
+        map.put("icd_10_codes", icd10Codes);
+        map.put("standing_start_date", standingStartDate);
+        map.put("standing_end_date", standingEndDate);
+        map.put("standing_frequency", standingFrequency);
+        map.put("date_of_service", dateOfService);
+        map.put("appointment_time", APPOINTMENT_TIME);
+        map.put("service_address", serviceAddress == null ? null : serviceAddress.toMap());
+        map.put("billing_type", billingType);
+        map.put("is_stat", stat);
+        map.put("fasting", fasting);
+        map.put("tube_data", TubeData.toMaps(tubeData));
+        map.put("service_address_string", serviceAddressString);
+        return map;
+    }
+}
@@ -0,0 +1,55 @@
+package com.mlx.api.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tube type and count in a saveOrder request
+ */
+@JsonPropertyOrder({"tube_name", "tube_count"})
+public class TubeData {
+    
+    private final String tubeName;
+    private final int tubeCount;
+    
+    public TubeData(String tubeName, int tubeCount) {
+        this.tubeName = tubeName;
+        this.tubeCount = tubeCount;
+    }
+    
+    @JsonProperty("tube_name")
+    public String getTubeName() {
+        return tubeName;
+    }
+    
+    @JsonProperty("tube_count")
+    public int getTubeCount() {
+        return tubeCount;
+    }
+    
+    /**
+     * Mutable map form, for callers that still edit request bodies by key
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("tube_name", tubeName);
+        map.put("tube_count", tubeCount);
+        return map;
+    }
+    
+    static List<Map<String, Object>> toMaps(List<TubeData> tubes) {
+        if (tubes == null) {
+            return null;
+        }
+        List<Map<String, Object>> maps = new ArrayList<>(tubes.size());
+        for (TubeData tube : tubes) {
+            maps.add(tube.toMap());
+        }
+        return maps;
+    }
+}
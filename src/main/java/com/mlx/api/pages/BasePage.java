@@ -1,19 +1,47 @@
 package com.mlx.api.pages;
 
+import com.mlx.api.http.HttpConnectionPool;
+import com.mlx.api.http.RequestTiming;
+import com.mlx.api.limit.RequestLimiter;
+import com.mlx.api.metrics.Endpoint;
+import com.mlx.api.metrics.MetricsRegistry;
+import com.mlx.api.results.ResultsSink;
 import com.mlx.api.utils.ConfigReader;
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.function.Supplier;
+
 /**
  * Base Page class for all Page Objects
  * Contains common methods used across all pages
+ * Page objects keep the last response, so use one per thread - MLXApiClient is the stateless alternative
  */
 public class BasePage {
     
     protected static final Logger logger = LogManager.getLogger(BasePage.class); // what is this for?
     protected Response response;
+    private String baseURI;
+    
+    static {
+        // All page objects share one pooled keep-alive HttpClient
+        HttpConnectionPool.install();
+    }
+    
+    /**
+     * Page object for the environment configured in config file
+     */
+    protected BasePage() {
+        this(ConfigReader.getProperty("baseURI"));
+    }
+    
+    /**
+     * Page object for a specific environment
+     */
+    protected BasePage(String baseURI) {
+        this.baseURI = baseURI;
+    }
     
     /**
      * Get property from config file
@@ -23,16 +51,49 @@ public class BasePage {
     }
     
     /**
-     * Set base URI
+     * Set base URI for this page object only (RestAssured.baseURI is never touched)
      */
     protected void setBaseURI(String baseURI) {
-        RestAssured.baseURI = baseURI;					// 
+        this.baseURI = baseURI;
     }
     
     /**
      * Get base URI
      */
     protected String getBaseURI() {
-        return RestAssured.baseURI;
+        return baseURI;
+    }
+    
+    /**
+     * Send a request through the RequestLimiter, count it and record its latency in MetricsRegistry,
+     * its per-phase times in LatencyRecorder (throttle wait is not part of the latency), and the request
+     * in the ResultsSink (without body sizes or order IDs - the page objects read those later, if at all)
+     */
+    protected Response send(Endpoint endpoint, Supplier<Response> call) {
+        RequestLimiter limiter = RequestLimiter.getInstance();
+        limiter.acquire(endpoint);
+        MetricsRegistry.requestStarted(endpoint);
+        RequestTiming.begin();
+        long start = System.nanoTime();
+        Response result;
+        long elapsed = 0;
+        int statusCode = 0;
+        try {
+            result = call.get();
+            elapsed = System.nanoTime() - start;
+            statusCode = result.getStatusCode();
+        } catch (RuntimeException e) {
+            elapsed = System.nanoTime() - start;
+            MetricsRegistry.recordError(endpoint, e, elapsed);
+            ResultsSink.getInstance().recordError(endpoint, elapsed, -1, e);
+            throw e;
+        } finally {
+            RequestTiming.end(endpoint);
+            // Released here so that an Error thrown by the call cannot keep the concurrency slot for good
+            limiter.release(endpoint, statusCode, elapsed > 0 ? elapsed : System.nanoTime() - start);
+        }
+        MetricsRegistry.recordResponse(endpoint, statusCode, elapsed);
+        ResultsSink.getInstance().record(endpoint, statusCode, elapsed, -1, -1, null);
+        return result;
     }
 }
@@ -1,7 +1,11 @@
 package com.mlx.api.pages;
 
+import com.mlx.api.http.RequestSpecs;
+import com.mlx.api.json.ResponseView;
+import com.mlx.api.metrics.Endpoint;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -15,10 +19,19 @@ public class GetUserPage extends BasePage {
     
     private static final Logger logger = LogManager.getLogger(GetUserPage.class);
     private Response response;
+    private ResponseView responseView;
     
     // API Endpoint
     private static final String GET_USER_ENDPOINT = "/users/{userId}";
     
+    public GetUserPage() {
+        super();
+    }
+    
+    public GetUserPage(String baseURI) {
+        super(baseURI);
+    }
+    
     /**
      * METHOD 1: Call the API to get user details
      * @param authToken - JWT token from login
@@ -29,41 +42,49 @@ public class GetUserPage extends BasePage {
         logger.info("Fetching user details for User ID: " + userId);
         
         // Build the API request
-        response = RestAssured.given()
+        RequestSpecification request = RestAssured.given(RequestSpecs.api(getBaseURI()))
             .header("Authorization", "Bearer " + authToken)  // Need auth token!
-            .header("Content-Type", "application/json")
-            .pathParam("userId", userId)  // Replace {userId} in URL
-            .log().all()
+            .pathParam("userId", userId);  // Replace {userId} in URL
         
         // Send GET request
-        .get(GET_USER_ENDPOINT);
+        response = send(Endpoint.GET_USER, () -> request.get(GET_USER_ENDPOINT));
+        responseView = null;
         
-        // Log response
-        logger.info("Response Status: " + response.getStatusCode());
-        response.then().log().all();
+        // Headers and body are logged by ExchangeLog according to httpLogMode
+        logger.info("Response Status Code: " + response.getStatusCode());
         
         return response;
     }
     
+    /**
+     * Parsed body of the current response - parsed on first use, then shared by all accessors
+     */
+    public ResponseView getResponseView() {
+        if (responseView == null) {
+            responseView = ResponseView.of(response);
+        }
+        return responseView;
+    }
+    
     /**
      * METHOD 2: Get user's first name from response
      */
     public String getUserFirstName() {
-        return response.jsonPath().getString("data.user.first_name");
+        return getResponseView().getString("data.user.first_name");
     }
     
     /**
      * METHOD 3: Get user's email from response
      */
     public String getUserEmail() {
-        return response.jsonPath().getString("data.user.email");
+        return getResponseView().getString("data.user.email");
     }
     
     /**
      * METHOD 4: Get user's phone from response
      */
     public String getUserPhone() {
-        return response.jsonPath().getString("data.user.phone");
+        return getResponseView().getString("data.user.phone");
     }
     
     /**
@@ -78,6 +99,6 @@ public class GetUserPage extends BasePage {
      */
     public boolean userExists() {
         return getStatusCode() == 200 && 
-               response.jsonPath().get("data.user") != null;
+               getResponseView().get("data.user") != null;
     }
 }
@@ -1,5 +1,8 @@
 package com.mlx.api.pages;
 
+import com.mlx.api.http.RequestSpecs;
+import com.mlx.api.json.ResponseView;
+import com.mlx.api.metrics.Endpoint;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
@@ -17,10 +20,19 @@ public class MLXLoginPage extends BasePage {
     
     private static final Logger logger = LogManager.getLogger(MLXLoginPage.class);
     private Response response;
+    private ResponseView responseView;
     
     // API Endpoint
     private static final String LOGIN_ENDPOINT = "/users/login";
     
+    public MLXLoginPage() {
+        super();
+    }
+    
+    public MLXLoginPage(String baseURI) {
+        super(baseURI);
+    }
+    
     /**
      * Perform login with email and password
      * @param email User email
@@ -37,31 +49,16 @@ public class MLXLoginPage extends BasePage {
         requestBody.put("password", password);
         requestBody.put("application_type", applicationType);
         
-        // Build request with all headers from curl command
-        RequestSpecification request = RestAssured.given()
-            .header("accept", "application/json, text/plain, */*")
-            .header("accept-language", "en-GB,en;q=0.9,en-US;q=0.8,en-IN;q=0.7")
-            .header("content-type", "application/json")
-            .header("origin", "https://staging-mlx.labsquire.com")
-            .header("priority", "u=1, i")
-            .header("referer", "https://staging-mlx.labsquire.com/")
-            .header("sec-ch-ua", "\"Microsoft Edge\";v=\"143\", \"Chromium\";v=\"143\", \"Not A(Brand\";v=\"24\"")
-            .header("sec-ch-ua-mobile", "?0")
-            .header("sec-ch-ua-platform", "\"Windows\"")
-            .header("sec-fetch-dest", "empty")
-            .header("sec-fetch-mode", "cors")
-            .header("sec-fetch-site", "same-site")
-            .header("user-agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/143.0.0.0 Safari/537.36 Edg/143.0.0.0")
-            .body(requestBody)
-            .log().all();
+        // Prebuilt spec carries base URI, content type, browser headers and the exchange log filter
+        RequestSpecification request = RestAssured.given(RequestSpecs.browser(getBaseURI()))
+            .body(requestBody);
         
         // Send POST request
-        response = request.post(LOGIN_ENDPOINT);
+        response = send(Endpoint.LOGIN, () -> request.post(LOGIN_ENDPOINT));
+        responseView = null;
         
-        // Log response
+        // Headers and body are logged by ExchangeLog according to httpLogMode
         logger.info("Response Status Code: " + response.getStatusCode());
-        logger.info("Response Body: " + response.getBody().asString());
-        response.then().log().all();
         
         return response;
     }
@@ -80,6 +77,16 @@ public class MLXLoginPage extends BasePage {
         return response;
     }
     
+    /**
+     * Parsed body of the current response - parsed on first use, then shared by all accessors
+     */
+    public ResponseView getResponseView() {
+        if (responseView == null) {
+            responseView = ResponseView.of(response);
+        }
+        return responseView;
+    }
+    
     // ============= Response Validation Methods =============
     
     /**
@@ -88,7 +95,7 @@ public class MLXLoginPage extends BasePage {
     public boolean isLoginSuccessful() {
         try {
             return response.getStatusCode() == 200 && 
-                   response.jsonPath().getString("data.token") != null;
+                   getResponseView().getString("data.token") != null;
         } catch (Exception e) {
             logger.error("Error checking login success: " + e.getMessage());
             return false;
@@ -100,7 +107,7 @@ public class MLXLoginPage extends BasePage {
      */
     public String getAuthToken() {
         try {
-            return response.jsonPath().getString("data.token");
+            return getResponseView().getString("data.token");
         } catch (Exception e) {
             logger.error("Error extracting auth token: " + e.getMessage());
             return null;
@@ -112,7 +119,7 @@ public class MLXLoginPage extends BasePage {
      */
     public String getUserId() {
         try {
-            return response.jsonPath().getString("data.user._id");
+            return getResponseView().getString("data.user._id");
         } catch (Exception e) {
             logger.error("Error extracting user ID: " + e.getMessage());
             return null;
@@ -124,7 +131,7 @@ public class MLXLoginPage extends BasePage {
      */
     public String getUserEmail() {
         try {
-            return response.jsonPath().getString("data.user.email");
+            return getResponseView().getString("data.user.email");
         } catch (Exception e) {
             logger.error("Error extracting user email: " + e.getMessage());
             return null;
@@ -136,8 +143,8 @@ public class MLXLoginPage extends BasePage {
      */
     public String getUserName() {
         try {
-            String firstName = response.jsonPath().getString("data.user.first_name");
-            String lastName = response.jsonPath().getString("data.user.last_name");
+            String firstName = getResponseView().getString("data.user.first_name");
+            String lastName = getResponseView().getString("data.user.last_name");
             return firstName + " " + lastName;
         } catch (Exception e) {
             logger.error("Error extracting user name: " + e.getMessage());
@@ -150,7 +157,7 @@ public class MLXLoginPage extends BasePage {
      */
     public String getSuccessMessage() {
         try {
-            return response.jsonPath().getString("message");
+            return getResponseView().message();
         } catch (Exception e) {
             logger.error("Error extracting success message: " + e.getMessage());
             return null;
@@ -162,7 +169,7 @@ public class MLXLoginPage extends BasePage {
      */
     public String getErrorMessage() {
         try {
-            return response.jsonPath().getString("error");
+            return getResponseView().error();
         } catch (Exception e) {
             return null;
         }
@@ -207,12 +214,10 @@ public class MLXLoginPage extends BasePage {
      * Validate response is JSON
      */
     public boolean isValidJson() {
-        try {
-            response.jsonPath().prettify();
+        if (getResponseView().isJson()) {
             return true;
-        } catch (Exception e) {
-            logger.error("Invalid JSON response: " + e.getMessage());
-            return false;
         }
+        logger.error("Invalid JSON response: " + response.getBody().asString());
+        return false;
     }
 }
@@ -1,5 +1,15 @@
 package com.mlx.api.pages;
 
+import com.mlx.api.http.RequestSpecs;
+import com.mlx.api.json.OrderStreamExtractor;
+import com.mlx.api.json.OrderSummary;
+import com.mlx.api.json.ResponseView;
+import com.mlx.api.metrics.Endpoint;
+import com.mlx.api.models.Address;
+import com.mlx.api.models.PatientData;
+import com.mlx.api.models.RequestBodyWriter;
+import com.mlx.api.models.StandingOrderRequest;
+import com.mlx.api.models.TubeData;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
@@ -19,10 +29,19 @@ public class MLXOrderPage extends BasePage {
     
     private static final Logger logger = LogManager.getLogger(MLXOrderPage.class);
     private Response response;
+    private ResponseView responseView;
     
     // API Endpoint
     private static final String SAVE_ORDER_ENDPOINT = "/orders/saveOrder";
     
+    public MLXOrderPage() {
+        super();
+    }
+    
+    public MLXOrderPage(String baseURI) {
+        super(baseURI);
+    }
+    
     /**
      * Create a standing order with all parameters
      * @param authToken Bearer token for authorization
@@ -32,45 +51,50 @@ public class MLXOrderPage extends BasePage {
      */
     public Response createOrder(String authToken, String userId, Map<String, Object> orderData) {
         logger.info("Creating order with order type: " + orderData.get("order_type"));
-        
-        // Build request with all headers from curl command
-        RequestSpecification request = RestAssured.given()
-            .header("accept", "application/json, text/plain, */*")
-            .header("accept-language", "en-GB,en;q=0.9,en-US;q=0.8,en-IN;q=0.7")
-            .header("authorization", "Bearer " + authToken)
-            .header("content-type", "application/json")
-            .header("origin", "https://staging-mlx.labsquire.com")
-            .header("priority", "u=1, i")
-            .header("referer", "https://staging-mlx.labsquire.com/")
-            .header("sec-ch-ua", "\"Microsoft Edge\";v=\"143\", \"Chromium\";v=\"143\", \"Not A(Brand\";v=\"24\"")
-            .header("sec-ch-ua-mobile", "?0")
-            .header("sec-ch-ua-platform", "\"Windows\"")
-            .header("sec-fetch-dest", "empty")
-            .header("sec-fetch-mode", "cors")
-            .header("sec-fetch-site", "same-site")
-            .header("user-agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/143.0.0.0 Safari/537.36 Edg/143.0.0.0");
+        return sendOrder(orderRequest(authToken, userId).body(orderData));
+    }
+    
+    /**
+     * Create a standing order from a typed request
+     * The body is serialized to bytes by a prebuilt ObjectWriter before the request is timed
+     * @param authToken Bearer token for authorization
+     * @param userId User ID
+     * @param order Standing order request
+     * @return Response object
+     */
+    public Response createOrder(String authToken, String userId, StandingOrderRequest order) {
+        logger.info("Creating order with order type: " + order.getOrderType());
+        // byte[] static type: body(Object) would serialize the array as a base64 JSON string
+        byte[] body = RequestBodyWriter.write(order);
+        return sendOrder(orderRequest(authToken, userId).body(body));
+    }
+    
+    private RequestSpecification orderRequest(String authToken, String userId) {
+        // Prebuilt spec carries base URI, content type, browser headers and the exchange log filter
+        RequestSpecification request = RestAssured.given(RequestSpecs.browser(getBaseURI()))
+            .header("authorization", "Bearer " + authToken);
         
         // Add user_id header only if not null
         if (userId != null && !userId.isEmpty()) {
             request.header("user_id", userId);
         }
-        
-        request.body(orderData)
-            .log().all();
-        
+        return request;
+    }
+    
+    private Response sendOrder(RequestSpecification request) {
         // Send POST request
-        response = request.post(SAVE_ORDER_ENDPOINT);
+        response = send(Endpoint.SAVE_ORDER, () -> request.post(SAVE_ORDER_ENDPOINT));
+        responseView = null;
         
-        // Log response
+        // Headers and body are logged by ExchangeLog according to httpLogMode
         logger.info("Response Status Code: " + response.getStatusCode());
-        logger.info("Response Body: " + response.getBody().asString());
-        response.then().log().all();
         
         return response;
     }
     
     /**
      * Build standing order request body
+     * Map form of StandingOrderRequest, for tests that edit fields by key before sending
      */
     public Map<String, Object> buildStandingOrderRequest(
             String orderType,
@@ -91,26 +115,13 @@ public class MLXOrderPage extends BasePage {
             List<Map<String, Object>> tubeData,
             String serviceAddressString) {
         
-        Map<String, Object> orderData = new HashMap<>();
-        orderData.put("order_type", orderType);
-        orderData.put("facility_account_number", facilityAccountNumber);
-        orderData.put("physician_npi", physicianNpi);
+        // Keys and scalars come from the model; the caller's nested maps go in as they are, so tests can edit them
+        Map<String, Object> orderData = new StandingOrderRequest(orderType, facilityAccountNumber, physicianNpi,
+            null, services, orderCodes, icd10Codes, standingStartDate, standingEndDate, standingFrequency,
+            dateOfService, null, billingType, isStat, fasting, null, serviceAddressString).toMap();
         orderData.put("patient_data", patientData);
-        orderData.put("services", services);
-        orderData.put("order_codes", orderCodes);
-        orderData.put("icd_10_codes", icd10Codes);
-        orderData.put("standing_start_date", standingStartDate);
-        orderData.put("standing_end_date", standingEndDate);
-        orderData.put("standing_frequency", standingFrequency);
-        orderData.put("date_of_service", dateOfService);
-        orderData.put("appointment_time", "");
         orderData.put("service_address", serviceAddress);
-        orderData.put("billing_type", billingType);
-        orderData.put("is_stat", isStat);
-        orderData.put("fasting", fasting);
         orderData.put("tube_data", tubeData);
-        orderData.put("service_address_string", serviceAddressString);
-        
         return orderData;
     }
     
@@ -130,19 +141,9 @@ public class MLXOrderPage extends BasePage {
             boolean hardstick,
             List<Map<String, String>> addresses) {
         
-        Map<String, Object> patientData = new HashMap<>();
-        patientData.put("first_name", firstName);
-        patientData.put("last_name", lastName);
-        patientData.put("date_of_birth", dateOfBirth);
-        patientData.put("gender", gender);
-        patientData.put("email", email);
-        patientData.put("mobile_number1", mobileNumber);
-        patientData.put("homebound", homebound);
-        patientData.put("ethnicity", ethnicity);
-        patientData.put("race", race);
-        patientData.put("hardstick", hardstick);
+        Map<String, Object> patientData = new PatientData(firstName, lastName, dateOfBirth, gender, email,
+            mobileNumber, homebound, ethnicity, race, hardstick, null).toMap();
         patientData.put("addresses", addresses);
-        
         return patientData;
     }
     
@@ -150,22 +151,14 @@ public class MLXOrderPage extends BasePage {
      * Build address
      */
     public Map<String, String> buildAddress(String addressLine1, String city, String state, String zip) {
-        Map<String, String> address = new HashMap<>();
-        address.put("address_line_1", addressLine1);
-        address.put("city", city);
-        address.put("state", state);
-        address.put("zip", zip);
-        return address;
+        return new Address(addressLine1, city, state, zip).toMap();
     }
     
     /**
      * Build tube data
      */
     public Map<String, Object> buildTubeData(String tubeName, int tubeCount) {
-        Map<String, Object> tube = new HashMap<>();
-        tube.put("tube_name", tubeName);
-        tube.put("tube_count", tubeCount);
-        return tube;
+        return new TubeData(tubeName, tubeCount).toMap();
     }
     
     /**
@@ -175,6 +168,16 @@ public class MLXOrderPage extends BasePage {
         return response;
     }
     
+    /**
+     * Parsed body of the current response - parsed on first use, then shared by all accessors
+     */
+    public ResponseView getResponseView() {
+        if (responseView == null) {
+            responseView = ResponseView.of(response);
+        }
+        return responseView;
+    }
+    
     /**
      * Validate response status code
      */
@@ -189,7 +192,7 @@ public class MLXOrderPage extends BasePage {
      */
     public boolean validateResponseContainsField(String fieldPath) {
         try {
-            Object value = response.jsonPath().get(fieldPath);
+            Object value = getResponseView().get(fieldPath);
             logger.info("Field '" + fieldPath + "' exists with value: " + value);
             return value != null;
         } catch (Exception e) {
@@ -202,14 +205,14 @@ public class MLXOrderPage extends BasePage {
      * Get field value from response
      */
     public Object getResponseField(String fieldPath) {
-        return response.jsonPath().get(fieldPath);
+        return getResponseView().get(fieldPath);
     }
     
     /**
      * Validate response message
      */
     public boolean validateResponseMessage(String expectedMessage) {
-        String actualMessage = response.jsonPath().getString("message");
+        String actualMessage = getResponseView().message();
         logger.info("Expected Message: " + expectedMessage + ", Actual: " + actualMessage);
         return actualMessage != null && actualMessage.equals(expectedMessage);
     }
@@ -219,17 +222,8 @@ public class MLXOrderPage extends BasePage {
      */
     public boolean validateOrderIdGenerated() {
         try {
-            // For standing orders, check if orders array exists and has items
-            List<Map<String, Object>> orders = response.jsonPath().getList("data.orders");
-            if (orders != null && !orders.isEmpty()) {
-                String firstOrderId = response.jsonPath().getString("data.orders[0].order_id");
-                boolean isValid = firstOrderId != null && !firstOrderId.isEmpty();
-                logger.info("Order ID validation: " + (isValid ? "PASSED - First Order ID: " + firstOrderId : "FAILED"));
-                return isValid;
-            }
-            
-            // For single orders, check data.order_id
-            String orderId = response.jsonPath().getString("data.order_id");
+            // Standing orders: first of data.orders, single orders: data.order_id
+            String orderId = getResponseView().orderId();
             boolean isValid = orderId != null && !orderId.isEmpty();
             logger.info("Order ID validation: " + (isValid ? "PASSED - Order ID: " + orderId : "FAILED"));
             return isValid;
@@ -244,14 +238,8 @@ public class MLXOrderPage extends BasePage {
      */
     public String getOrderId() {
         try {
-            // For standing orders, get first order ID
-            List<Map<String, Object>> orders = response.jsonPath().getList("data.orders");
-            if (orders != null && !orders.isEmpty()) {
-                return response.jsonPath().getString("data.orders[0].order_id");
-            }
-            
-            // For single orders
-            return response.jsonPath().getString("data.order_id");
+            // For standing orders the first order ID, for single orders data.order_id
+            return getResponseView().orderId();
         } catch (Exception e) {
             logger.error("Error getting order ID: " + e.getMessage());
             return null;
@@ -291,8 +279,8 @@ public class MLXOrderPage extends BasePage {
             boolean hasErrorStatusCode = (statusCode >= 400 && statusCode < 600);
             
             // Check for error message in response
-            String message = response.jsonPath().getString("message");
-            String error = response.jsonPath().getString("error");
+            String message = getResponseView().message();
+            String error = getResponseView().error();
             
             boolean hasErrorMessage = false;
             if (message != null) {
@@ -332,16 +320,8 @@ public class MLXOrderPage extends BasePage {
             }
             
             // Check if order ID is missing or null
-            String orderId = null;
-            try {
-                List<Map<String, Object>> orders = response.jsonPath().getList("data.orders");
-                if (orders != null && !orders.isEmpty()) {
-                    orderId = response.jsonPath().getString("data.orders[0].order_id");
-                } else {
-                    orderId = response.jsonPath().getString("data.order_id");
-                }
-            } catch (Exception e) {
-                // Exception means order_id field doesn't exist, which is expected
+            String orderId = getResponseView().orderId();
+            if (orderId == null) {
                 logger.info("Order not created - No order_id in response");
                 return true;
             }
@@ -362,18 +342,19 @@ public class MLXOrderPage extends BasePage {
      */
     public String getErrorMessage() {
         try {
-            String message = response.jsonPath().getString("message");
+            ResponseView view = getResponseView();
+            String message = view.message();
             if (message != null) {
                 return message;
             }
             
-            String error = response.jsonPath().getString("error");
+            String error = view.error();
             if (error != null) {
                 return error;
             }
             
             // Try to get validation errors
-            Object errors = response.jsonPath().get("errors");
+            Object errors = view.errors();
             if (errors != null) {
                 return errors.toString();
             }
@@ -627,9 +608,10 @@ public class MLXOrderPage extends BasePage {
         
         try {
             errorDetails.put("status_code", response.getStatusCode());
-            errorDetails.put("message", response.jsonPath().getString("message"));
-            errorDetails.put("error", response.jsonPath().getString("error"));
-            errorDetails.put("errors", response.jsonPath().get("errors"));
+            ResponseView view = getResponseView();
+            errorDetails.put("message", view.message());
+            errorDetails.put("error", view.error());
+            errorDetails.put("errors", view.errors());
             errorDetails.put("response_body", response.getBody().asString());
             
             logger.info("Error Details: " + errorDetails);
@@ -693,29 +675,34 @@ public class MLXOrderPage extends BasePage {
     
     /**
      * Get all order IDs from standing order response
+     * Single streaming pass over the body unless it has already been parsed into a ResponseView
      * @return List of order IDs
      */
     public List<String> getAllOrderIds() {
         try {
-            List<String> orderIds = new ArrayList<>();
-            List<Map<String, Object>> orders = response.jsonPath().getList("data.orders");
-            
-            if (orders != null && !orders.isEmpty()) {
-                for (int i = 0; i < orders.size(); i++) {
-                    String orderId = response.jsonPath().getString("data.orders[" + i + "].order_id");
-                    if (orderId != null && !orderId.isEmpty()) {
-                        orderIds.add(orderId);
-                    }
-                }
+            if (responseView != null) {
+                return responseView.orderIds();
             }
-            
-            return orderIds;
+            return OrderStreamExtractor.orderIds(response.asByteArray());
         } catch (Exception e) {
             logger.error("Error getting all order IDs: " + e.getMessage());
             return new ArrayList<>();
         }
     }
     
+    /**
+     * Get order ID, status and service date of every order in the response (single streaming pass)
+     * @return List of order summaries
+     */
+    public List<OrderSummary> getOrderSummaries() {
+        try {
+            return OrderStreamExtractor.orders(response.asByteArray());
+        } catch (Exception e) {
+            logger.error("Error getting order summaries: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+    
     /**
      * Format order summary with details (for successful orders)
      * @param orderId The order ID
@@ -0,0 +1,415 @@
+package com.mlx.api.results;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mlx.api.metrics.Endpoint;
+import com.mlx.api.metrics.LatencyRecorder;
+import com.mlx.api.utils.ConfigReader;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paged HTML report of a results directory, for runs too large for one Extent HTML file.
+ *
+ * Requests are partitioned by test class and endpoint (one page each) and, within a page, by time
+ * window of pagedReportWindowSeconds. index.html lists the pages with their totals; a page lists its
+ * windows with count, errors and percentiles, and the requests of a window are only loaded when the
+ * window is opened. They sit in data/<page>/w<window>-<chunk>.js files of at most pagedReportChunkRows
+ * rows each - JSON arrays wrapped in a callback, so the pages also work from file:// where fetch() is blocked.
+ *
+ * The part files are streamed once. Only the last two windows of each page are open (requests that
+ * complete slightly out of order still land in their window, older stragglers in the oldest open one);
+ * closed windows keep a few summary numbers. Time and memory therefore grow with the number of pages
+ * and windows, not with the number of requests.
+ *
+ * Standalone: mvn -q compile exec:java -Dexec.mainClass=com.mlx.api.results.PagedReport [-Dexec.args=<run dir>]
+ */
+public class PagedReport {
+    
+    private static final Logger logger = LogManager.getLogger(PagedReport.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    
+    // Two significant digits keep each open window's histogram small; page totals use the same
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final String UNKNOWN_CLASS = "(no test class)";
+    
+    private static final String HEAD = "<!DOCTYPE html>\n<html><head><meta charset=\"UTF-8\"><title>{title}</title>\n"
+        + "<style>body{font-family:sans-serif;margin:24px}table{border-collapse:collapse}"
+        + "th,td{border:1px solid #ddd;padding:4px 8px;text-align:right}th{background:#f8f9fa}"
+        + "td:first-child,th:first-child{text-align:left}.bad{color:#eb3349;font-weight:bold}"
+        + "tr.rows td{text-align:left;background:#fafafa}</style></head><body>\n";
+    
+    // Opening a window adds one script tag per chunk; each chunk calls MLXPage.rows with its requests
+    private static final String PAGE_SCRIPT = "<script>\n"
+        + "var MLXPage = {\n"
+        + "  open: function(link, page, w, chunks) {\n"
+        + "    var row = link.parentNode.parentNode, next = row.nextSibling;\n"
+        + "    if (next && next.className === 'rows') { next.parentNode.removeChild(next); return false; }\n"
+        + "    var tr = document.createElement('tr'); tr.className = 'rows'; tr.id = 'rows-' + w;\n"
+        + "    var td = document.createElement('td'); td.colSpan = 8;\n"
+        + "    td.innerHTML = '<table><tr><th>time</th><th>status</th><th>ms</th><th>sent B</th><th>recv B</th>'\n"
+        + "      + '<th>order IDs</th><th>error</th></tr></table>';\n"
+        + "    tr.appendChild(td); row.parentNode.insertBefore(tr, row.nextSibling);\n"
+        + "    for (var c = 1; c <= chunks; c++) {\n"
+        + "      var s = document.createElement('script'); s.src = 'data/' + page + '/w' + w + '-' + c + '.js';\n"
+        + "      document.body.appendChild(s);\n"
+        + "    }\n"
+        + "    return false;\n"
+        + "  },\n"
+        + "  rows: function(page, w, chunk, rows) {\n"
+        + "    var holder = document.getElementById('rows-' + w);\n"
+        + "    if (!holder) { return; }\n"
+        + "    var table = holder.getElementsByTagName('table')[0];\n"
+        + "    for (var i = 0; i < rows.length; i++) {\n"
+        + "      var r = rows[i], tr = table.insertRow(-1);\n"
+        + "      var cells = [new Date(r[0]).toISOString().substring(11, 23), r[1] || 'none', (r[2] / 1000).toFixed(1),\n"
+        + "        r[3] < 0 ? '' : r[3], r[4] < 0 ? '' : r[4], r[5], r[6]];\n"
+        + "      for (var k = 0; k < cells.length; k++) { tr.insertCell(-1).textContent = cells[k]; }\n"
+        + "      if (r[1] < 200 || r[1] >= 300) { tr.className = 'bad'; }\n"
+        + "    }\n"
+        + "  }\n"
+        + "};\n"
+        + "</script>\n";
+    
+    private final File outDir;
+    private final long windowMillis;
+    private final int chunkRows;
+    private final Map<String, Page> pages = new TreeMap<>();
+    private long startMillis = Long.MIN_VALUE;
+    private long total;
+    private long malformed;
+    
+    private PagedReport(File outDir, long windowMillis, int chunkRows) {
+        this.outDir = outDir;
+        this.windowMillis = Math.max(1, windowMillis);
+        this.chunkRows = Math.max(1, chunkRows);
+    }
+    
+    /**
+     * Write the paged report of a run directory into outDir
+     * @param windowSeconds Length of a time window
+     * @param chunkRows Requests per lazily loaded data file
+     * @return The index page
+     */
+    public static File write(File runDir, File outDir, int windowSeconds, int chunkRows) throws IOException {
+        File[] parts = runDir.listFiles((dir, name) -> name.startsWith("part-") && name.endsWith(".jsonl"));
+        if (parts == null) {
+            throw new IOException("Not a results directory: " + runDir.getPath());
+        }
+        Arrays.sort(parts);
+        PagedReport report = new PagedReport(outDir, TimeUnit.SECONDS.toMillis(windowSeconds), chunkRows);
+        try {
+            for (File part : parts) {
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(new FileInputStream(part), StandardCharsets.UTF_8), 1 << 16)) {
+                    for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                        report.add(line);
+                    }
+                }
+            }
+            for (Page page : report.pages.values()) {
+                page.closeAll();
+            }
+        } finally {
+            for (Page page : report.pages.values()) {
+                page.abandon();
+            }
+        }
+        for (Page page : report.pages.values()) {
+            page.writeHtml();
+        }
+        File index = report.writeIndex(runDir);
+        logger.info("Paged request report (" + report.pages.size() + " pages) written to " + index.getPath());
+        return index;
+    }
+    
+    /**
+     * Write the paged report into <runDir>/paged with pagedReport* settings from config file
+     */
+    public static File write(File runDir) throws IOException {
+        return write(runDir, new File(runDir, "paged"),
+            ConfigReader.getIntProperty("pagedReportWindowSeconds", 60),
+            ConfigReader.getIntProperty("pagedReportChunkRows", 2000));
+    }
+    
+    private void add(String line) throws IOException {
+        if (line.isEmpty()) {
+            return;
+        }
+        RequestRecord record;
+        try {
+            record = RequestRecord.fromJson(MAPPER.readTree(line));
+        } catch (IOException | IllegalArgumentException e) {
+            malformed++;
+            return;
+        }
+        if (startMillis == Long.MIN_VALUE) {
+            startMillis = record.getTimestampMillis();
+        }
+        String testClass = record.getTestClass() == null ? UNKNOWN_CLASS : record.getTestClass();
+        String key = testClass + "\u0000" + record.getEndpoint().getMetricName();
+        Page page = pages.get(key);
+        if (page == null) {
+            page = new Page(testClass, record.getEndpoint(), String.format("p%03d", pages.size() + 1));
+            pages.put(key, page);
+        }
+        page.add(record, (int) Math.max(0, (record.getTimestampMillis() - startMillis) / windowMillis));
+        total++;
+    }
+    
+    private File writeIndex(File runDir) throws IOException {
+        File index = new File(outDir, "index.html");
+        StringBuilder html = new StringBuilder();
+        html.append(HEAD.replace("{title}", "MLX Request Results"));
+        html.append("<h1>MLX Request Results</h1>\n<p>").append(total).append(" requests from ")
+            .append(escape(runDir.getPath())).append(", windows of ").append(windowMillis / 1000).append(" s");
+        if (malformed > 0) {
+            html.append(", ").append(malformed).append(" malformed lines skipped");
+        }
+        html.append("</p>\n<table><tr><th>test class</th><th>endpoint</th><th>requests</th><th>errors</th>"
+            + "<th>p50 ms</th><th>p99 ms</th><th>max ms</th><th>windows</th></tr>\n");
+        for (Page page : pages.values()) {
+            html.append("<tr><td><a href=\"").append(page.id).append(".html\">").append(escape(page.testClass))
+                .append("</a></td><td>").append(page.endpoint.getMetricName()).append("</td>");
+            appendStats(html, page.count, page.errors, page.latency);
+            html.append("<td>").append(page.windows.size()).append("</td></tr>\n");
+        }
+        html.append("</table>\n</body></html>\n");
+        outDir.mkdirs();
+        try (Writer out = Files.newBufferedWriter(index.toPath(), StandardCharsets.UTF_8)) {
+            out.write(html.toString());
+        }
+        return index;
+    }
+    
+    private static void appendStats(StringBuilder html, long count, long errors, Histogram latency) {
+        html.append("<td>").append(count).append("</td><td").append(errors > 0 ? " class=\"bad\">" : ">")
+            .append(errors).append("</td>")
+            .append(String.format("<td>%.1f</td><td>%.1f</td><td>%.1f</td>",
+                latency.getValueAtPercentile(50) / 1000.0,
+                latency.getValueAtPercentile(99) / 1000.0,
+                latency.getMaxValue() / 1000.0));
+    }
+    
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+    
+    /**
+     * One test class and endpoint: its page, its window summaries and the windows still open
+     */
+    private final class Page {
+        
+        final String testClass;
+        final Endpoint endpoint;
+        final String id;
+        final File dataDir;
+        final Histogram latency = new Histogram(LatencyRecorder.HIGHEST_TRACKABLE_MICROS,
+            SIGNIFICANT_DIGITS);
+        final List<WindowSummary> windows = new ArrayList<>();
+        final TreeMap<Integer, Window> open = new TreeMap<>();
+        long count;
+        long errors;
+        
+        Page(String testClass, Endpoint endpoint, String id) {
+            this.testClass = testClass;
+            this.endpoint = endpoint;
+            this.id = id;
+            this.dataDir = new File(new File(outDir, "data"), id);
+        }
+        
+        void add(RequestRecord record, int windowIndex) throws IOException {
+            Window window;
+            if (!open.isEmpty() && windowIndex < open.firstKey()) {
+                window = open.firstEntry().getValue();
+            } else {
+                window = open.get(windowIndex);
+                if (window == null) {
+                    window = new Window(windowIndex);
+                    open.put(windowIndex, window);
+                    // Keep this window and the one before it
+                    Iterator<Window> older = open.headMap(windowIndex - 1).values().iterator();
+                    while (older.hasNext()) {
+                        windows.add(older.next().close());
+                        older.remove();
+                    }
+                }
+            }
+            window.add(record);
+            long micros = Math.min(Math.max(record.getLatencyMicros(), 0),
+                LatencyRecorder.HIGHEST_TRACKABLE_MICROS);
+            latency.recordValue(micros);
+            count++;
+            if (!record.isSuccessful()) {
+                errors++;
+            }
+        }
+        
+        void closeAll() throws IOException {
+            for (Window window : open.values()) {
+                windows.add(window.close());
+            }
+            open.clear();
+            windows.sort((a, b) -> Integer.compare(a.index, b.index));
+        }
+        
+        /**
+         * Close data files left open by a failed write
+         */
+        void abandon() {
+            for (Window window : open.values()) {
+                window.abandon();
+            }
+            open.clear();
+        }
+        
+        void writeHtml() throws IOException {
+            StringBuilder html = new StringBuilder();
+            html.append(HEAD.replace("{title}", escape(testClass) + " - " + endpoint.getMetricName()));
+            html.append("<p><a href=\"index.html\">&larr; all pages</a></p>\n<h1>").append(escape(testClass))
+                .append(" &middot; ").append(endpoint.getMetricName()).append("</h1>\n");
+            html.append("<table><tr><th>window</th><th>from</th><th>requests</th><th>errors</th>"
+                + "<th>p50 ms</th><th>p99 ms</th><th>max ms</th><th></th></tr>\n");
+            SimpleDateFormat time = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+            for (WindowSummary window : windows) {
+                html.append("<tr><td>").append(window.index + 1).append("</td><td>")
+                    .append(time.format(new Date(startMillis + window.index * windowMillis))).append("</td>")
+                    .append("<td>").append(window.count).append("</td><td")
+                    .append(window.errors > 0 ? " class=\"bad\">" : ">").append(window.errors).append("</td>")
+                    .append(String.format("<td>%.1f</td><td>%.1f</td><td>%.1f</td>",
+                        window.p50Micros / 1000.0, window.p99Micros / 1000.0, window.maxMicros / 1000.0))
+                    .append("<td><a href=\"#\" onclick=\"return MLXPage.open(this, '").append(id).append("', ")
+                    .append(window.index).append(", ").append(window.chunks).append(")\">requests</a></td></tr>\n");
+            }
+            html.append("</table>\n").append(PAGE_SCRIPT).append("</body></html>\n");
+            outDir.mkdirs();
+            try (Writer out = Files.newBufferedWriter(new File(outDir, id + ".html").toPath(), StandardCharsets.UTF_8)) {
+                out.write(html.toString());
+            }
+        }
+        
+        /**
+         * A time window that still receives requests, with its current data file
+         */
+        private final class Window {
+            
+            final int index;
+            final Histogram latency = new Histogram(LatencyRecorder.HIGHEST_TRACKABLE_MICROS,
+                SIGNIFICANT_DIGITS);
+            final StringBuilder row = new StringBuilder(160);
+            long errors;
+            int chunks;
+            int rowsInChunk;
+            Writer out;
+            
+            Window(int index) {
+                this.index = index;
+            }
+            
+            void add(RequestRecord record) throws IOException {
+                if (out == null || rowsInChunk == chunkRows) {
+                    endChunk();
+                    chunks++;
+                    dataDir.mkdirs();
+                    out = Files.newBufferedWriter(
+                        new File(dataDir, "w" + index + "-" + chunks + ".js").toPath(), StandardCharsets.UTF_8);
+                    out.write("MLXPage.rows('" + id + "'," + index + "," + chunks + ",[\n");
+                    rowsInChunk = 0;
+                }
+                row.setLength(0);
+                if (rowsInChunk > 0) {
+                    row.append(",\n");
+                }
+                row.append('[').append(record.getTimestampMillis()).append(',').append(record.getStatusCode())
+                    .append(',').append(record.getLatencyMicros()).append(',').append(record.getRequestBytes())
+                    .append(',').append(record.getResponseBytes()).append(',');
+                RequestRecord.appendString(row, String.join(" ", record.getOrderIds()));
+                row.append(',');
+                RequestRecord.appendString(row, record.getErrorClass() == null ? "" : record.getErrorClass());
+                row.append(']');
+                out.append(row);
+                rowsInChunk++;
+                latency.recordValue(Math.min(Math.max(record.getLatencyMicros(), 0),
+                    LatencyRecorder.HIGHEST_TRACKABLE_MICROS));
+                if (!record.isSuccessful()) {
+                    errors++;
+                }
+            }
+            
+            private void endChunk() throws IOException {
+                if (out != null) {
+                    out.write("\n]);\n");
+                    out.close();
+                    out = null;
+                }
+            }
+            
+            WindowSummary close() throws IOException {
+                endChunk();
+                return new WindowSummary(index, latency.getTotalCount(), errors, latency.getValueAtPercentile(50),
+                    latency.getValueAtPercentile(99), latency.getMaxValue(), chunks);
+            }
+            
+            void abandon() {
+                if (out != null) {
+                    try {
+                        out.close();
+                    } catch (IOException e) {
+                        logger.warn("Failed to close " + id + " window " + index + ": " + e.getMessage());
+                    }
+                    out = null;
+                }
+            }
+        }
+    }
+    
+    /**
+     * What is kept of a window once its requests are on disk
+     */
+    private static final class WindowSummary {
+        
+        final int index;
+        final long count;
+        final long errors;
+        final long p50Micros;
+        final long p99Micros;
+        final long maxMicros;
+        final int chunks;
+        
+        WindowSummary(int index, long count, long errors, long p50Micros, long p99Micros, long maxMicros, int chunks) {
+            this.index = index;
+            this.count = count;
+            this.errors = errors;
+            this.p50Micros = p50Micros;
+            this.p99Micros = p99Micros;
+            this.maxMicros = maxMicros;
+            this.chunks = chunks;
+        }
+    }
+    
+    public static void main(String[] args) throws IOException {
+        File runDir = args.length > 0 ? new File(args[0]) : ResultsReport.latestRunDir();
+        if (runDir == null) {
+            throw new IllegalArgumentException("No results directory given and none found under resultsDir");
+        }
+        System.out.println(write(runDir).getPath());
+    }
+}
@@ -0,0 +1,300 @@
+package com.mlx.api.results;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.mlx.api.metrics.Endpoint;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * Performance charts of a run as inline SVG: throughput, p50/p99 latency, a latency heatmap and the
+ * error rate over time, plus a latency histogram per endpoint.
+ *
+ * Everything is drawn from the aggregates of a ResultsReport (its Timeline and per-endpoint
+ * histograms), never from individual requests, so the charts cost the same for a minute-long smoke
+ * run and a day-long soak. No script or external library is needed to view them.
+ */
+public final class PerformanceCharts {
+    
+    // Upper bounds of the latency bands used by the heatmap and the histograms
+    private static final long[] BAND_MICROS = {
+        500, 1_000, 2_000, 5_000, 10_000, 20_000, 50_000, 100_000, 200_000, 500_000,
+        1_000_000, 2_000_000, 5_000_000, 10_000_000, 20_000_000, Long.MAX_VALUE
+    };
+    private static final String[] BAND_LABELS = {
+        "<=0.5ms", "<=1ms", "<=2ms", "<=5ms", "<=10ms", "<=20ms", "<=50ms", "<=100ms", "<=200ms", "<=500ms",
+        "<=1s", "<=2s", "<=5s", "<=10s", "<=20s", ">20s"
+    };
+    
+    private static final int WIDTH = 900;
+    private static final int HEIGHT = 200;
+    private static final int LEFT = 64;
+    private static final int RIGHT = 12;
+    private static final int TOP = 24;
+    private static final int BOTTOM = 24;
+    private static final int PLOT_WIDTH = WIDTH - LEFT - RIGHT;
+    private static final int PLOT_HEIGHT = HEIGHT - TOP - BOTTOM;
+    
+    private PerformanceCharts() {
+    }
+    
+    /**
+     * Add a "Performance" test (category Performance, so it gets its own entry in the category view)
+     * holding the charts of the run
+     */
+    public static ExtentTest addTo(ExtentReports extent, ResultsReport results) {
+        Timeline timeline = results.getTimeline();
+        ExtentTest test = extent.createTest("Performance", String.format(
+            "Throughput, latency and errors of %d requests over %.1f s, in %d buckets of %.1f s",
+            results.getTotal(), results.getDurationSeconds(), timeline.size(), timeline.getBucketMillis() / 1000.0));
+        test.assignCategory("Performance");
+        if (timeline.size() == 0) {
+            test.info("No requests were recorded");
+            return test;
+        }
+        test.info(throughput(timeline));
+        test.info(latency(timeline));
+        test.info(heatmap(timeline));
+        test.info(errorRate(timeline));
+        ExtentTest histograms = test.createNode("Latency histograms by endpoint");
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = results.getLatency(endpoint);
+            if (histogram.getTotalCount() > 0) {
+                histograms.info(histogram(endpoint.getMetricName(), histogram));
+            }
+        }
+        return test;
+    }
+    
+    /**
+     * All charts as one HTML fragment, for pages outside Extent
+     */
+    public static String toHtml(ResultsReport results) {
+        Timeline timeline = results.getTimeline();
+        if (timeline.size() == 0) {
+            return "";
+        }
+        StringBuilder html = new StringBuilder("<h2>Performance</h2>\n");
+        html.append(throughput(timeline)).append('\n')
+            .append(latency(timeline)).append('\n')
+            .append(heatmap(timeline)).append('\n')
+            .append(errorRate(timeline)).append('\n');
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = results.getLatency(endpoint);
+            if (histogram.getTotalCount() > 0) {
+                html.append(histogram(endpoint.getMetricName(), histogram)).append('\n');
+            }
+        }
+        return html.toString();
+    }
+    
+    /**
+     * Completed requests per second, one bar per bucket
+     */
+    static String throughput(Timeline timeline) {
+        double seconds = timeline.getBucketMillis() / 1000.0;
+        double max = 0;
+        for (int i = 0; i < timeline.size(); i++) {
+            max = Math.max(max, timeline.getCount(i) / seconds);
+        }
+        StringBuilder svg = frame("Throughput (requests/s)", max, "%.1f", timeline);
+        double barWidth = (double) PLOT_WIDTH / timeline.size();
+        for (int i = 0; i < timeline.size(); i++) {
+            double height = scale(timeline.getCount(i) / seconds, max);
+            rect(svg, LEFT + i * barWidth, TOP + PLOT_HEIGHT - height, barWidth, height, "#667eea");
+        }
+        return svg.append("</svg>").toString();
+    }
+    
+    /**
+     * p50 and p99 latency per bucket in milliseconds
+     */
+    static String latency(Timeline timeline) {
+        double[] p50 = new double[timeline.size()];
+        double[] p99 = new double[timeline.size()];
+        double max = 0;
+        for (int i = 0; i < timeline.size(); i++) {
+            Histogram histogram = timeline.getLatency(i);
+            p50[i] = histogram == null ? Double.NaN : histogram.getValueAtPercentile(50) / 1000.0;
+            p99[i] = histogram == null ? Double.NaN : histogram.getValueAtPercentile(99) / 1000.0;
+            if (histogram != null) {
+                max = Math.max(max, p99[i]);
+            }
+        }
+        StringBuilder svg = frame("Latency (ms): p50 blue, p99 red", max, "%.1f", timeline);
+        polyline(svg, p50, max, "#667eea");
+        polyline(svg, p99, max, "#eb3349");
+        return svg.append("</svg>").toString();
+    }
+    
+    /**
+     * Requests per bucket and latency band; darker cells hold more requests (log scale)
+     */
+    static String heatmap(Timeline timeline) {
+        long[][] cells = new long[timeline.size()][];
+        long max = 0;
+        for (int i = 0; i < timeline.size(); i++) {
+            cells[i] = bands(timeline.getLatency(i));
+            for (long count : cells[i]) {
+                max = Math.max(max, count);
+            }
+        }
+        StringBuilder svg = open("Latency heatmap (requests per band)");
+        double cellWidth = (double) PLOT_WIDTH / timeline.size();
+        double cellHeight = (double) PLOT_HEIGHT / BAND_MICROS.length;
+        for (int b = 0; b < BAND_MICROS.length; b++) {
+            if (b % 3 == 0 || b == BAND_MICROS.length - 1) {
+                text(svg, LEFT - 4, TOP + PLOT_HEIGHT - b * cellHeight - 2, "end", BAND_LABELS[b]);
+            }
+        }
+        for (int i = 0; i < cells.length; i++) {
+            for (int b = 0; b < BAND_MICROS.length; b++) {
+                if (cells[i][b] == 0) {
+                    continue;
+                }
+                double shade = Math.log1p(cells[i][b]) / Math.log1p(max);
+                String color = String.format(Locale.ROOT, "rgb(%d,%d,%d)",
+                    (int) (255 - shade * (255 - 118)), (int) (255 - shade * (255 - 75)), (int) (255 - shade * (255 - 162)));
+                rect(svg, LEFT + i * cellWidth, TOP + PLOT_HEIGHT - (b + 1) * cellHeight, cellWidth, cellHeight, color);
+            }
+        }
+        timeAxis(svg, timeline);
+        return svg.append("</svg>").toString();
+    }
+    
+    /**
+     * Share of requests without a 2xx response per bucket, in percent
+     */
+    static String errorRate(Timeline timeline) {
+        double[] rate = new double[timeline.size()];
+        double max = 0;
+        for (int i = 0; i < timeline.size(); i++) {
+            long count = timeline.getCount(i);
+            rate[i] = count == 0 ? Double.NaN : 100.0 * timeline.getErrors(i) / count;
+            if (count > 0) {
+                max = Math.max(max, rate[i]);
+            }
+        }
+        StringBuilder svg = frame("Error rate (%)", Math.max(max, 1), "%.1f", timeline);
+        polyline(svg, rate, Math.max(max, 1), "#eb3349");
+        return svg.append("</svg>").toString();
+    }
+    
+    /**
+     * Requests per latency band of one endpoint
+     */
+    static String histogram(String title, Histogram histogram) {
+        long[] bands = bands(histogram);
+        long max = 0;
+        for (long count : bands) {
+            max = Math.max(max, count);
+        }
+        StringBuilder svg = open(String.format(Locale.ROOT, "%s latency: %d requests, p50 %.1f ms, p99 %.1f ms, max %.1f ms",
+            title, histogram.getTotalCount(), histogram.getValueAtPercentile(50) / 1000.0,
+            histogram.getValueAtPercentile(99) / 1000.0, histogram.getMaxValue() / 1000.0));
+        yAxis(svg, max, "%.0f");
+        double barWidth = (double) PLOT_WIDTH / bands.length;
+        for (int b = 0; b < bands.length; b++) {
+            double height = scale(bands[b], max);
+            rect(svg, LEFT + b * barWidth + 1, TOP + PLOT_HEIGHT - height, barWidth - 2, height, "#11998e");
+            text(svg, LEFT + (b + 0.5) * barWidth, HEIGHT - 8, "middle", BAND_LABELS[b]);
+        }
+        return svg.append("</svg>").toString();
+    }
+    
+    /**
+     * Request counts per latency band
+     */
+    private static long[] bands(Histogram histogram) {
+        long[] bands = new long[BAND_MICROS.length];
+        if (histogram == null) {
+            return bands;
+        }
+        for (HistogramIterationValue value : histogram.recordedValues()) {
+            long micros = value.getValueIteratedTo();
+            int band = 0;
+            while (micros > BAND_MICROS[band]) {
+                band++;
+            }
+            bands[band] += value.getCountAtValueIteratedTo();
+        }
+        return bands;
+    }
+    
+    private static StringBuilder open(String title) {
+        StringBuilder svg = new StringBuilder(8192);
+        svg.append(String.format(Locale.ROOT,
+            "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"%d\" height=\"%d\" viewBox=\"0 0 %d %d\" "
+                + "style=\"font:11px sans-serif;background:#fff\">", WIDTH, HEIGHT, WIDTH, HEIGHT));
+        text(svg, LEFT, 14, "start", title);
+        svg.append(String.format(Locale.ROOT, "<rect x=\"%d\" y=\"%d\" width=\"%d\" height=\"%d\" fill=\"none\" stroke=\"#ddd\"/>",
+            LEFT, TOP, PLOT_WIDTH, PLOT_HEIGHT));
+        return svg;
+    }
+    
+    /**
+     * Chart with a y axis from 0 to max and the timeline's time axis
+     */
+    private static StringBuilder frame(String title, double max, String format, Timeline timeline) {
+        StringBuilder svg = open(title);
+        yAxis(svg, max, format);
+        timeAxis(svg, timeline);
+        return svg;
+    }
+    
+    private static void yAxis(StringBuilder svg, double max, String format) {
+        text(svg, LEFT - 4, TOP + 4, "end", String.format(Locale.ROOT, format, max));
+        text(svg, LEFT - 4, TOP + PLOT_HEIGHT / 2 + 4, "end", String.format(Locale.ROOT, format, max / 2));
+        text(svg, LEFT - 4, TOP + PLOT_HEIGHT, "end", "0");
+    }
+    
+    private static void timeAxis(StringBuilder svg, Timeline timeline) {
+        SimpleDateFormat time = new SimpleDateFormat("HH:mm:ss");
+        long start = timeline.getStartMillis();
+        long end = start + timeline.size() * timeline.getBucketMillis();
+        text(svg, LEFT, HEIGHT - 8, "start", time.format(new Date(start)));
+        text(svg, LEFT + PLOT_WIDTH / 2.0, HEIGHT - 8, "middle", time.format(new Date((start + end) / 2)));
+        text(svg, LEFT + PLOT_WIDTH, HEIGHT - 8, "end", time.format(new Date(end)));
+    }
+    
+    /**
+     * Line through the bucket centres; NaN values (empty buckets) break the line
+     */
+    private static void polyline(StringBuilder svg, double[] values, double max, String color) {
+        double step = (double) PLOT_WIDTH / values.length;
+        StringBuilder points = new StringBuilder();
+        for (int i = 0; i <= values.length; i++) {
+            if (i == values.length || Double.isNaN(values[i])) {
+                if (points.length() > 0) {
+                    svg.append("<polyline fill=\"none\" stroke=\"").append(color)
+                        .append("\" stroke-width=\"1.5\" points=\"").append(points).append("\"/>");
+                    points.setLength(0);
+                }
+                continue;
+            }
+            points.append(String.format(Locale.ROOT, "%.1f,%.1f ",
+                LEFT + (i + 0.5) * step, TOP + PLOT_HEIGHT - scale(values[i], max)));
+        }
+    }
+    
+    private static void rect(StringBuilder svg, double x, double y, double width, double height, String color) {
+        svg.append(String.format(Locale.ROOT, "<rect x=\"%.1f\" y=\"%.1f\" width=\"%.1f\" height=\"%.1f\" fill=\"%s\"/>",
+            x, y, Math.max(width, 0.5), height, color));
+    }
+    
+    private static void text(StringBuilder svg, double x, double y, String anchor, String text) {
+        svg.append(String.format(Locale.ROOT, "<text x=\"%.1f\" y=\"%.1f\" text-anchor=\"%s\" fill=\"#555\">", x, y, anchor))
+            .append(text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")).append("</text>");
+    }
+    
+    /**
+     * Height in pixels of value on a 0..max axis
+     */
+    private static double scale(double value, double max) {
+        return max <= 0 ? 0 : Math.min(value / max, 1) * PLOT_HEIGHT;
+    }
+}
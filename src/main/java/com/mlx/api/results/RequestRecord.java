@@ -0,0 +1,188 @@
+package com.mlx.api.results;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.mlx.api.metrics.Endpoint;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One request as written to the results file: a single JSON line
+ *   {"ts":1760650000123,"ep":"saveOrder","st":201,"us":48210,"req":1834,"resp":412,"ids":["A1"],"tc":"MLXOrderLoadTest"}
+ * ts = epoch millis when the call completed, st = HTTP status (0 = no response), us = latency in
+ * microseconds, req/resp = body bytes (-1 if the caller does not know), ids = order IDs created,
+ * err = exception class for calls without a response, tc = test class that made the call.
+ * Empty ids and null err/tc are left out.
+ */
+public final class RequestRecord {
+    
+    private final long timestampMillis;
+    private final Endpoint endpoint;
+    private final int statusCode;
+    private final long latencyMicros;
+    private final long requestBytes;
+    private final long responseBytes;
+    private final List<String> orderIds;
+    private final String errorClass;
+    private final String testClass;
+    
+    public RequestRecord(long timestampMillis, Endpoint endpoint, int statusCode, long latencyMicros,
+                         long requestBytes, long responseBytes, List<String> orderIds, String errorClass,
+                         String testClass) {
+        this.timestampMillis = timestampMillis;
+        this.endpoint = endpoint;
+        this.statusCode = statusCode;
+        this.latencyMicros = latencyMicros;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+        this.orderIds = orderIds == null ? Collections.<String>emptyList() : orderIds;
+        this.errorClass = errorClass;
+        this.testClass = testClass;
+    }
+    
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+    
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+    
+    /**
+     * HTTP status, 0 if no response was received
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+    
+    public long getLatencyMicros() {
+        return latencyMicros;
+    }
+    
+    /**
+     * Request body bytes, -1 if unknown
+     */
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+    
+    /**
+     * Response body bytes, -1 if unknown
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+    
+    public List<String> getOrderIds() {
+        return orderIds;
+    }
+    
+    /**
+     * Exception class of a call without response, or null
+     */
+    public String getErrorClass() {
+        return errorClass;
+    }
+    
+    /**
+     * Simple name of the test class that made the call, or null if unknown
+     */
+    public String getTestClass() {
+        return testClass;
+    }
+    
+    /**
+     * True for 2xx status codes
+     */
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+    
+    /**
+     * Append the record as one JSON line (with the trailing newline)
+     */
+    void appendJson(StringBuilder out) {
+        out.append("{\"ts\":").append(timestampMillis)
+            .append(",\"ep\":\"").append(endpoint.getMetricName())
+            .append("\",\"st\":").append(statusCode)
+            .append(",\"us\":").append(latencyMicros)
+            .append(",\"req\":").append(requestBytes)
+            .append(",\"resp\":").append(responseBytes);
+        if (!orderIds.isEmpty()) {
+            out.append(",\"ids\":[");
+            for (int i = 0; i < orderIds.size(); i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                appendString(out, orderIds.get(i));
+            }
+            out.append(']');
+        }
+        if (errorClass != null) {
+            out.append(",\"err\":");
+            appendString(out, errorClass);
+        }
+        if (testClass != null) {
+            out.append(",\"tc\":");
+            appendString(out, testClass);
+        }
+        out.append("}\n");
+    }
+    
+    /**
+     * Append value as a quoted JSON string
+     */
+    static void appendString(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c < 0x20) {
+                out.append(String.format("\\u%04x", (int) c));
+            } else {
+                out.append(c);
+            }
+        }
+        out.append('"');
+    }
+    
+    /**
+     * Record from a parsed results line
+     * @throws IllegalArgumentException if the line has no known endpoint
+     */
+    static RequestRecord fromJson(JsonNode node) {
+        String metricName = node.path("ep").asText();
+        Endpoint endpoint = null;
+        for (Endpoint candidate : Endpoint.values()) {
+            if (candidate.getMetricName().equals(metricName)) {
+                endpoint = candidate;
+            }
+        }
+        if (endpoint == null) {
+            throw new IllegalArgumentException("Unknown endpoint in results line: " + metricName);
+        }
+        List<String> orderIds = Collections.emptyList();
+        JsonNode ids = node.path("ids");
+        if (ids.isArray() && ids.size() > 0) {
+            orderIds = new ArrayList<>(ids.size());
+            for (JsonNode id : ids) {
+                orderIds.add(id.asText());
+            }
+        }
+        JsonNode error = node.path("err");
+        JsonNode testClass = node.path("tc");
+        return new RequestRecord(node.path("ts").asLong(), endpoint, node.path("st").asInt(), node.path("us").asLong(),
+            node.path("req").asLong(-1), node.path("resp").asLong(-1), orderIds,
+            error.isTextual() ? error.asText() : null, testClass.isTextual() ? testClass.asText() : null);
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder line = new StringBuilder(96);
+        appendJson(line);
+        line.setLength(line.length() - 1);
+        return line.toString();
+    }
+}
@@ -0,0 +1,320 @@
+package com.mlx.api.results;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mlx.api.metrics.Endpoint;
+import com.mlx.api.metrics.LatencyRecorder;
+import com.mlx.api.metrics.StatusClass;
+import com.mlx.api.utils.ConfigReader;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Post-run view of a results directory written by ResultsSink.
+ *
+ * The part files are read line by line into fixed-size aggregates - per endpoint a latency histogram,
+ * status-class counts, byte and order totals - plus counts per error kind and the first
+ * resultsReportMaxFailures failed requests, and a Timeline of at most performanceChartBuckets buckets.
+ * Memory therefore depends on the number of distinct errors, not on the number of requests. From the aggregates it writes a summary HTML page and adds a bounded
+ * "Request Results" node to an ExtentReports instance.
+ *
+ * Standalone (e.g. after a soak run that was killed before the suite finished):
+ *   mvn -q compile exec:java -Dexec.mainClass=com.mlx.api.results.ResultsReport [-Dexec.args=<run dir>]
+ * Without a directory the newest run under resultsDir is used; summary.html and extent.html are
+ * written into the run directory.
+ */
+public class ResultsReport {
+    
+    private static final Logger logger = LogManager.getLogger(ResultsReport.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    
+    private static final Endpoint[] ENDPOINTS = Endpoint.values();
+    private static final StatusClass[] STATUS_CLASSES = StatusClass.values();
+    
+    private final File runDir;
+    private final int maxFailures;
+    private final Histogram[] latency = new Histogram[ENDPOINTS.length];
+    private final long[][] statusCounts = new long[ENDPOINTS.length][STATUS_CLASSES.length];
+    private final long[] requestBytes = new long[ENDPOINTS.length];
+    private final long[] responseBytes = new long[ENDPOINTS.length];
+    private final long[] orders = new long[ENDPOINTS.length];
+    private final Timeline timeline;
+    private final Map<String, Long> errorCounts = new HashMap<>();
+    private final List<RequestRecord> failures = new ArrayList<>();
+    private long total;
+    private long malformed;
+    private long firstMillis = Long.MAX_VALUE;
+    private long lastMillis = Long.MIN_VALUE;
+    
+    private ResultsReport(File runDir, int maxFailures) {
+        this.runDir = runDir;
+        this.maxFailures = maxFailures;
+        this.timeline = new Timeline(ConfigReader.getIntProperty("performanceChartBuckets", 240));
+        for (int e = 0; e < ENDPOINTS.length; e++) {
+            latency[e] = new Histogram(LatencyRecorder.HIGHEST_TRACKABLE_MICROS, 3);
+        }
+    }
+    
+    /**
+     * Read every part file of a run directory, in order
+     * @param maxFailures Failed requests kept as examples for the reports
+     */
+    public static ResultsReport read(File runDir, int maxFailures) throws IOException {
+        File[] parts = runDir.listFiles((dir, name) -> name.startsWith("part-") && name.endsWith(".jsonl"));
+        if (parts == null) {
+            throw new IOException("Not a results directory: " + runDir.getPath());
+        }
+        Arrays.sort(parts);
+        ResultsReport report = new ResultsReport(runDir, maxFailures);
+        for (File part : parts) {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(new FileInputStream(part), StandardCharsets.UTF_8), 1 << 16)) {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    report.add(line);
+                }
+            }
+        }
+        return report;
+    }
+    
+    /**
+     * Read a run directory with resultsReportMaxFailures from config file
+     */
+    public static ResultsReport read(File runDir) throws IOException {
+        return read(runDir, ConfigReader.getIntProperty("resultsReportMaxFailures", 50));
+    }
+    
+    private void add(String line) {
+        if (line.isEmpty()) {
+            return;
+        }
+        RequestRecord record;
+        try {
+            record = RequestRecord.fromJson(MAPPER.readTree(line));
+        } catch (IOException | IllegalArgumentException e) {
+            // A run killed mid-write leaves a truncated last line
+            malformed++;
+            return;
+        }
+        int e = record.getEndpoint().ordinal();
+        total++;
+        latency[e].recordValue(Math.min(Math.max(record.getLatencyMicros(), 0), LatencyRecorder.HIGHEST_TRACKABLE_MICROS));
+        statusCounts[e][StatusClass.indexOf(record.getStatusCode())]++;
+        requestBytes[e] += Math.max(record.getRequestBytes(), 0);
+        responseBytes[e] += Math.max(record.getResponseBytes(), 0);
+        orders[e] += record.getOrderIds().size();
+        firstMillis = Math.min(firstMillis, record.getTimestampMillis());
+        lastMillis = Math.max(lastMillis, record.getTimestampMillis());
+        timeline.add(record.getTimestampMillis(), record.getLatencyMicros(), record.isSuccessful());
+        if (!record.isSuccessful()) {
+            String kind = record.getErrorClass() != null ? record.getErrorClass() : "HTTP " + record.getStatusCode();
+            errorCounts.merge(record.getEndpoint().getMetricName() + " " + kind, 1L, Long::sum);
+            if (failures.size() < maxFailures) {
+                failures.add(record);
+            }
+        }
+    }
+    
+    public File getRunDir() {
+        return runDir;
+    }
+    
+    /**
+     * Requests read from the part files
+     */
+    public long getTotal() {
+        return total;
+    }
+    
+    /**
+     * Lines that could not be parsed (normally only a truncated last line)
+     */
+    public long getMalformed() {
+        return malformed;
+    }
+    
+    /**
+     * Latency of an endpoint's requests in microseconds
+     */
+    public Histogram getLatency(Endpoint endpoint) {
+        return latency[endpoint.ordinal()];
+    }
+    
+    public long getCount(Endpoint endpoint, StatusClass statusClass) {
+        return statusCounts[endpoint.ordinal()][statusClass.ordinal()];
+    }
+    
+    /**
+     * Order IDs created through an endpoint
+     */
+    public long getOrderCount(Endpoint endpoint) {
+        return orders[endpoint.ordinal()];
+    }
+    
+    /**
+     * Requests, failures and latency over time, for the performance charts
+     */
+    public Timeline getTimeline() {
+        return timeline;
+    }
+    
+    /**
+     * Failed requests per "endpoint kind", kind being the exception class or "HTTP status"
+     */
+    public Map<String, Long> getErrorCounts() {
+        return errorCounts;
+    }
+    
+    /**
+     * The first failed requests, at most maxFailures
+     */
+    public List<RequestRecord> getFailures() {
+        return failures;
+    }
+    
+    /**
+     * Seconds between the first and last completed request
+     */
+    public double getDurationSeconds() {
+        return total == 0 ? 0 : (lastMillis - firstMillis) / 1000.0;
+    }
+    
+    /**
+     * Per-endpoint table (ms, bytes, orders) and error counts
+     */
+    public String toSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%d requests over %.1f s from %s%n", total, getDurationSeconds(), runDir.getPath()));
+        if (malformed > 0) {
+            summary.append(malformed).append(" malformed lines skipped\n");
+        }
+        summary.append(String.format("%-10s %9s %8s %8s %8s %8s %9s %9s %9s %9s %10s %10s %8s%n",
+            "endpoint", "count", "2xx", "4xx", "5xx", "error", "p50", "p90", "p99", "max",
+            "sent KB", "recv KB", "orders"));
+        for (Endpoint endpoint : ENDPOINTS) {
+            int e = endpoint.ordinal();
+            Histogram histogram = latency[e];
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            summary.append(String.format("%-10s %9d %8d %8d %8d %8d %9.1f %9.1f %9.1f %9.1f %10.1f %10.1f %8d%n",
+                endpoint.getMetricName(),
+                histogram.getTotalCount(),
+                statusCounts[e][StatusClass.SUCCESS.ordinal()],
+                statusCounts[e][StatusClass.CLIENT_ERROR.ordinal()],
+                statusCounts[e][StatusClass.SERVER_ERROR.ordinal()],
+                statusCounts[e][StatusClass.ERROR.ordinal()],
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getMaxValue() / 1000.0,
+                requestBytes[e] / 1024.0,
+                responseBytes[e] / 1024.0,
+                orders[e]));
+        }
+        if (!errorCounts.isEmpty()) {
+            summary.append("\nFailures by kind\n");
+            errorCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(entry -> summary.append(String.format("%10d  %s%n", entry.getValue(), entry.getKey())));
+        }
+        return summary.toString();
+    }
+    
+    private String failuresText() {
+        StringBuilder text = new StringBuilder();
+        for (RequestRecord failure : failures) {
+            text.append(new SimpleDateFormat("HH:mm:ss.SSS").format(new Date(failure.getTimestampMillis())))
+                .append("  ").append(failure).append('\n');
+        }
+        return text.toString();
+    }
+    
+    /**
+     * Write the summary and failure examples as a standalone HTML page
+     */
+    public File writeHtml(File file) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            out.write("<!DOCTYPE html>\n<html><head><meta charset=\"UTF-8\"><title>MLX Request Results</title>\n"
+                + "<style>body{font-family:sans-serif;margin:24px}pre{background:#f8f9fa;padding:12px;"
+                + "border-left:4px solid #667eea}</style></head><body>\n");
+            out.write("<h1>MLX Request Results</h1>\n<pre>" + escape(toSummary()) + "</pre>\n");
+            out.write(PerformanceCharts.toHtml(this));
+            if (!failures.isEmpty()) {
+                out.write("<h2>First " + failures.size() + " failed requests</h2>\n<pre>" + escape(failuresText()) + "</pre>\n");
+            }
+            out.write("</body></html>\n");
+        }
+        logger.info("Request results summary written to " + file.getPath());
+        return file;
+    }
+    
+    /**
+     * Add a "Request Results" node to the Extent report; its size does not grow with the request count
+     */
+    public ExtentTest addTo(ExtentReports extent) {
+        ExtentTest test = extent.createTest("Request Results",
+            "Every request of the run, aggregated from the streamed results in " + runDir.getPath());
+        test.info("<pre>" + escape(toSummary()) + "</pre>");
+        if (!failures.isEmpty()) {
+            test.createNode("First " + failures.size() + " failed requests")
+                .warning("<pre>" + escape(failuresText()) + "</pre>");
+        }
+        return test;
+    }
+    
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+    
+    /**
+     * Newest run directory under resultsDir, or null
+     */
+    static File latestRunDir() {
+        File[] runs = new File(ConfigReader.getProperty("resultsDir", "test-output/results"))
+            .listFiles((dir, name) -> name.startsWith("MLX_Results_"));
+        if (runs == null || runs.length == 0) {
+            return null;
+        }
+        Arrays.sort(runs);
+        return runs[runs.length - 1];
+    }
+    
+    public static void main(String[] args) throws IOException {
+        File runDir = args.length > 0 ? new File(args[0]) : latestRunDir();
+        if (runDir == null) {
+            throw new IllegalArgumentException("No results directory given and none found under resultsDir");
+        }
+        ResultsReport report = read(runDir);
+        System.out.print(report.toSummary());
+        report.writeHtml(new File(runDir, "summary.html"));
+        
+        ExtentSparkReporter spark = new ExtentSparkReporter(new File(runDir, "extent.html").getPath());
+        spark.config().setDocumentTitle("MLX Request Results");
+        spark.config().setReportName("MLX Request Results - " + runDir.getName());
+        ExtentReports extent = new ExtentReports();
+        extent.attachReporter(spark);
+        report.addTo(extent);
+        PerformanceCharts.addTo(extent, report);
+        extent.flush();
+    }
+}
@@ -0,0 +1,278 @@
+package com.mlx.api.results;
+
+import com.mlx.api.metrics.Endpoint;
+import com.mlx.api.metrics.MetricsRegistry;
+import com.mlx.api.utils.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streaming per-request results: every call appends one RequestRecord line to a JSONL file, so a
+ * million-request run keeps nothing per request in memory (ExtentReports holds every node until flush).
+ *
+ * record() only offers the record to a bounded queue; a single background thread formats the lines
+ * and writes them in batches. If the writer falls behind and the queue is full, the record is dropped
+ * and counted rather than stalling the calling thread. Files roll over at resultsRollMb into
+ * part-0001.jsonl, part-0002.jsonl, ... in one directory per run; ResultsReport reads them back after
+ * the run. With resultsSinkEnabled=false record() returns immediately.
+ */
+public class ResultsSink {
+    
+    private static final Logger logger = LogManager.getLogger(ResultsSink.class);
+    
+    private static final int BATCH_SIZE = 4096;
+    private static final RequestRecord END = new RequestRecord(0, Endpoint.LOGIN, 0, 0, 0, 0, null, null, null);
+    
+    // Inherited, so load-engine threads started by a test method are attributed to its class
+    private static final InheritableThreadLocal<String> testClass = new InheritableThreadLocal<>();
+    
+    private static volatile ResultsSink instance;
+    
+    private final boolean enabled;
+    private final File runDir;
+    private final long rollBytes;
+    private final BlockingQueue<RequestRecord> queue;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writerThread;
+    
+    private volatile boolean closed;
+    private volatile long written;
+    private int parts;
+    private volatile IOException failure;
+    
+    /**
+     * @param runDir Directory the part files are written to (created if missing)
+     * @param rollBytes Size after which the next part file is started
+     * @param queueCapacity Records that may wait for the writer before new ones are dropped
+     */
+    public ResultsSink(File runDir, long rollBytes, int queueCapacity) {
+        this.enabled = true;
+        this.runDir = runDir;
+        this.rollBytes = Math.max(1, rollBytes);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.writerThread = new Thread(this::writeLoop, "mlx-results-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+    
+    private ResultsSink() {
+        this.enabled = false;
+        this.runDir = null;
+        this.rollBytes = 0;
+        this.queue = null;
+        this.writerThread = null;
+        this.closed = true;
+    }
+    
+    /**
+     * The suite-wide sink, created from the results* config keys on first use
+     */
+    public static ResultsSink getInstance() {
+        ResultsSink sink = instance;
+        if (sink == null) {
+            synchronized (ResultsSink.class) {
+                if (instance == null) {
+                    instance = fromConfig();
+                    if (instance.enabled) {
+                        ResultsSink created = instance;
+                        MetricsRegistry.registerGauge("results.queued", () -> created.queue.size());
+                        MetricsRegistry.registerGauge("results.written", created::getWrittenCount);
+                        MetricsRegistry.registerGauge("results.dropped", created::getDroppedCount);
+                    }
+                }
+                sink = instance;
+            }
+        }
+        return sink;
+    }
+    
+    private static ResultsSink fromConfig() {
+        if (!Boolean.parseBoolean(ConfigReader.getProperty("resultsSinkEnabled", "true").trim())) {
+            return new ResultsSink();
+        }
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+        File runDir = new File(ConfigReader.getProperty("resultsDir", "test-output/results"), "MLX_Results_" + timestamp);
+        ResultsSink sink = new ResultsSink(runDir,
+            ConfigReader.getIntProperty("resultsRollMb", 64) * 1024L * 1024L,
+            ConfigReader.getIntProperty("resultsQueueCapacity", 65536));
+        logger.info("Streaming request results to " + runDir.getPath());
+        return sink;
+    }
+    
+    /**
+     * Attribute calls made by this thread (and threads it starts from now on) to a test class
+     * @param name Simple class name, or null to clear
+     */
+    public static void setTestClass(String name) {
+        testClass.set(name);
+    }
+    
+    /**
+     * Record a call that got a response
+     * @param requestBytes Request body bytes, -1 if unknown
+     * @param responseBytes Response body bytes, -1 if unknown
+     * @param orderIds Order IDs created by the call, or null
+     */
+    public void record(Endpoint endpoint, int statusCode, long latencyNanos, long requestBytes, long responseBytes,
+                       List<String> orderIds) {
+        if (!closed) {
+            offer(new RequestRecord(System.currentTimeMillis(), endpoint, statusCode, latencyNanos / 1000,
+                requestBytes, responseBytes, orderIds, null, testClass.get()));
+        }
+    }
+    
+    /**
+     * Record a call that failed without a response
+     */
+    public void recordError(Endpoint endpoint, long latencyNanos, long requestBytes, Throwable error) {
+        if (!closed) {
+            offer(new RequestRecord(System.currentTimeMillis(), endpoint, 0, latencyNanos / 1000,
+                requestBytes, -1, null, error.getClass().getName(), testClass.get()));
+        }
+    }
+    
+    private void offer(RequestRecord record) {
+        if (!queue.offer(record)) {
+            dropped.increment();
+        }
+    }
+    
+    private void writeLoop() {
+        List<RequestRecord> batch = new ArrayList<>(BATCH_SIZE);
+        StringBuilder lines = new StringBuilder(BATCH_SIZE * 128);
+        Writer out = null;
+        long partBytes = 0;
+        try {
+            boolean done = false;
+            while (!done) {
+                batch.add(queue.take());
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                for (RequestRecord record : batch) {
+                    if (record == END) {
+                        done = true;
+                        break;
+                    }
+                    record.appendJson(lines);
+                    written++;
+                }
+                batch.clear();
+                if (lines.length() == 0) {
+                    continue;
+                }
+                if (out == null || partBytes >= rollBytes) {
+                    if (out != null) {
+                        out.close();
+                    }
+                    out = openPart();
+                    partBytes = 0;
+                }
+                out.append(lines);
+                // Lines are ASCII apart from unusual order IDs, so chars are close enough to bytes for rolling
+                partBytes += lines.length();
+                lines.setLength(0);
+                if (queue.isEmpty()) {
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            failure = e;
+            closed = true;
+            queue.clear();
+            logger.error("Results sink stopped, cannot write to " + runDir.getPath() + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    logger.error("Failed to close results file: " + e.getMessage());
+                }
+            }
+        }
+    }
+    
+    private Writer openPart() throws IOException {
+        if (!runDir.exists() && !runDir.mkdirs()) {
+            throw new IOException("Cannot create " + runDir.getPath());
+        }
+        parts++;
+        File part = new File(runDir, String.format("part-%04d.jsonl", parts));
+        return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(part), StandardCharsets.UTF_8), 1 << 16);
+    }
+    
+    /**
+     * Write what is queued and stop the writer; later records are ignored
+     * @return Directory of the part files, or null if the sink is disabled
+     * @throws IOException if the writer failed or did not finish within the timeout
+     */
+    public File close(long timeout, TimeUnit unit) throws IOException {
+        if (!enabled) {
+            return null;
+        }
+        if (!closed) {
+            closed = true;
+            try {
+                // The writer keeps taking records, so the end marker finds room once the queue drains
+                if (!queue.offer(END, timeout, unit)) {
+                    throw new IOException("Results writer did not drain its queue within " + timeout + " " + unit);
+                }
+                writerThread.join(unit.toMillis(timeout));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while closing the results sink", e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        if (writerThread.isAlive()) {
+            throw new IOException("Results writer did not finish within " + timeout + " " + unit);
+        }
+        if (dropped.sum() > 0) {
+            logger.warn("Results sink dropped " + dropped.sum() + " records (queue full) - raise resultsQueueCapacity");
+        }
+        return runDir;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Directory of the part files, or null if the sink is disabled
+     */
+    public File getRunDir() {
+        return runDir;
+    }
+    
+    /**
+     * Records dropped because the writer queue was full
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+    
+    /**
+     * Records written so far (exact once closed)
+     */
+    public long getWrittenCount() {
+        return written;
+    }
+}
@@ -0,0 +1,116 @@
+package com.mlx.api.results;
+
+import com.mlx.api.metrics.LatencyRecorder;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Requests of a run bucketed by completion time: count, failures and a latency histogram per bucket.
+ *
+ * Buckets start at one second. When the run outgrows maxBuckets, neighbouring buckets are merged and
+ * the bucket width doubles, so memory and chart size stay fixed however long the run is. Requests
+ * that complete before the first bucket (threads finishing slightly out of order) go into it.
+ */
+public final class Timeline {
+    
+    // Charts only need a coarse latency per bucket; two digits keep each histogram small
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final long INITIAL_BUCKET_MILLIS = 1000;
+    
+    private final int maxBuckets;
+    private final long[] counts;
+    private final long[] errors;
+    private final Histogram[] latency;
+    private long startMillis = -1;
+    private long bucketMillis = INITIAL_BUCKET_MILLIS;
+    private int size;
+    
+    /**
+     * @param maxBuckets Most buckets kept; rounded up to an even number of at least 2
+     */
+    public Timeline(int maxBuckets) {
+        this.maxBuckets = Math.max(2, maxBuckets + (maxBuckets & 1));
+        this.counts = new long[this.maxBuckets];
+        this.errors = new long[this.maxBuckets];
+        this.latency = new Histogram[this.maxBuckets];
+    }
+    
+    public void add(long timestampMillis, long latencyMicros, boolean successful) {
+        if (startMillis < 0) {
+            startMillis = timestampMillis - timestampMillis % INITIAL_BUCKET_MILLIS;
+        }
+        long offset = Math.max(timestampMillis - startMillis, 0);
+        while (offset / bucketMillis >= maxBuckets) {
+            coarsen();
+        }
+        int index = (int) (offset / bucketMillis);
+        counts[index]++;
+        if (!successful) {
+            errors[index]++;
+        }
+        if (latency[index] == null) {
+            latency[index] = new Histogram(LatencyRecorder.HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        }
+        latency[index].recordValue(Math.min(Math.max(latencyMicros, 0), LatencyRecorder.HIGHEST_TRACKABLE_MICROS));
+        size = Math.max(size, index + 1);
+    }
+    
+    /**
+     * Merge bucket pairs and double the bucket width
+     */
+    private void coarsen() {
+        for (int i = 0; i < maxBuckets / 2; i++) {
+            counts[i] = counts[2 * i] + counts[2 * i + 1];
+            errors[i] = errors[2 * i] + errors[2 * i + 1];
+            Histogram merged = latency[2 * i];
+            if (merged == null) {
+                merged = latency[2 * i + 1];
+            } else if (latency[2 * i + 1] != null) {
+                merged.add(latency[2 * i + 1]);
+            }
+            latency[i] = merged;
+        }
+        for (int i = maxBuckets / 2; i < maxBuckets; i++) {
+            counts[i] = 0;
+            errors[i] = 0;
+            latency[i] = null;
+        }
+        size = (size + 1) / 2;
+        bucketMillis *= 2;
+    }
+    
+    /**
+     * Buckets in use, the last one possibly partial
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Epoch millis where the first bucket starts, -1 if nothing was added
+     */
+    public long getStartMillis() {
+        return startMillis;
+    }
+    
+    public long getBucketMillis() {
+        return bucketMillis;
+    }
+    
+    public long getCount(int bucket) {
+        return counts[bucket];
+    }
+    
+    /**
+     * Requests without a 2xx response
+     */
+    public long getErrors(int bucket) {
+        return errors[bucket];
+    }
+    
+    /**
+     * Latency in microseconds of the bucket's requests, null if it has none
+     */
+    public Histogram getLatency(int bucket) {
+        return latency[bucket];
+    }
+}
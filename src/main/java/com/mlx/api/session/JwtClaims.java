@@ -0,0 +1,40 @@
+package com.mlx.api.session;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Minimal JWT payload reader - decodes claims without verifying the signature
+ * (the server does that; the client only needs to know when the token expires)
+ */
+class JwtClaims {
+    
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    
+    private JwtClaims() {
+    }
+    
+    /**
+     * Expiry from the exp claim in milliseconds since epoch, or -1 if the token has no readable exp claim
+     */
+    static long expiresAtMillis(String token) {
+        if (token == null) {
+            return -1;
+        }
+        String[] parts = token.split("\\.");
+        if (parts.length < 2) {
+            return -1;
+        }
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+            JsonNode claims = MAPPER.readTree(new String(payload, StandardCharsets.UTF_8));
+            JsonNode exp = claims.get("exp");
+            return exp != null && exp.canConvertToLong() ? exp.asLong() * 1000 : -1;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+}
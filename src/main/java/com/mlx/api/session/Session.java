@@ -0,0 +1,54 @@
+package com.mlx.api.session;
+
+/**
+ * Logged in MLX session: auth token, user ID and token expiry
+ * Immutable, safe to share between threads
+ */
+public class Session {
+    
+    private final String authToken;
+    private final String userId;
+    private final long issuedAtMillis;
+    private final long expiresAtMillis;
+    
+    public Session(String authToken, String userId, long issuedAtMillis, long expiresAtMillis) {
+        this.authToken = authToken;
+        this.userId = userId;
+        this.issuedAtMillis = issuedAtMillis;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+    
+    public String getAuthToken() {
+        return authToken;
+    }
+    
+    public String getUserId() {
+        return userId;
+    }
+    
+    /**
+     * When the login that produced this session completed
+     */
+    public long getIssuedAtMillis() {
+        return issuedAtMillis;
+    }
+    
+    /**
+     * Token expiry from the JWT exp claim (or the configured default TTL if the token has none)
+     */
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+    
+    /**
+     * True if the token expires within skewMillis from now
+     */
+    public boolean isExpired(long skewMillis) {
+        return System.currentTimeMillis() + skewMillis >= expiresAtMillis;
+    }
+    
+    @Override
+    public String toString() {
+        return "Session{userId=" + userId + ", expiresAtMillis=" + expiresAtMillis + "}";
+    }
+}
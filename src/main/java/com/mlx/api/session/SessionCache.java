@@ -0,0 +1,195 @@
+package com.mlx.api.session;
+
+import com.mlx.api.client.LoginResult;
+import com.mlx.api.client.MLXApiClient;
+import com.mlx.api.utils.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Suite-wide, thread-safe cache of logged in sessions, one per credential.
+ *
+ * The first request for a credential logs in through MLXApiClient; the token's JWT exp claim decides
+ * when it expires. A background refresh runs sessionRefreshAheadSeconds before expiry so callers keep
+ * getting the old token until the new one is ready. Concurrent refresh attempts for the same credential
+ * share one in-flight login, so only one /users/login request goes out.
+ * No credential logs in more often than every sessionMinRefreshSeconds: a token that is already
+ * expired by the local clock when it arrives (server clock behind ours by more than its lifetime) is
+ * logged as an error and kept for that long instead of being replaced straight away.
+ */
+public class SessionCache {
+    
+    private static final Logger logger = LogManager.getLogger(SessionCache.class);
+    
+    private static final SessionCache instance = new SessionCache(
+        TimeUnit.SECONDS.toMillis(ConfigReader.getIntProperty("sessionRefreshAheadSeconds", 60)),
+        TimeUnit.SECONDS.toMillis(ConfigReader.getIntProperty("sessionDefaultTtlSeconds", 3600)),
+        TimeUnit.SECONDS.toMillis(ConfigReader.getIntProperty("sessionMinRefreshSeconds", 30)));
+    
+    // Treat a token as expired slightly early so it never expires in flight
+    private static final long EXPIRY_SKEW_MILLIS = 5000;
+    
+    private final long refreshAheadMillis;
+    private final long defaultTtlMillis;
+    private final long minRefreshMillis;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService refresher;
+    private final MLXApiClient client = new MLXApiClient(ConfigReader.getProperty("baseURI"));
+    
+    /**
+     * @param minRefreshMillis Shortest time between two logins of the same credential
+     */
+    public SessionCache(long refreshAheadMillis, long defaultTtlMillis, long minRefreshMillis) {
+        this.refreshAheadMillis = refreshAheadMillis;
+        this.defaultTtlMillis = defaultTtlMillis;
+        this.minRefreshMillis = Math.max(1000, minRefreshMillis);
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mlx-session-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Suite-wide cache configured from config file
+     */
+    public static SessionCache getInstance() {
+        return instance;
+    }
+    
+    /**
+     * Valid session for the credential - logs in on first use or after expiry, otherwise returns the cached one
+     * @throws IllegalStateException if the login fails
+     */
+    public Session getSession(String email, String password, String applicationType) {
+        Entry entry = entries.computeIfAbsent(key(email, password, applicationType),
+            k -> new Entry(email, password, applicationType));
+        Session session = entry.session;
+        if (session != null && !session.isExpired(EXPIRY_SKEW_MILLIS)) {
+            return session;
+        }
+        try {
+            return entry.refresh().join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Login failed for " + email, cause);
+        }
+    }
+    
+    /**
+     * Session for the test credentials in config file
+     */
+    public Session getDefaultSession() {
+        return getSession(
+            ConfigReader.getProperty("testEmail"),
+            ConfigReader.getProperty("testPassword"),
+            ConfigReader.getProperty("applicationType"));
+    }
+    
+    /**
+     * Drop the cached session so the next request logs in again (e.g. after a 401)
+     */
+    public void invalidate(String email, String password, String applicationType) {
+        Entry entry = entries.get(key(email, password, applicationType));
+        if (entry != null) {
+            entry.session = null;
+        }
+    }
+    
+    private static String key(String email, String password, String applicationType) {
+        return email + '\u0000' + password + '\u0000' + applicationType;
+    }
+    
+    /**
+     * Cached session and in-flight login for one credential
+     */
+    private class Entry {
+        
+        private final String email;
+        private final String password;
+        private final String applicationType;
+        private volatile Session session;
+        private CompletableFuture<Session> inFlight; // guarded by this
+        
+        Entry(String email, String password, String applicationType) {
+            this.email = email;
+            this.password = password;
+            this.applicationType = applicationType;
+        }
+        
+        /**
+         * Start a login unless one is already running; all callers share the same future
+         */
+        synchronized CompletableFuture<Session> refresh() {
+            if (inFlight == null) {
+                CompletableFuture<Session> future = new CompletableFuture<>();
+                inFlight = future;
+                refresher.execute(() -> login(future));
+            }
+            return inFlight;
+        }
+        
+        private void login(CompletableFuture<Session> future) {
+            Session fresh = null;
+            Exception failure = null;
+            try {
+                LoginResult login = client.login(email, password, applicationType);
+                if (!login.isLoginSuccessful()) {
+                    throw new IllegalStateException("Login failed for " + email
+                        + " with status " + login.getStatusCode());
+                }
+                String token = login.getAuthToken();
+                long now = System.currentTimeMillis();
+                long expiresAt = JwtClaims.expiresAtMillis(token);
+                if (expiresAt <= 0) {
+                    expiresAt = now + defaultTtlMillis;
+                } else if (expiresAt - EXPIRY_SKEW_MILLIS <= now) {
+                    // Replacing it at once would log in again on every request
+                    logger.error("Token issued for " + email + " is already expired by the local clock (exp "
+                        + new java.util.Date(expiresAt) + ") - server clock behind? Keeping it for "
+                        + minRefreshMillis / 1000 + " s before the next login");
+                    expiresAt = now + minRefreshMillis + EXPIRY_SKEW_MILLIS;
+                }
+                fresh = new Session(token, login.getUserId(), now, expiresAt);
+                session = fresh;
+                scheduleRefresh(fresh);
+                logger.info("Session cached for " + email + ", expires at " + new java.util.Date(expiresAt));
+            } catch (Exception e) {
+                failure = e;
+                logger.error("Session login failed for " + email + ": " + e.getMessage());
+            }
+            
+            synchronized (this) {
+                inFlight = null;
+            }
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(fresh);
+            }
+        }
+        
+        private void scheduleRefresh(Session fresh) {
+            long lifetime = fresh.getExpiresAtMillis() - fresh.getIssuedAtMillis();
+            // Short-lived tokens refresh half way through instead of immediately, never sooner than minRefreshMillis
+            long delay = Math.max(lifetime / 2, fresh.getExpiresAtMillis() - refreshAheadMillis - System.currentTimeMillis());
+            delay = Math.max(delay, minRefreshMillis);
+            refresher.schedule(() -> {
+                if (session == fresh) {
+                    refresh();
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.mlx.api.stub;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Distribution the stand-in draws each response delay from.
+ *
+ * Config syntax (milliseconds):
+ *   fixed:20            - always 20 ms
+ *   uniform:10-50       - evenly spread between 10 and 50 ms
+ *   lognormal:40/250    - median 40 ms, 99th percentile 250 ms (long right tail, like a real service)
+ *   none                - no added delay
+ */
+public class LatencyProfile {
+    
+    public static final LatencyProfile NONE = new LatencyProfile(Kind.FIXED, 0, 0);
+    
+    // z-score of the 99th percentile of the standard normal distribution
+    private static final double Z_P99 = 2.3263478740;
+    
+    private enum Kind { FIXED, UNIFORM, LOGNORMAL }
+    
+    private final Kind kind;
+    private final double first;
+    private final double second;
+    
+    private LatencyProfile(Kind kind, double first, double second) {
+        this.kind = kind;
+        this.first = first;
+        this.second = second;
+    }
+    
+    public static LatencyProfile fixed(long millis) {
+        return new LatencyProfile(Kind.FIXED, millis, millis);
+    }
+    
+    public static LatencyProfile uniform(long minMillis, long maxMillis) {
+        if (maxMillis < minMillis) {
+            throw new IllegalArgumentException("uniform latency needs min <= max: " + minMillis + "-" + maxMillis);
+        }
+        return new LatencyProfile(Kind.UNIFORM, minMillis, maxMillis);
+    }
+    
+    /**
+     * @param medianMillis 50th percentile
+     * @param p99Millis 99th percentile, at least the median
+     */
+    public static LatencyProfile lognormal(double medianMillis, double p99Millis) {
+        if (medianMillis <= 0 || p99Millis < medianMillis) {
+            throw new IllegalArgumentException("lognormal latency needs 0 < median <= p99: " + medianMillis + "/" + p99Millis);
+        }
+        return new LatencyProfile(Kind.LOGNORMAL, medianMillis, p99Millis);
+    }
+    
+    /**
+     * Profile for a config value; NONE if blank
+     * @throws IllegalArgumentException for unknown or malformed values
+     */
+    public static LatencyProfile parse(String value) {
+        if (value == null || value.trim().isEmpty() || value.trim().equalsIgnoreCase("none")) {
+            return NONE;
+        }
+        String text = value.trim().toLowerCase();
+        int colon = text.indexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("Latency profile must be fixed:, uniform: or lognormal: - got " + value);
+        }
+        String kind = text.substring(0, colon);
+        String args = text.substring(colon + 1).trim();
+        try {
+            switch (kind) {
+                case "fixed":
+                    return fixed(Long.parseLong(args));
+                case "uniform": {
+                    String[] range = args.split("-");
+                    return uniform(Long.parseLong(range[0].trim()), Long.parseLong(range[1].trim()));
+                }
+                case "lognormal": {
+                    String[] percentiles = args.split("/");
+                    return lognormal(Double.parseDouble(percentiles[0].trim()), Double.parseDouble(percentiles[1].trim()));
+                }
+                default:
+                    throw new IllegalArgumentException("Unknown latency profile: " + value);
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Malformed latency profile: " + value, e);
+        }
+    }
+    
+    /**
+     * Draw one delay in milliseconds
+     */
+    public long sampleMillis() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (kind) {
+            case UNIFORM:
+                return (long) first + random.nextLong((long) second - (long) first + 1);
+            case LOGNORMAL: {
+                double sigma = Math.log(second / first) / Z_P99;
+                return Math.round(first * Math.exp(sigma * random.nextGaussian()));
+            }
+            default:
+                return (long) first;
+        }
+    }
+    
+    @Override
+    public String toString() {
+        switch (kind) {
+            case UNIFORM:
+                return "uniform:" + (long) first + "-" + (long) second;
+            case LOGNORMAL:
+                return "lognormal:" + first + "/" + second;
+            default:
+                return first == 0 ? "none" : "fixed:" + (long) first;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.mlx.api.stub;
+
+import com.mlx.api.metrics.Endpoint;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Embedded, in-process stand-in for the MLX API, for repeatable benchmarks away from the shared staging host.
+ *
+ * Serves /users/login, /orders/saveOrder and /users/{userId} with the response shapes the tests read
+ * (see StubApi) on the JDK's built-in HTTP server - no extra dependency. Each endpoint gets a latency
+ * profile, an error rate and optional payload padding from StubConfig. Delays never hold a thread:
+ * the reply is computed straight away and written later from a scheduler, so a slow profile does not
+ * cap throughput at stubThreads / latency.
+ *
+ * In the suite: stubEnabled=true starts it in BaseTest and baseURI=http://localhost:<stubPort> sends the
+ * page objects to it. On a load box it can also run on its own:
+ *   mvn -q compile exec:java -Dexec.mainClass=com.mlx.api.stub.MLXStubServer
+ */
+public class MLXStubServer {
+    
+    private static final Logger logger = LogManager.getLogger(MLXStubServer.class);
+    
+    private static final String JSON = "application/json; charset=utf-8";
+    private static final String USERS_PATH = "/users/";
+    private static final int BACKLOG = 1024;
+    
+    private final StubConfig config;
+    private final StubApi api;
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService responder;
+    private final Map<Endpoint, LongAdder> requests = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> injectedErrors = new EnumMap<>(Endpoint.class);
+    
+    private MLXStubServer(StubConfig config) throws IOException {
+        this.config = config;
+        this.api = new StubApi(config);
+        for (Endpoint endpoint : Endpoint.values()) {
+            requests.put(endpoint, new LongAdder());
+            injectedErrors.put(endpoint, new LongAdder());
+        }
+        
+        server = HttpServer.create(new InetSocketAddress(config.getPort()), BACKLOG);
+        workers = Executors.newFixedThreadPool(config.getThreads(), daemonThreads("mlx-stub-worker"));
+        responder = Executors.newScheduledThreadPool(config.getThreads(), daemonThreads("mlx-stub-responder"));
+        server.setExecutor(workers);
+        // Longest prefix wins, so /users/login is not taken by /users/
+        server.createContext(Endpoint.LOGIN.getPath(), this::handleLogin);
+        server.createContext(Endpoint.SAVE_ORDER.getPath(), this::handleSaveOrder);
+        server.createContext(USERS_PATH, this::handleGetUser);
+        server.createContext("/", exchange -> respond(exchange, null,
+            api.notFound(exchange.getRequestMethod(), exchange.getRequestURI().getPath())));
+    }
+    
+    /**
+     * Start a stand-in with the given settings
+     * @return The running server
+     */
+    public static MLXStubServer start(StubConfig config) throws IOException {
+        MLXStubServer stub = new MLXStubServer(config);
+        stub.server.start();
+        logger.info("MLX API stand-in listening on " + stub.getBaseURI() + " (" + config + ")");
+        return stub;
+    }
+    
+    /**
+     * Start a stand-in with the stub* settings from config file
+     */
+    public static MLXStubServer startFromConfig() throws IOException {
+        return start(StubConfig.fromConfig());
+    }
+    
+    /**
+     * Base URI to use as baseURI for page objects and clients
+     */
+    public String getBaseURI() {
+        return "http://localhost:" + getPort();
+    }
+    
+    /**
+     * Port actually bound (differs from stubPort when that is 0)
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+    
+    /**
+     * Requests received for an endpoint so far, injected failures included
+     */
+    public long getRequestCount(Endpoint endpoint) {
+        return requests.get(endpoint).sum();
+    }
+    
+    /**
+     * Requests answered with the configured error status on purpose
+     */
+    public long getInjectedErrorCount(Endpoint endpoint) {
+        return injectedErrors.get(endpoint).sum();
+    }
+    
+    /**
+     * Stop accepting requests; replies still waiting for their delay are dropped
+     */
+    public void stop() {
+        server.stop(0);
+        responder.shutdownNow();
+        workers.shutdownNow();
+        StringBuilder summary = new StringBuilder("MLX API stand-in stopped -");
+        for (Endpoint endpoint : Endpoint.values()) {
+            summary.append(' ').append(endpoint.getMetricName()).append('=').append(getRequestCount(endpoint))
+                .append(" (").append(getInjectedErrorCount(endpoint)).append(" injected errors)");
+        }
+        logger.info(summary.toString());
+    }
+    
+    private void handleLogin(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod()) || !isExactPath(exchange, Endpoint.LOGIN.getPath())) {
+            respond(exchange, null, notFound(exchange));
+            return;
+        }
+        byte[] body = readBody(exchange);
+        if (!injectError(exchange, Endpoint.LOGIN)) {
+            respond(exchange, Endpoint.LOGIN, api.login(body));
+        }
+    }
+    
+    private void handleSaveOrder(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod()) || !isExactPath(exchange, Endpoint.SAVE_ORDER.getPath())) {
+            respond(exchange, null, notFound(exchange));
+            return;
+        }
+        byte[] body = readBody(exchange);
+        if (!injectError(exchange, Endpoint.SAVE_ORDER)) {
+            respond(exchange, Endpoint.SAVE_ORDER, api.saveOrder(authorization(exchange), body));
+        }
+    }
+    
+    private void handleGetUser(HttpExchange exchange) throws IOException {
+        String userId = exchange.getRequestURI().getPath().substring(USERS_PATH.length());
+        if (!"GET".equals(exchange.getRequestMethod()) || userId.isEmpty() || userId.contains("/")) {
+            respond(exchange, null, notFound(exchange));
+            return;
+        }
+        if (!injectError(exchange, Endpoint.GET_USER)) {
+            respond(exchange, Endpoint.GET_USER, api.getUser(authorization(exchange), userId));
+        }
+    }
+    
+    /**
+     * Count the request and, with the endpoint's error rate, answer it with the error status
+     * @return true if the request was answered with an injected error
+     */
+    private boolean injectError(HttpExchange exchange, Endpoint endpoint) {
+        requests.get(endpoint).increment();
+        double errorRate = config.getErrorRate(endpoint);
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            injectedErrors.get(endpoint).increment();
+            respond(exchange, endpoint, api.injectedError(config.getErrorStatus()));
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Write the reply after the endpoint's sampled delay, without holding the worker thread meanwhile
+     */
+    private void respond(HttpExchange exchange, Endpoint endpoint, StubApi.Reply reply) {
+        long delayMillis = endpoint == null ? 0 : config.getLatency(endpoint).sampleMillis();
+        if (delayMillis <= 0) {
+            write(exchange, reply);
+        } else {
+            responder.schedule(() -> write(exchange, reply), delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    private static void write(HttpExchange exchange, StubApi.Reply reply) {
+        try {
+            exchange.getResponseHeaders().set("Content-Type", JSON);
+            exchange.sendResponseHeaders(reply.getStatus(), reply.getBody().length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(reply.getBody());
+            }
+        } catch (IOException e) {
+            // The client gave up (timeout, closed connection) - nothing left to answer
+            logger.debug("Stand-in could not write response: " + e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+    
+    private StubApi.Reply notFound(HttpExchange exchange) {
+        return api.notFound(exchange.getRequestMethod(), exchange.getRequestURI().getPath());
+    }
+    
+    private static boolean isExactPath(HttpExchange exchange, String path) {
+        return path.equals(exchange.getRequestURI().getPath());
+    }
+    
+    private static String authorization(HttpExchange exchange) {
+        return exchange.getRequestHeaders().getFirst("Authorization");
+    }
+    
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return in.readAllBytes();
+        }
+    }
+    
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+    
+    /**
+     * Command line entry point - runs the stand-in with the stub* settings until the JVM is stopped
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        MLXStubServer stub = startFromConfig();
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            stub.stop();
+            stopped.countDown();
+        }, "mlx-stub-shutdown"));
+        stopped.await();
+    }
+}
@@ -0,0 +1,463 @@
+package com.mlx.api.stub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Behaviour of the MLX API endpoints the suite calls, without any HTTP plumbing (see MLXStubServer).
+ *
+ * Response shapes follow what the page objects and tests read from staging: data.token and data.user
+ * for login, data.orders with one order per service date plus data.total_orders_created and
+ * data.standing_order_details for saveOrder, data.user for getUser. Validation failures use the same
+ * status codes and message/error/errors fields the negative tests check for.
+ *
+ * Tokens are HS256 JWTs signed with a per-instance key and carry an exp claim, so SessionCache
+ * refreshes them like real ones. Nothing is stored per request - orders are not kept.
+ * Thread-safe.
+ */
+class StubApi {
+    
+    // Every order in a response is an MLX order; the request's order_type only selects standing or single
+    static final String ORDER_TYPE = "MLX";
+    static final String STANDING_ORDER = "STANDING ORDER";
+    
+    private static final int MAX_SERVICE_DATES = 366;
+    
+    private static final String[] REQUIRED_ORDER_FIELDS = {
+        "patient_data", "facility_account_number", "physician_npi", "services", "order_codes",
+        "icd_10_codes", "billing_type", "date_of_service", "tube_data"
+    };
+    private static final String[] REQUIRED_STANDING_FIELDS = {
+        "standing_start_date", "standing_end_date", "standing_frequency"
+    };
+    
+    private static final DateTimeFormatter DATE_FORMAT =
+        DateTimeFormatter.ofPattern("MM-dd-uuuu").withResolverStyle(ResolverStyle.STRICT);
+    private static final Pattern FACILITY_ACCOUNT = Pattern.compile("[A-Z]{2}\\d{7}");
+    private static final Pattern NPI = Pattern.compile("\\d{10}");
+    private static final Pattern ICD_10 = Pattern.compile("[A-TV-Z]\\d[0-9A-Z](\\.[0-9A-Z]{1,4})?");
+    
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final byte[] JWT_HEADER = BASE64_URL.encode(
+        "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+    
+    private final StubConfig config;
+    private final String padding;
+    private final SecretKeySpec signingKey;
+    private final ThreadLocal<Mac> macs;
+    private final AtomicLong orderSequence = new AtomicLong();
+    
+    StubApi(StubConfig config) {
+        this.config = config;
+        this.padding = config.getPayloadPaddingBytes() > 0
+            ? String.join("", Collections.nCopies(config.getPayloadPaddingBytes(), "x")) : null;
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.signingKey = new SecretKeySpec(key, "HmacSHA256");
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+    
+    /**
+     * Status code and JSON body of one response
+     */
+    static class Reply {
+        
+        private final int status;
+        private final byte[] body;
+        
+        Reply(int status, JsonNode body) {
+            this.status = status;
+            try {
+                this.body = MAPPER.writeValueAsBytes(body);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Cannot serialize stub response", e);
+            }
+        }
+        
+        int getStatus() {
+            return status;
+        }
+        
+        byte[] getBody() {
+            return body;
+        }
+    }
+    
+    /**
+     * POST /users/login
+     */
+    Reply login(byte[] requestBody) {
+        JsonNode request = parse(requestBody);
+        if (request == null) {
+            return error(400, "Invalid request body", "Request body must be JSON");
+        }
+        String email = text(request, "email");
+        String password = text(request, "password");
+        if (email == null || password == null) {
+            return error(400, "Email and password are required", "email and password are required");
+        }
+        // Without configured credentials any login succeeds (one user per email)
+        if (config.getEmail() != null && !config.getEmail().equalsIgnoreCase(email)) {
+            return error(404, "User not found", "No user registered with email " + email);
+        }
+        if (config.getPassword() != null && !config.getPassword().equals(password)) {
+            return error(401, "Invalid credentials", "Invalid email or password");
+        }
+        
+        ObjectNode data = MAPPER.createObjectNode();
+        data.put("token", issueToken(userId(email), email));
+        data.set("user", user(email));
+        return success(200, "Login successful", data);
+    }
+    
+    /**
+     * GET /users/{userId}
+     */
+    Reply getUser(String authorization, String userId) {
+        JsonNode claims = verifyToken(authorization);
+        if (claims == null) {
+            return error(401, "Unauthorized", "Invalid or expired token");
+        }
+        String email = text(claims, "email");
+        if (!userId(email).equals(userId)) {
+            return error(404, "User not found", "No user with id " + userId);
+        }
+        ObjectNode data = MAPPER.createObjectNode();
+        data.set("user", user(email));
+        return success(200, "User fetched successfully", data);
+    }
+    
+    /**
+     * POST /orders/saveOrder - standing orders fan out to one order per service date
+     */
+    Reply saveOrder(String authorization, byte[] requestBody) {
+        JsonNode claims = verifyToken(authorization);
+        if (claims == null) {
+            return error(401, "Unauthorized", "Invalid or expired token");
+        }
+        JsonNode request = parse(requestBody);
+        if (request == null || !request.isObject()) {
+            return error(400, "Invalid request body", "Request body must be a JSON object");
+        }
+        boolean standing = STANDING_ORDER.equalsIgnoreCase(text(request, "order_type"));
+        Reply invalid = validateOrder(request, standing);
+        if (invalid != null) {
+            return invalid;
+        }
+        
+        List<LocalDate> serviceDates;
+        if (standing) {
+            serviceDates = serviceDates(date(request, "standing_start_date"), date(request, "standing_end_date"),
+                text(request, "standing_frequency"));
+            if (serviceDates == null) {
+                return fieldError(422, "standing_frequency",
+                    "standing_frequency must be DAILY, WEEKLY or MONTHLY and cover at most " + MAX_SERVICE_DATES + " dates");
+            }
+        } else {
+            serviceDates = Collections.singletonList(date(request, "date_of_service"));
+        }
+        
+        String createdBy = text(claims, "sub");
+        ObjectNode data = MAPPER.createObjectNode();
+        ArrayNode orders = data.putArray("orders");
+        ArrayNode dates = MAPPER.createArrayNode();
+        for (LocalDate serviceDate : serviceDates) {
+            String formatted = DATE_FORMAT.format(serviceDate);
+            orders.add(order(request, formatted, createdBy));
+            dates.add(formatted);
+        }
+        data.put("total_orders_created", serviceDates.size());
+        if (standing) {
+            ObjectNode details = data.putObject("standing_order_details");
+            details.put("start_date", text(request, "standing_start_date"));
+            details.put("end_date", text(request, "standing_end_date"));
+            details.put("frequency", text(request, "standing_frequency").toUpperCase());
+            details.set("service_dates", dates);
+            return success(201, "Standing orders created successfully", data);
+        }
+        data.put("order_id", orders.get(0).path("order_id").asText());
+        return success(201, "Order created successfully", data);
+    }
+    
+    /**
+     * Response for a call that failed on purpose (error injection)
+     */
+    Reply injectedError(int status) {
+        return error(status, "Service temporarily unavailable", "Injected failure (stub error rate)");
+    }
+    
+    /**
+     * Response for an unknown path or method
+     */
+    Reply notFound(String method, String path) {
+        return error(404, "Route not found", "Cannot " + method + " " + path);
+    }
+    
+    private Reply validateOrder(JsonNode request, boolean standing) {
+        for (String field : REQUIRED_ORDER_FIELDS) {
+            if (isMissing(request.get(field))) {
+                return fieldError(422, field, field + " is required");
+            }
+        }
+        if (standing) {
+            for (String field : REQUIRED_STANDING_FIELDS) {
+                if (isMissing(request.get(field))) {
+                    return fieldError(422, field, field + " is required");
+                }
+            }
+        }
+        
+        String dateOfBirth = text(request.get("patient_data"), "date_of_birth");
+        if (dateOfBirth != null && parseDate(dateOfBirth) == null) {
+            return fieldError(400, "date_of_birth", "Invalid date format for date_of_birth, expected MM-dd-yyyy");
+        }
+        LocalDate today = LocalDate.now();
+        String[] dateFields = standing
+            ? new String[] {"standing_start_date", "standing_end_date", "date_of_service"}
+            : new String[] {"date_of_service"};
+        for (String field : dateFields) {
+            LocalDate date = date(request, field);
+            if (date == null) {
+                return fieldError(400, field, "Invalid date format for " + field + ", expected MM-dd-yyyy");
+            }
+            if (date.isBefore(today)) {
+                return fieldError(400, field, field + " cannot be in the past");
+            }
+        }
+        if (standing && date(request, "standing_end_date").isBefore(date(request, "standing_start_date"))) {
+            return fieldError(400, "standing_end_date", "standing_end_date cannot be before standing_start_date");
+        }
+        
+        if (!FACILITY_ACCOUNT.matcher(text(request, "facility_account_number")).matches()) {
+            return fieldError(422, "facility_account_number", "Invalid facility account number");
+        }
+        if (!NPI.matcher(text(request, "physician_npi")).matches()) {
+            return fieldError(422, "physician_npi", "Invalid physician NPI, expected 10 digits");
+        }
+        for (JsonNode code : request.get("icd_10_codes")) {
+            if (!ICD_10.matcher(code.asText()).matches()) {
+                return fieldError(422, "icd_10_codes", "Invalid ICD-10 code: " + code.asText());
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Dates from start to end inclusive, or null for an unknown frequency or too many dates
+     */
+    private static List<LocalDate> serviceDates(LocalDate start, LocalDate end, String frequency) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate date = start;
+        while (!date.isAfter(end)) {
+            if (dates.size() == MAX_SERVICE_DATES) {
+                return null;
+            }
+            dates.add(date);
+            date = next(date, frequency);
+            if (date == null) {
+                return null;
+            }
+        }
+        return dates;
+    }
+    
+    private static LocalDate next(LocalDate date, String frequency) {
+        switch (frequency.toUpperCase()) {
+            case "DAILY":
+                return date.plusDays(1);
+            case "WEEKLY":
+                return date.plusWeeks(1);
+            case "MONTHLY":
+                return date.plusMonths(1);
+            default:
+                return null;
+        }
+    }
+    
+    private ObjectNode order(JsonNode request, String serviceDate, String createdBy) {
+        ObjectNode order = MAPPER.createObjectNode();
+        order.put("order_id", "MLX" + String.format("%09d", orderSequence.incrementAndGet()));
+        order.put("order_type", ORDER_TYPE);
+        order.put("status", "ACTIVE");
+        order.set("facility_account_number", request.get("facility_account_number"));
+        order.set("physician_npi", request.get("physician_npi"));
+        order.set("billing_type", request.get("billing_type"));
+        order.set("services", request.get("services"));
+        order.set("order_codes", request.get("order_codes"));
+        order.set("icd_10_codes", request.get("icd_10_codes"));
+        order.put("fasting", request.path("fasting").asBoolean(false));
+        order.put("is_stat", request.path("is_stat").asBoolean(false));
+        order.set("tube_data", request.get("tube_data"));
+        order.set("patient_info", request.get("patient_data"));
+        ObjectNode phleboOrder = order.putObject("phlebo_order");
+        phleboOrder.put("date_of_service", serviceDate);
+        phleboOrder.put("appointment_time", text(request, "appointment_time"));
+        phleboOrder.put("service_address", text(request, "service_address_string"));
+        order.put("created_by", createdBy);
+        if (padding != null) {
+            order.put("notes", padding);
+        }
+        return order;
+    }
+    
+    private ObjectNode user(String email) {
+        ObjectNode user = MAPPER.createObjectNode();
+        user.put("_id", userId(email));
+        user.put("email", email);
+        user.put("first_name", "Automation");
+        user.put("last_name", "Tester");
+        user.put("phone", "9999999999");
+        user.put("role", "FACILITY_USER");
+        if (padding != null) {
+            user.put("notes", padding);
+        }
+        return user;
+    }
+    
+    /**
+     * Stable 24-hex-digit id per email, shaped like the MongoDB ids staging returns
+     */
+    static String userId(String email) {
+        String uuid = UUID.nameUUIDFromBytes(email.toLowerCase().getBytes(StandardCharsets.UTF_8)).toString();
+        return uuid.replace("-", "").substring(0, 24);
+    }
+    
+    private String issueToken(String userId, String email) {
+        long now = System.currentTimeMillis() / 1000;
+        ObjectNode claims = MAPPER.createObjectNode();
+        claims.put("sub", userId);
+        claims.put("email", email);
+        claims.put("iat", now);
+        claims.put("exp", now + config.getTokenTtlSeconds());
+        byte[] payload;
+        try {
+            payload = BASE64_URL.encode(MAPPER.writeValueAsBytes(claims));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize token claims", e);
+        }
+        String unsigned = new String(JWT_HEADER, StandardCharsets.US_ASCII) + "."
+            + new String(payload, StandardCharsets.US_ASCII);
+        return unsigned + "." + BASE64_URL.encodeToString(sign(unsigned));
+    }
+    
+    /**
+     * Claims of a "Bearer <token>" header this instance issued and that has not expired, otherwise null
+     */
+    private JsonNode verifyToken(String authorization) {
+        if (authorization == null || !authorization.regionMatches(true, 0, "Bearer ", 0, 7)) {
+            return null;
+        }
+        String token = authorization.substring(7).trim();
+        int lastDot = token.lastIndexOf('.');
+        int firstDot = token.indexOf('.');
+        if (firstDot < 0 || lastDot == firstDot) {
+            return null;
+        }
+        try {
+            byte[] signature = Base64.getUrlDecoder().decode(token.substring(lastDot + 1));
+            if (!MessageDigest.isEqual(signature, sign(token.substring(0, lastDot)))) {
+                return null;
+            }
+            JsonNode claims = MAPPER.readTree(Base64.getUrlDecoder().decode(token.substring(firstDot + 1, lastDot)));
+            return claims.path("exp").asLong() > System.currentTimeMillis() / 1000 ? claims : null;
+        } catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+    }
+    
+    private byte[] sign(String unsigned) {
+        return macs.get().doFinal(unsigned.getBytes(StandardCharsets.US_ASCII));
+    }
+    
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(signingKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+    
+    private static Reply success(int status, String message, JsonNode data) {
+        ObjectNode body = MAPPER.createObjectNode();
+        body.put("message", message);
+        body.set("data", data);
+        return new Reply(status, body);
+    }
+    
+    private static Reply error(int status, String message, String error) {
+        ObjectNode body = MAPPER.createObjectNode();
+        body.put("message", message);
+        body.put("error", error);
+        return new Reply(status, body);
+    }
+    
+    private static Reply fieldError(int status, String field, String message) {
+        ObjectNode body = MAPPER.createObjectNode();
+        body.put("message", message);
+        body.put("error", "Validation failed");
+        body.putObject("errors").put(field, message);
+        return new Reply(status, body);
+    }
+    
+    private static JsonNode parse(byte[] body) {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try {
+            return MAPPER.readTree(body);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+    
+    private static boolean isMissing(JsonNode value) {
+        return value == null || value.isNull()
+            || (value.isTextual() && value.asText().trim().isEmpty())
+            || (value.isContainerNode() && value.size() == 0);
+    }
+    
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node == null ? null : node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+    
+    private static LocalDate date(JsonNode request, String field) {
+        return parseDate(text(request, field));
+    }
+    
+    private static LocalDate parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value, DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
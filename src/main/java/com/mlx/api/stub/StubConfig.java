@@ -0,0 +1,135 @@
+package com.mlx.api.stub;
+
+import com.mlx.api.metrics.Endpoint;
+import com.mlx.api.utils.ConfigReader;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings for the embedded MLX API stand-in (MLXStubServer)
+ * Defaults come from the stub* keys in config-staging.properties; per-endpoint keys use the
+ * endpoint's metric name, e.g. stubLatency.saveOrder or stubErrorRate.login
+ */
+public class StubConfig {
+    
+    private final int port;
+    private final int threads;
+    private final Map<Endpoint, LatencyProfile> latency;
+    private final Map<Endpoint, Double> errorRate;
+    private final int errorStatus;
+    private final int payloadPaddingBytes;
+    private final int tokenTtlSeconds;
+    private final String email;
+    private final String password;
+    
+    /**
+     * @param port Port to listen on, 0 for any free port
+     * @param threads Threads that read requests and write delayed responses
+     * @param latency Added delay per endpoint (missing endpoints get none)
+     * @param errorRate Fraction 0..1 of calls per endpoint answered with errorStatus (missing endpoints: 0)
+     * @param errorStatus Status of injected failures (e.g. 503)
+     * @param payloadPaddingBytes Extra characters in every user and order object, to size responses like production
+     * @param tokenTtlSeconds Lifetime of issued tokens (their exp claim)
+     * @param email Email the login endpoint accepts
+     * @param password Password the login endpoint accepts
+     */
+    public StubConfig(int port, int threads, Map<Endpoint, LatencyProfile> latency, Map<Endpoint, Double> errorRate,
+                      int errorStatus, int payloadPaddingBytes, int tokenTtlSeconds, String email, String password) {
+        if (port < 0 || threads < 1) {
+            throw new IllegalArgumentException("port must not be negative and threads must be at least 1");
+        }
+        if (errorStatus < 400 || errorStatus > 599) {
+            throw new IllegalArgumentException("errorStatus must be a 4xx or 5xx status: " + errorStatus);
+        }
+        for (Map.Entry<Endpoint, Double> rate : errorRate.entrySet()) {
+            if (rate.getValue() < 0 || rate.getValue() > 1) {
+                throw new IllegalArgumentException("Error rate of " + rate.getKey() + " must be between 0 and 1");
+            }
+        }
+        this.port = port;
+        this.threads = threads;
+        this.latency = Collections.unmodifiableMap(copy(latency));
+        this.errorRate = Collections.unmodifiableMap(copy(errorRate));
+        this.errorStatus = errorStatus;
+        this.payloadPaddingBytes = Math.max(0, payloadPaddingBytes);
+        this.tokenTtlSeconds = tokenTtlSeconds;
+        this.email = email;
+        this.password = password;
+    }
+    
+    private static <V> Map<Endpoint, V> copy(Map<Endpoint, V> values) {
+        return values.isEmpty() ? new EnumMap<>(Endpoint.class) : new EnumMap<>(values);
+    }
+    
+    /**
+     * Load settings from config file
+     */
+    public static StubConfig fromConfig() {
+        Map<Endpoint, LatencyProfile> latency = new EnumMap<>(Endpoint.class);
+        Map<Endpoint, Double> errorRate = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            latency.put(endpoint, LatencyProfile.parse(ConfigReader.getProperty("stubLatency." + endpoint.getMetricName())));
+            errorRate.put(endpoint, Double.parseDouble(
+                ConfigReader.getProperty("stubErrorRate." + endpoint.getMetricName(), "0").trim()));
+        }
+        return new StubConfig(
+            ConfigReader.getIntProperty("stubPort", 8089),
+            ConfigReader.getIntProperty("stubThreads", 8),
+            latency,
+            errorRate,
+            ConfigReader.getIntProperty("stubErrorStatus", 503),
+            ConfigReader.getIntProperty("stubPayloadPaddingBytes", 0),
+            ConfigReader.getIntProperty("stubTokenTtlSeconds", 3600),
+            ConfigReader.getProperty("testEmail"),
+            ConfigReader.getProperty("testPassword"));
+    }
+    
+    public int getPort() {
+        return port;
+    }
+    
+    public int getThreads() {
+        return threads;
+    }
+    
+    public LatencyProfile getLatency(Endpoint endpoint) {
+        return latency.getOrDefault(endpoint, LatencyProfile.NONE);
+    }
+    
+    public double getErrorRate(Endpoint endpoint) {
+        return errorRate.getOrDefault(endpoint, 0.0);
+    }
+    
+    public int getErrorStatus() {
+        return errorStatus;
+    }
+    
+    public int getPayloadPaddingBytes() {
+        return payloadPaddingBytes;
+    }
+    
+    public int getTokenTtlSeconds() {
+        return tokenTtlSeconds;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public String getPassword() {
+        return password;
+    }
+    
+    @Override
+    public String toString() {
+        return "port=" + port +
+               ", threads=" + threads +
+               ", latency=" + latency +
+               ", errorRate=" + errorRate +
+               ", errorStatus=" + errorStatus +
+               ", payloadPaddingBytes=" + payloadPaddingBytes +
+               ", tokenTtlSeconds=" + tokenTtlSeconds;
+    }
+}
@@ -0,0 +1,215 @@
+package com.mlx.api.utils;
+
+import com.aventstack.extentreports.ExtentReports;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Report facade that keeps ExtentReports off the test threads.
+ *
+ * createTest() and every AsyncExtentTest call only append an event to a bounded lock-free queue;
+ * one background thread applies the events to the ExtentReports in order, so Extent never sees two
+ * writers and the events of one test stay in the order they were logged. The HTML is rendered on the
+ * same thread: once by close(), or every reportFlushIntervalSeconds as well when that is above 0.
+ * A test thread never waits - if reportQueueCapacity events are already queued, log lines are dropped
+ * and counted (creating a test or node is never dropped, so later lines still find it).
+ */
+public class AsyncExtentReports {
+    
+    private static final Logger logger = LogManager.getLogger(AsyncExtentReports.class);
+    
+    // Longest the writer sleeps when idle; producers wake it up as soon as they queue something
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int CLOCK_CHECK_EVERY = 1024;
+    
+    private final ExtentReports extent;
+    private final int capacity;
+    private final long flushIntervalNanos;
+    private final Queue<Consumer<ExtentReports>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    
+    private volatile boolean closing;
+    private volatile boolean closed;
+    private volatile long flushes;
+    private volatile long applied;
+    
+    /**
+     * @param extent Report the events are applied to - only the writer thread touches it from now on
+     * @param capacity Events that may wait for the writer before log lines are dropped
+     * @param flushIntervalSeconds Render the report this often while the run goes on (0: only on close)
+     */
+    public AsyncExtentReports(ExtentReports extent, int capacity, int flushIntervalSeconds) {
+        this.extent = extent;
+        this.capacity = Math.max(1, capacity);
+        this.flushIntervalNanos = TimeUnit.SECONDS.toNanos(Math.max(0, flushIntervalSeconds));
+        this.writer = new Thread(this::writeLoop, "mlx-report-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+    
+    public AsyncExtentTest createTest(String name) {
+        return createTest(name, null);
+    }
+    
+    /**
+     * Queue a new top-level test; log to the returned handle right away
+     */
+    public AsyncExtentTest createTest(String name, String description) {
+        AsyncExtentTest test = new AsyncExtentTest(this);
+        enqueue(extent -> test.attach(description == null
+            ? extent.createTest(name) : extent.createTest(name, description)), true);
+        return test;
+    }
+    
+    /**
+     * Run any other report work (system info, whole summary nodes) on the writer thread
+     */
+    public void submit(Consumer<ExtentReports> work) {
+        enqueue(work, true);
+    }
+    
+    /**
+     * Queue an event; returns at once whether or not it could be queued
+     * @param force Queue even above capacity (structure events that later lines depend on)
+     */
+    void enqueue(Consumer<ExtentReports> event, boolean force) {
+        if (closed) {
+            dropped.incrementAndGet();
+            return;
+        }
+        if (queued.incrementAndGet() > capacity && !force) {
+            queued.decrementAndGet();
+            dropped.incrementAndGet();
+            return;
+        }
+        queue.offer(event);
+        LockSupport.unpark(writer);
+    }
+    
+    private void writeLoop() {
+        long nextFlush = System.nanoTime() + flushIntervalNanos;
+        boolean dirty = false;
+        long sinceClockCheck = 0;
+        while (true) {
+            Consumer<ExtentReports> event = queue.poll();
+            if (event != null) {
+                queued.decrementAndGet();
+                apply(event);
+                dirty = true;
+                // Under a steady stream of events the queue is never empty, so look at the clock now and then
+                if (++sinceClockCheck < CLOCK_CHECK_EVERY) {
+                    continue;
+                }
+            } else if (closing) {
+                break;
+            }
+            sinceClockCheck = 0;
+            long now = System.nanoTime();
+            if (flushIntervalNanos > 0 && dirty && now - nextFlush >= 0) {
+                render();
+                dirty = false;
+                nextFlush = now + flushIntervalNanos;
+            }
+            if (event == null) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+        closed = true;
+        // Events queued by producers that raced with close()
+        for (Consumer<ExtentReports> event = queue.poll(); event != null; event = queue.poll()) {
+            apply(event);
+        }
+        if (dropped.get() > 0) {
+            extent.createTest("Report Events Dropped")
+                .warning(dropped.get() + " log lines were dropped because more than " + capacity
+                    + " were waiting (raise reportQueueCapacity)");
+        }
+        render();
+    }
+    
+    private void apply(Consumer<ExtentReports> event) {
+        try {
+            event.accept(extent);
+            applied++;
+        } catch (RuntimeException e) {
+            logger.error("Failed to apply report event: " + e);
+        }
+    }
+    
+    private void render() {
+        try {
+            extent.flush();
+            flushes++;
+        } catch (RuntimeException e) {
+            logger.error("Failed to write the Extent report: " + e);
+        }
+    }
+    
+    /**
+     * Apply everything queued, render the report one last time and stop the writer; later events are
+     * dropped. Only the first call does anything - it waits up to timeout for the writer to finish.
+     * @return true if this call rendered the report
+     */
+    public boolean close(long timeout, TimeUnit unit) {
+        synchronized (this) {
+            if (closing) {
+                return false;
+            }
+            closing = true;
+        }
+        LockSupport.unpark(writer);
+        try {
+            writer.join(unit.toMillis(timeout));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closed = true;
+        if (writer.isAlive()) {
+            logger.error("Extent report writer did not finish within " + timeout + " " + unit);
+            return false;
+        }
+        return true;
+    }
+    
+    public boolean isClosed() {
+        return closed;
+    }
+    
+    /**
+     * Events waiting for the writer
+     */
+    public int getQueued() {
+        return Math.max(0, queued.get());
+    }
+    
+    /**
+     * Log lines dropped because the queue was full or the report already closed
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+    
+    /**
+     * Events applied to the report so far
+     */
+    public long getApplied() {
+        return applied;
+    }
+    
+    /**
+     * Times the HTML was rendered so far
+     */
+    public long getFlushes() {
+        return flushes;
+    }
+}
@@ -0,0 +1,74 @@
+package com.mlx.api.utils;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+
+/**
+ * Handle to a test (or node) of an AsyncExtentReports report.
+ *
+ * Same logging methods as ExtentTest, but each call only queues the entry and returns; the report
+ * writer thread applies it to the real ExtentTest. Safe to use from any thread.
+ */
+public class AsyncExtentTest {
+    
+    private final AsyncExtentReports report;
+    
+    // Set and read only on the writer thread, which creates the test before applying any of its entries
+    private ExtentTest target;
+    
+    AsyncExtentTest(AsyncExtentReports report) {
+        this.report = report;
+    }
+    
+    void attach(ExtentTest target) {
+        this.target = target;
+    }
+    
+    public AsyncExtentTest log(Status status, String details) {
+        report.enqueue(extent -> target.log(status, details), false);
+        return this;
+    }
+    
+    public AsyncExtentTest log(Status status, Throwable throwable) {
+        report.enqueue(extent -> target.log(status, throwable), false);
+        return this;
+    }
+    
+    public AsyncExtentTest info(String details) {
+        return log(Status.INFO, details);
+    }
+    
+    public AsyncExtentTest pass(String details) {
+        return log(Status.PASS, details);
+    }
+    
+    public AsyncExtentTest fail(String details) {
+        return log(Status.FAIL, details);
+    }
+    
+    public AsyncExtentTest fail(Throwable throwable) {
+        return log(Status.FAIL, throwable);
+    }
+    
+    public AsyncExtentTest warning(String details) {
+        return log(Status.WARNING, details);
+    }
+    
+    public AsyncExtentTest skip(String details) {
+        return log(Status.SKIP, details);
+    }
+    
+    public AsyncExtentTest createNode(String name) {
+        return createNode(name, null);
+    }
+    
+    /**
+     * Queue a child node; log to the returned handle right away
+     */
+    public AsyncExtentTest createNode(String name, String description) {
+        AsyncExtentTest node = new AsyncExtentTest(report);
+        report.enqueue(extent -> node.attach(description == null
+            ? target.createNode(name) : target.createNode(name, description)), true);
+        return node;
+    }
+}
@@ -37,4 +37,12 @@ public class ConfigReader {
     public static String getProperty(String key, String defaultValue) {
         return properties.getProperty(key, defaultValue);
     }
+    
+    /**
+     * Get integer property with default value
+     */
+    public static int getIntProperty(String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : Integer.parseInt(value.trim());
+    }
 }
@@ -0,0 +1,36 @@
+package com.mlx.api.utils;
+
+import com.mlx.api.http.ExchangeLog;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * Failures-only HTTP logging for every suite: writes the exchanges kept for a failed test and drops
+ * those of a passed or skipped one.
+ *
+ * TestNG calls these methods on the thread that ran the test method, which is where ExchangeLog kept
+ * its exchanges. Registered through META-INF/services/org.testng.ITestNGListener, so it applies to
+ * every testng*.xml and to mvn test -Dtest=... alike, whether or not the test class extends BaseTest.
+ */
+public class ExchangeLogListener implements ITestListener {
+    
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        ExchangeLog.clearBuffered();
+    }
+    
+    @Override
+    public void onTestFailure(ITestResult result) {
+        ExchangeLog.emitBuffered("Test failed: " + result.getMethod().getMethodName());
+    }
+    
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        ExchangeLog.clearBuffered();
+    }
+    
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        ExchangeLog.clearBuffered();
+    }
+}
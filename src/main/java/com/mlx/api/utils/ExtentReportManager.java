@@ -3,26 +3,55 @@ package com.mlx.api.utils;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
+import com.mlx.api.metrics.MetricsRegistry;
 
 import java.io.File;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Extent Report Manager for generating HTML reports
+ * Tests log through getReport(), which applies their entries on a background thread; the HTML is
+ * rendered once by flush() at the end of the suite (or at JVM exit), plus every reportFlushIntervalSeconds
+ * when that is set
  */
 public class ExtentReportManager {
     
+    // Longest the final flush waits for queued entries and rendering
+    private static final long CLOSE_TIMEOUT_SECONDS = 120;
+    
     private static ExtentReports extent;
+    private static AsyncExtentReports report;
     private static String reportPath;
     
-    public static ExtentReports getInstance() {
+    /**
+     * The underlying ExtentReports - once getReport() has been called, only its writer thread may use it
+     */
+    // Synchronized: parallel test classes may ask for the report at the same time
+    public static synchronized ExtentReports getInstance() {
         if (extent == null) {
             createInstance();
         }
         return extent;
     }
     
+    /**
+     * The suite-wide report facade for test threads
+     */
+    public static synchronized AsyncExtentReports getReport() {
+        if (report == null) {
+            report = new AsyncExtentReports(getInstance(),
+                ConfigReader.getIntProperty("reportQueueCapacity", 100000),
+                ConfigReader.getIntProperty("reportFlushIntervalSeconds", 0));
+            MetricsRegistry.registerGauge("report.queued", report::getQueued);
+            MetricsRegistry.registerGauge("report.dropped", report::getDropped);
+            // ResultsReportListener flushes when the suite finishes; this covers runs cut short before that
+            Runtime.getRuntime().addShutdownHook(new Thread(ExtentReportManager::flush, "mlx-report-flush"));
+        }
+        return report;
+    }
+    
     private static ExtentReports createInstance() {
         String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
         reportPath = "test-output/ExtentReports/MLX_Order_API_Report_" + timestamp + ".html";
@@ -115,9 +144,21 @@ public class ExtentReportManager {
         return extent;
     }
     
-    public static void flush() {
-        if (extent != null) {
-            extent.flush();
+    /**
+     * Apply every queued entry and render the report; once getReport() is in use only the first call
+     * renders, later ones do nothing
+     */
+    public static synchronized void flush() {
+        boolean rendered;
+        if (report != null) {
+            rendered = report.close(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } else {
+            rendered = extent != null;
+            if (rendered) {
+                extent.flush();
+            }
+        }
+        if (rendered) {
             System.out.println("\n========================================");
             System.out.println("HTML Report Generated Successfully!");
             System.out.println("Report Location: " + reportPath);
@@ -0,0 +1,80 @@
+package com.mlx.api.utils;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.mlx.api.metrics.LatencyRecorder;
+import com.mlx.api.results.PagedReport;
+import com.mlx.api.results.PerformanceCharts;
+import com.mlx.api.results.ResultsReport;
+import com.mlx.api.results.ResultsSink;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Post-run step for every suite: log the latency summary and write the histogram log, close the ResultsSink,
+ * build summary.html, the paged report and the Extent "Request Results" and "Performance" nodes from the
+ * streamed results, then render the Extent report.
+ *
+ * Runs after the suite's @AfterSuite methods, so their report entries are in the one render. Registered
+ * through META-INF/services/org.testng.ITestNGListener like ExchangeLogListener, so suites whose classes
+ * do not extend BaseTest (testng.xml, mvn test -Dtest=MLXCreateOrderTest) get the same outputs.
+ * Only the first suite to finish in a JVM does this; the sink takes no records after it is closed.
+ */
+public class ResultsReportListener implements ISuiteListener {
+    
+    private static final Logger logger = LogManager.getLogger(ResultsReportListener.class);
+    
+    private static final AtomicBoolean finished = new AtomicBoolean();
+    
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!finished.compareAndSet(false, true)) {
+            return;
+        }
+        // Latency percentiles and mergeable histogram log for every call of the run
+        logger.info("Latency summary (ms):\n" + LatencyRecorder.summary());
+        try {
+            LatencyRecorder.writeHistogramLog("test-output/latency");
+        } catch (IOException e) {
+            logger.error("Failed to write latency histograms: " + e.getMessage());
+        }
+        
+        // Per-request results were streamed to disk; only their aggregates go into the reports
+        ResultsReport results = null;
+        File pagedIndex = null;
+        try {
+            File runDir = ResultsSink.getInstance().close(1, TimeUnit.MINUTES);
+            if (runDir != null) {
+                results = ResultsReport.read(runDir);
+                results.writeHtml(new File(runDir, "summary.html"));
+                logger.info("Request results:\n" + results.toSummary());
+                if (Boolean.parseBoolean(ConfigReader.getProperty("pagedReport", "true").trim())) {
+                    pagedIndex = PagedReport.write(runDir);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Failed to write request results: " + e.getMessage());
+        }
+        
+        if (results != null) {
+            ResultsReport finalResults = results;
+            File finalIndex = pagedIndex;
+            ExtentReportManager.getReport().submit(report -> {
+                ExtentTest node = finalResults.addTo(report);
+                if (finalIndex != null) {
+                    node.info("<a href=\"" + finalIndex.getAbsoluteFile().toURI() + "\">"
+                        + "Paged report by test class, endpoint and time window</a>");
+                }
+                PerformanceCharts.addTo(report, finalResults);
+            });
+        }
+        // The one render of the run
+        ExtentReportManager.flush();
+    }
+}
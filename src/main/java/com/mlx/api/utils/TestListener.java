@@ -1,7 +1,5 @@
 package com.mlx.api.utils;
 
-import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
@@ -9,11 +7,12 @@ import org.testng.ITestResult;
 
 /**
  * TestNG Listener for Extent Reports
+ * Entries are queued on the report facade; the report is rendered once at the end of the run, not per test context
  */
 public class TestListener implements ITestListener {
     
-    private static ExtentReports extent = ExtentReportManager.getInstance();
-    private static ThreadLocal<ExtentTest> test = new ThreadLocal<>();
+    private static AsyncExtentReports extent = ExtentReportManager.getReport();
+    private static ThreadLocal<AsyncExtentTest> test = new ThreadLocal<>();
     
     @Override
     public void onStart(ITestContext context) {
@@ -22,7 +21,7 @@ public class TestListener implements ITestListener {
     
     @Override
     public void onTestStart(ITestResult result) {
-        ExtentTest extentTest = extent.createTest(result.getMethod().getMethodName());
+        AsyncExtentTest extentTest = extent.createTest(result.getMethod().getMethodName());
         test.set(extentTest);
     }
     
@@ -44,7 +43,6 @@ public class TestListener implements ITestListener {
     
     @Override
     public void onFinish(ITestContext context) {
-        extent.flush();
         System.out.println("Test Suite Finished: " + context.getName());
     }
 }
@@ -1,15 +1,29 @@
 package com.mlx.api.base;
 
+import com.mlx.api.http.HttpConnectionPool;
+import com.mlx.api.limit.RequestLimiter;
+import com.mlx.api.metrics.LatencyRecorder;
+import com.mlx.api.metrics.MetricsRegistry;
+import com.mlx.api.metrics.MetricsSnapshot;
+import com.mlx.api.metrics.SloChecker;
+import com.mlx.api.metrics.SloResult;
+import com.mlx.api.results.ResultsSink;
+import com.mlx.api.stub.MLXStubServer;
+import com.mlx.api.utils.AsyncExtentReports;
+import com.mlx.api.utils.AsyncExtentTest;
 import com.mlx.api.utils.ConfigReader;
 import com.mlx.api.utils.ExtentReportManager;
-import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
-import io.restassured.RestAssured;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
 import org.testng.annotations.AfterSuite;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * Base Test class for all API tests
  * Contains common setup and teardown methods
@@ -17,8 +31,9 @@ import org.testng.annotations.BeforeSuite;
 public class BaseTest {
     
     protected static final Logger logger = LogManager.getLogger(BaseTest.class);
-    protected static ExtentReports extent;
-    protected static ExtentTest test;
+    protected static AsyncExtentReports extent;
+    private static MLXStubServer stubServer;
+    private static final AtomicBoolean slosJudged = new AtomicBoolean();
     
     @BeforeSuite
     public void setup() {
@@ -26,25 +41,113 @@ public class BaseTest {
         logger.info("Starting API Test Suite");
         logger.info("========================================");
         
-        // Initialize Extent Reports
-        extent = ExtentReportManager.getInstance();
+        // Initialize Extent Reports (entries are applied on the report's writer thread)
+        extent = ExtentReportManager.getReport();
+        
+        // Shared keep-alive connection pool for all page objects
+        HttpConnectionPool.install();
         
-        // Set base URI from config
-        RestAssured.baseURI = ConfigReader.getProperty("baseURI");
+        // Embedded MLX API stand-in instead of the shared staging host (stub* keys in config)
+        if (Boolean.parseBoolean(ConfigReader.getProperty("stubEnabled", "false").trim())) {
+            startStubServer();
+        }
         
-        logger.info("Base URI set to: " + RestAssured.baseURI);
+        // Page objects read the base URI from config - RestAssured.baseURI stays untouched
+        logger.info("Base URI: " + ConfigReader.getProperty("baseURI"));
         logger.info("Test suite setup completed");
     }
     
-    @AfterSuite
+    /**
+     * Tag the requests of the next test method (and the threads it starts) with its class in the results
+     */
+    @BeforeMethod(alwaysRun = true)
+    public void tagResults() {
+        ResultsSink.setTestClass(getClass().getSimpleName());
+    }
+    
+    private static synchronized void startStubServer() {
+        if (stubServer != null) {
+            return;
+        }
+        try {
+            stubServer = MLXStubServer.startFromConfig();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start MLX API stand-in: " + e.getMessage(), e);
+        }
+        if (!ConfigReader.getProperty("baseURI", "").startsWith(stubServer.getBaseURI())) {
+            logger.warn("stubEnabled=true but baseURI does not point at the stand-in (" + stubServer.getBaseURI() + ")");
+        }
+    }
+    
+    @AfterSuite(alwaysRun = true)
     public void tearDown() {
         logger.info("========================================");
         logger.info("Test Suite Execution Completed");
         logger.info("========================================");
         
-        // Flush Extent Reports
+        logger.info("HTTP connection pool: " + HttpConnectionPool.install().statsSummary());
+        // Latency summary and histogram log are written once per run by ResultsReportListener
+        logger.info("Request phases (ms):\n" + LatencyRecorder.phaseSummary());
+        logger.info("Request limiter:\n" + RequestLimiter.getInstance().statsSummary());
+        MetricsSnapshot metrics = MetricsRegistry.snapshot();
+        logger.info("Metrics:\n" + metrics.toSummary());
+        
+        if (stubServer != null) {
+            stubServer.stop();
+            stubServer = null;
+        }
+        
+        // Rendered by ResultsReportListener once the suite has finished, with the request results added
         if (extent != null) {
-            extent.flush();
+            extent.createTest("Latency Breakdown",
+                    "Per-endpoint latency and request phases: DNS, connect, TLS, write, first byte, body read")
+                .info("<pre>" + LatencyRecorder.summary() + "</pre>")
+                .info("<pre>" + LatencyRecorder.phaseSummary() + "</pre>")
+                .info("<pre>" + metrics.toSummary() + "</pre>")
+                .info("<pre>Request limiter " + RequestLimiter.getInstance().statsSummary() + "</pre>");
+        }
+        
+        judgeLatencySlos();
+    }
+    
+    /**
+     * Judge the latency SLOs over every call of the suite and fail the suite teardown on a significant breach.
+     * Only the first call in a JVM judges, so suites mixing BaseTest and other classes do it once.
+     */
+    public static void judgeLatencySlos() {
+        if (!slosJudged.compareAndSet(false, true)) {
+            return;
+        }
+        List<SloResult> sloResults = SloChecker.fromConfig().checkRecorded();
+        if (sloResults.isEmpty()) {
+            return;
+        }
+        logger.info("Latency SLOs (whole suite):\n" + SloChecker.summary(sloResults));
+        logSloResults(ExtentReportManager.getReport().createTest("Latency SLOs",
+            "Every configured objective judged over all calls of the suite"), sloResults);
+        Assert.assertFalse(SloChecker.anyBreached(sloResults),
+            "Latency SLO significantly breached:\n" + SloChecker.summary(sloResults));
+    }
+    
+    /**
+     * One report entry per result, with the status of its verdict: only MET passes
+     */
+    protected static void logSloResults(AsyncExtentTest test, List<SloResult> sloResults) {
+        for (SloResult sloResult : sloResults) {
+            switch (sloResult.getVerdict()) {
+                case MET:
+                    test.pass("✓ " + sloResult);
+                    break;
+                case BREACHED:
+                    test.fail(sloResult.toString());
+                    break;
+                case INCONCLUSIVE:
+                    test.warning("Inconclusive, more samples needed: " + sloResult);
+                    break;
+                default:
+                    test.skip("Not judged: " + sloResult);
+                    break;
+            }
         }
     }
 }
@@ -0,0 +1,180 @@
+package com.mlx.api.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mlx.api.models.Address;
+import com.mlx.api.models.PatientData;
+import com.mlx.api.models.RequestBodyWriter;
+import com.mlx.api.models.StandingOrderRequest;
+import com.mlx.api.models.TubeData;
+import com.mlx.api.pages.MLXOrderPage;
+import io.restassured.path.json.mapper.factory.DefaultJackson2ObjectMapperFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * saveOrder body: HashMap tree (the old MLXOrderPage builders) vs typed model + prebuilt ObjectWriter.
+ *
+ * mapTreeRestAssured mirrors what RestAssured does with a Map body - its Jackson2Mapper asks
+ * DefaultJackson2ObjectMapperFactory for a new ObjectMapper on every request.
+ * mapTreeSharedMapper isolates the cost of the map tree itself.
+ * The *Build benchmarks construct the payload without serializing it; pageObjectMapBuild goes
+ * through MLXOrderPage.buildStandingOrderRequest, the map adapter the negative tests still use.
+ * Run with: mvn -Pbenchmarks test-compile exec:exec -Djmh.args="OrderSerialization -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderSerializationBenchmark {
+    
+    private static final ObjectMapper SHARED_MAPPER = new ObjectMapper();
+    private static final DefaultJackson2ObjectMapperFactory REST_ASSURED_FACTORY = new DefaultJackson2ObjectMapperFactory();
+    
+    private final String firstName = "Denis";
+    private final String lastName = "Kemmer";
+    private final String email = "denis.kemmer@test.com";
+    private final String street = "8915 McCullough Lock";
+    private final String city = "NORTH LAMARVILLE";
+    private final String state = "MARYLAND";
+    private final String zip = "63438";
+    private final MLXOrderPage orderPage = new MLXOrderPage("https://staging-api-mlx.labsquire.com");
+    
+    @Benchmark
+    public byte[] mapTreeRestAssured() throws Exception {
+        Map<String, Object> body = buildMapTree();
+        return REST_ASSURED_FACTORY.create(Map.class, "UTF-8").writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+    }
+    
+    @Benchmark
+    public byte[] mapTreeSharedMapper() throws Exception {
+        return SHARED_MAPPER.writeValueAsBytes(buildMapTree());
+    }
+    
+    @Benchmark
+    public byte[] typedModelObjectWriter() {
+        return RequestBodyWriter.write(buildTypedModel());
+    }
+    
+    @Benchmark
+    public Map<String, Object> mapTreeBuild() {
+        return buildMapTree();
+    }
+    
+    @Benchmark
+    public Map<String, Object> pageObjectMapBuild() {
+        List<Map<String, String>> addresses = Collections.singletonList(orderPage.buildAddress(street, city, state, zip));
+        Map<String, Object> patientData = orderPage.buildPatientData(firstName, lastName, "05-31-1999", "FEMALE",
+            email, "9608512822", false, "ASIAN", "ASIAN", false, addresses);
+        return orderPage.buildStandingOrderRequest("STANDING ORDER", "TG2078228", "1093767972", patientData,
+            Collections.singletonList("STOOL SPECIMEN PICKUP"), Collections.singletonList("RPP COVID19"),
+            List.of("A21.8", "A04.9"), "10-17-2026", "10-20-2026", "DAILY", "10-21-2026",
+            orderPage.buildAddress(street, city, state, zip), "CLIENT", false, true,
+            Collections.singletonList(orderPage.buildTubeData("NASAL SWAB", 1)),
+            street + " " + city + " " + state + " " + zip);
+    }
+    
+    @Benchmark
+    public StandingOrderRequest typedModelBuild() {
+        return buildTypedModel();
+    }
+    
+    private Map<String, Object> buildMapTree() {
+        Map<String, String> address = new HashMap<>();
+        address.put("address_line_1", street);
+        address.put("city", city);
+        address.put("state", state);
+        address.put("zip", zip);
+        List<Map<String, String>> addresses = new ArrayList<>();
+        addresses.add(address);
+        
+        Map<String, Object> patientData = new HashMap<>();
+        patientData.put("first_name", firstName);
+        patientData.put("last_name", lastName);
+        patientData.put("date_of_birth", "05-31-1999");
+        patientData.put("gender", "FEMALE");
+        patientData.put("email", email);
+        patientData.put("mobile_number1", "9608512822");
+        patientData.put("homebound", false);
+        patientData.put("ethnicity", "ASIAN");
+        patientData.put("race", "ASIAN");
+        patientData.put("hardstick", false);
+        patientData.put("addresses", addresses);
+        
+        Map<String, String> serviceAddress = new HashMap<>();
+        serviceAddress.put("address_line_1", street);
+        serviceAddress.put("city", city);
+        serviceAddress.put("state", state);
+        serviceAddress.put("zip", zip);
+        
+        Map<String, Object> tube = new HashMap<>();
+        tube.put("tube_name", "NASAL SWAB");
+        tube.put("tube_count", 1);
+        List<Map<String, Object>> tubeData = new ArrayList<>();
+        tubeData.add(tube);
+        
+        Map<String, Object> orderData = new HashMap<>();
+        orderData.put("order_type", "STANDING ORDER");
+        orderData.put("facility_account_number", "TG2078228");
+        orderData.put("physician_npi", "1093767972");
+        orderData.put("patient_data", patientData);
+        orderData.put("services", Collections.singletonList("STOOL SPECIMEN PICKUP"));
+        orderData.put("order_codes", Collections.singletonList("RPP COVID19"));
+        orderData.put("icd_10_codes", List.of("A21.8", "A04.9"));
+        orderData.put("standing_start_date", "10-17-2026");
+        orderData.put("standing_end_date", "10-20-2026");
+        orderData.put("standing_frequency", "DAILY");
+        orderData.put("date_of_service", "10-21-2026");
+        orderData.put("appointment_time", "");
+        orderData.put("service_address", serviceAddress);
+        orderData.put("billing_type", "CLIENT");
+        orderData.put("is_stat", false);
+        orderData.put("fasting", true);
+        orderData.put("tube_data", tubeData);
+        orderData.put("service_address_string", street + " " + city + " " + state + " " + zip);
+        return orderData;
+    }
+    
+    private StandingOrderRequest buildTypedModel() {
+        Address address = new Address(street, city, state, zip);
+        PatientData patientData = new PatientData(firstName, lastName, "05-31-1999", "FEMALE", email,
+            "9608512822", false, "ASIAN", "ASIAN", false, Collections.singletonList(address));
+        return new StandingOrderRequest("STANDING ORDER", "TG2078228", "1093767972", patientData,
+            Collections.singletonList("STOOL SPECIMEN PICKUP"), Collections.singletonList("RPP COVID19"),
+            List.of("A21.8", "A04.9"), "10-17-2026", "10-20-2026", "DAILY", "10-21-2026",
+            address, "CLIENT", false, true, Collections.singletonList(new TubeData("NASAL SWAB", 1)),
+            street + " " + city + " " + state + " " + zip);
+    }
+    
+    /**
+     * Run from the IDE with the GC profiler (allocation per operation)
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(OrderSerializationBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,80 @@
+package com.mlx.api.benchmarks;
+
+import com.mlx.api.pages.MLXOrderPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTML for the Extent report: MLXOrderPage.formatMultipleOrderNumbersSuccess for orderCount order IDs.
+ *
+ * concatenatedHtml builds the same markup with += in the loop, the way the single-order format*
+ * methods concatenate, as the reference for what the StringBuilder saves on large standing orders.
+ * Run with: mvn -Pbenchmarks test-compile exec:exec -Djmh.args="ReportFormatting -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ReportFormattingBenchmark {
+    
+    @Param({"4", "100"})
+    private int orderCount;
+    
+    private final MLXOrderPage orderPage = new MLXOrderPage("https://staging-api-mlx.labsquire.com");
+    private List<String> orderIds;
+    
+    @Setup(Level.Trial)
+    public void buildOrderIds() {
+        orderIds = new ArrayList<>();
+        for (int i = 0; i < orderCount; i++) {
+            orderIds.add("MLX" + String.format("%09d", i + 1));
+        }
+    }
+    
+    @Benchmark
+    public String pageObjectHtml() {
+        return orderPage.formatMultipleOrderNumbersSuccess(orderIds);
+    }
+    
+    @Benchmark
+    public String concatenatedHtml() {
+        String html = "<div class='order-highlight-box-success'>"
+            + "<strong>✓ Orders Created Successfully:</strong><br/>";
+        for (int i = 0; i < orderIds.size(); i++) {
+            html += "<span class='order-number-success'>Order " + (i + 1) + ": " + orderIds.get(i) + "</span><br/>";
+        }
+        return html + "</div>";
+    }
+    
+    /**
+     * Run from the IDE with the GC profiler (allocation per operation)
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(ReportFormattingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
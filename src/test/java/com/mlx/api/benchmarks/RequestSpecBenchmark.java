@@ -0,0 +1,87 @@
+package com.mlx.api.benchmarks;
+
+import com.mlx.api.http.RequestSpecs;
+import io.restassured.RestAssured;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RequestSpecification for one saveOrder call, up to the point where it would be sent (nothing goes on the wire).
+ *
+ * perCallHeaders is the old MLXOrderPage.createOrder: given() plus fourteen header() calls and log().all().
+ * prebuiltSpec is the current one: given(RequestSpecs.browser(uri)) copies the cached spec, then adds
+ * the per-user authorization header and the pre-serialized body.
+ * Run with: mvn -Pbenchmarks test-compile exec:exec -Djmh.args="RequestSpec -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RequestSpecBenchmark {
+    
+    private static final String BASE_URI = "https://staging-api-mlx.labsquire.com";
+    
+    private final String authToken = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.eyJzdWIiOiI2NGYwYzBmZmVlIn0.signature";
+    private final String userId = "64f0c0ffee0000000000a001";
+    private final byte[] body = "{\"order_type\":\"STANDING ORDER\"}".getBytes(StandardCharsets.UTF_8);
+    
+    @Benchmark
+    public RequestSpecification perCallHeaders() {
+        RequestSpecification request = RestAssured.given()
+            .baseUri(BASE_URI)
+            .header("accept", "application/json, text/plain, */*")
+            .header("accept-language", "en-GB,en;q=0.9,en-US;q=0.8,en-IN;q=0.7")
+            .header("authorization", "Bearer " + authToken)
+            .header("content-type", "application/json")
+            .header("origin", "https://staging-mlx.labsquire.com")
+            .header("priority", "u=1, i")
+            .header("referer", "https://staging-mlx.labsquire.com/")
+            .header("sec-ch-ua", "\"Microsoft Edge\";v=\"143\", \"Chromium\";v=\"143\", \"Not A(Brand\";v=\"24\"")
+            .header("sec-ch-ua-mobile", "?0")
+            .header("sec-ch-ua-platform", "\"Windows\"")
+            .header("sec-fetch-dest", "empty")
+            .header("sec-fetch-mode", "cors")
+            .header("sec-fetch-site", "same-site")
+            .header("user-agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/143.0.0.0 Safari/537.36 Edg/143.0.0.0")
+            .header("user_id", userId);
+        return request.body(body)
+            .log().all();
+    }
+    
+    @Benchmark
+    public RequestSpecification prebuiltSpec() {
+        return RestAssured.given(RequestSpecs.browser(BASE_URI))
+            .header("authorization", "Bearer " + authToken)
+            .header("user_id", userId)
+            .body(body);
+    }
+    
+    /**
+     * Run from the IDE with the GC profiler (allocation per operation)
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(RequestSpecBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
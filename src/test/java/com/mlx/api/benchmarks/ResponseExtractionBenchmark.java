@@ -0,0 +1,158 @@
+package com.mlx.api.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mlx.api.json.OrderStreamExtractor;
+import com.mlx.api.json.ResponseView;
+import io.restassured.path.json.JsonPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading saveOrder responses: jsonPath() (the old MLXOrderPage accessors) vs ResponseView vs streaming.
+ *
+ * The jsonPath* benchmarks call new JsonPath(body) wherever the old code called response.jsonPath(),
+ * which re-parses the whole body each time - getAllOrderIds did that once per order, getErrorMessage
+ * once per field it tried. The body has orderCount orders shaped like a standing-order response.
+ * Run with: mvn -Pbenchmarks test-compile exec:exec -Djmh.args="ResponseExtraction -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ResponseExtractionBenchmark {
+    
+    @Param({"4", "100"})
+    private int orderCount;
+    
+    private byte[] orderBody;
+    private String orderText;
+    private byte[] errorBody;
+    private String errorText;
+    
+    @Setup(Level.Trial)
+    public void buildBodies() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode response = mapper.createObjectNode();
+        response.put("message", "Standing orders created successfully");
+        ObjectNode data = response.putObject("data");
+        ArrayNode orders = data.putArray("orders");
+        for (int i = 0; i < orderCount; i++) {
+            ObjectNode order = orders.addObject();
+            order.put("order_id", "MLX" + String.format("%09d", i + 1));
+            order.put("order_type", "MLX");
+            order.put("status", "ACTIVE");
+            order.put("facility_account_number", "TG2078228");
+            order.put("physician_npi", "1093767972");
+            order.putArray("icd_10_codes").add("A21.8").add("A04.9");
+            ObjectNode patient = order.putObject("patient_info");
+            patient.put("first_name", "Denis");
+            patient.put("last_name", "Kemmer");
+            patient.put("email", "denis.kemmer@test.com");
+            patient.putArray("addresses").addObject()
+                .put("address_line_1", "8915 McCullough Lock")
+                .put("city", "NORTH LAMARVILLE")
+                .put("state", "MARYLAND")
+                .put("zip", "63438");
+            order.putObject("phlebo_order").put("date_of_service", "10-17-2026");
+        }
+        data.put("total_orders_created", orderCount);
+        orderBody = mapper.writeValueAsBytes(response);
+        orderText = new String(orderBody, StandardCharsets.UTF_8);
+        
+        // Only "errors" present, so the old getErrorMessage falls through all three lookups
+        ObjectNode error = mapper.createObjectNode();
+        error.putObject("errors").put("physician_npi", "Invalid physician NPI, expected 10 digits");
+        errorBody = mapper.writeValueAsBytes(error);
+        errorText = new String(errorBody, StandardCharsets.UTF_8);
+    }
+    
+    @Benchmark
+    public List<String> jsonPathOrderIds() {
+        List<String> orderIds = new ArrayList<>();
+        List<Map<String, Object>> orders = new JsonPath(orderText).getList("data.orders");
+        if (orders != null && !orders.isEmpty()) {
+            for (int i = 0; i < orders.size(); i++) {
+                String orderId = new JsonPath(orderText).getString("data.orders[" + i + "].order_id");
+                if (orderId != null && !orderId.isEmpty()) {
+                    orderIds.add(orderId);
+                }
+            }
+        }
+        return orderIds;
+    }
+    
+    @Benchmark
+    public List<String> responseViewOrderIds() {
+        return new ResponseView(201, orderBody).orderIds();
+    }
+    
+    @Benchmark
+    public List<String> streamingOrderIds() {
+        return OrderStreamExtractor.orderIds(orderBody);
+    }
+    
+    @Benchmark
+    public String jsonPathErrorMessage() {
+        String message = new JsonPath(errorText).getString("message");
+        if (message != null) {
+            return message;
+        }
+        String error = new JsonPath(errorText).getString("error");
+        if (error != null) {
+            return error;
+        }
+        Object errors = new JsonPath(errorText).get("errors");
+        return errors != null ? errors.toString() : "No error message found";
+    }
+    
+    @Benchmark
+    public String responseViewErrorMessage() {
+        ResponseView view = new ResponseView(422, errorBody);
+        String message = view.message();
+        if (message != null) {
+            return message;
+        }
+        String error = view.error();
+        if (error != null) {
+            return error;
+        }
+        Object errors = view.errors();
+        return errors != null ? errors.toString() : "No error message found";
+    }
+    
+    /**
+     * Run from the IDE with the GC profiler (allocation per operation)
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(ResponseExtractionBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
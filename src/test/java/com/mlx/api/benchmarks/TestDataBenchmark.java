@@ -0,0 +1,100 @@
+package com.mlx.api.benchmarks;
+
+import com.github.javafaker.Faker;
+import com.mlx.api.data.DataCorpus;
+import com.mlx.api.data.DataCorpusGenerator;
+import com.mlx.api.data.OrderDataFactory;
+import com.mlx.api.data.StandingOrderData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test data for one standing order: Faker (as MLXCreateOrderTest generated it) vs the pre-generated DataCorpus.
+ *
+ * fakerPatientFields is the six Faker calls the test made per order; the *StandingOrder benchmarks build
+ * the whole request through OrderDataFactory with and without a corpus. The corpus is generated into a
+ * temporary file once per trial and deleted afterwards.
+ * Run with: mvn -Pbenchmarks test-compile exec:exec -Djmh.args="TestData -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TestDataBenchmark {
+    
+    private static final int CORPUS_RECORDS = 20000;
+    
+    private Path corpusFile;
+    private Faker faker;
+    private OrderDataFactory fakerFactory;
+    private OrderDataFactory corpusFactory;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        corpusFile = Files.createTempFile("mlx-benchmark-corpus", ".bin");
+        new DataCorpusGenerator().generate(corpusFile, CORPUS_RECORDS);
+        DataCorpus corpus = DataCorpus.open(corpusFile);
+        faker = new Faker();
+        fakerFactory = new OrderDataFactory();
+        corpusFactory = new OrderDataFactory(corpus);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(corpusFile);
+    }
+    
+    @Benchmark
+    public void fakerPatientFields(Blackhole blackhole) {
+        blackhole.consume(faker.name().firstName());
+        blackhole.consume(faker.name().lastName());
+        blackhole.consume(faker.address().streetAddress());
+        blackhole.consume(faker.address().city().toUpperCase());
+        blackhole.consume(faker.address().state().toUpperCase());
+        blackhole.consume(faker.address().zipCode().substring(0, 5));
+    }
+    
+    @Benchmark
+    public StandingOrderData fakerStandingOrder() {
+        return fakerFactory.newStandingOrder();
+    }
+    
+    @Benchmark
+    public StandingOrderData corpusStandingOrder() {
+        return corpusFactory.newStandingOrder();
+    }
+    
+    /**
+     * Run from the IDE with the GC profiler (allocation per operation)
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(TestDataBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
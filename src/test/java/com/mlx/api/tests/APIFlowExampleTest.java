@@ -3,6 +3,7 @@ package com.mlx.api.tests;
 import com.mlx.api.base.BaseTest;
 import com.mlx.api.pages.MLXLoginPage;
 import com.mlx.api.pages.GetUserPage;
+import com.mlx.api.utils.AsyncExtentTest;
 import com.mlx.api.utils.ConfigReader;
 import io.restassured.response.Response;
 import org.testng.Assert;
@@ -20,20 +21,8 @@ import org.testng.annotations.Test;
  */
 public class APIFlowExampleTest extends BaseTest {
     
-    // Create page objects for BOTH APIs
-    private MLXLoginPage loginPage;
-    private GetUserPage getUserPage;
-    
-    // Store data that flows between APIs
-    private String authToken;
-    private String userId;
-    
     @BeforeClass
     public void setupTest() {
-        // Initialize page objects
-        loginPage = new MLXLoginPage();
-        getUserPage = new GetUserPage();
-        
         logger.info("===========================================");
         logger.info("API Flow Example Test - Starting");
         logger.info("===========================================");
@@ -46,7 +35,10 @@ public class APIFlowExampleTest extends BaseTest {
      */
     @Test(priority = 1, description = "Complete API Flow: Login → Get User")
     public void testCompleteAPIFlow() {
-        test = extent.createTest("API Flow Example", 
+        MLXLoginPage loginPage = new MLXLoginPage();
+        GetUserPage getUserPage = new GetUserPage();
+        
+        AsyncExtentTest test = extent.createTest("API Flow Example", 
                                   "Demonstrates how multiple APIs work together using Page Objects");
         
         // ========== STEP 1: CALL LOGIN API ==========
@@ -62,9 +54,9 @@ public class APIFlowExampleTest extends BaseTest {
         Assert.assertEquals(loginPage.getStatusCode(), 200, "Login should succeed");
         test.pass("✓ Login API called successfully");
         
-        // Extract token and userId from login response
-        authToken = loginPage.getAuthToken();
-        userId = loginPage.getUserId();
+        // Extract token and userId from login response (data that flows between APIs)
+        String authToken = loginPage.getAuthToken();
+        String userId = loginPage.getUserId();
         
         Assert.assertNotNull(authToken, "Auth token should be present");
         Assert.assertNotNull(userId, "User ID should be present");
@@ -107,7 +99,9 @@ public class APIFlowExampleTest extends BaseTest {
      */
     @Test(priority = 2, description = "Demonstrates Page Object Reusability")
     public void testPageObjectReusability() {
-        test = extent.createTest("Page Object Reusability Demo", 
+        MLXLoginPage loginPage = new MLXLoginPage();
+        
+        AsyncExtentTest test = extent.createTest("Page Object Reusability Demo", 
                                   "Shows how we reuse the same page objects multiple times");
         
         test.info("Using the SAME loginPage object again!");
@@ -136,7 +130,7 @@ public class APIFlowExampleTest extends BaseTest {
      */
     @Test(priority = 3, description = "Without Page Objects - Code Duplication Example")
     public void testWithoutPageObjects_BAD_EXAMPLE() {
-        test = extent.createTest("WITHOUT Page Objects (Bad Practice)", 
+        AsyncExtentTest test = extent.createTest("WITHOUT Page Objects (Bad Practice)", 
                                   "Shows how messy code gets without POM");
         
         test.info("❌ This is how code looks WITHOUT Page Object Model:");
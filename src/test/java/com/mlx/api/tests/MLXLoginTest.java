@@ -2,6 +2,7 @@ package com.mlx.api.tests;
 
 import com.mlx.api.base.BaseTest;
 import com.mlx.api.pages.MLXLoginPage;
+import com.mlx.api.utils.AsyncExtentTest;
 import com.mlx.api.utils.ConfigReader;
 import io.restassured.response.Response;
 import org.testng.Assert;
@@ -14,27 +15,21 @@ import org.testng.annotations.Test;
  */
 public class MLXLoginTest extends BaseTest {
     
-    private MLXLoginPage loginPage;
     private String testEmail;
     private String testPassword;
     private String applicationType;
-    private int maxResponseTime;
     
     @BeforeClass
     public void setupLoginTests() {
-        loginPage = new MLXLoginPage();
-        
         // Load test data from config
         testEmail = ConfigReader.getProperty("testEmail");
         testPassword = ConfigReader.getProperty("testPassword");
         applicationType = ConfigReader.getProperty("applicationType");
-        maxResponseTime = Integer.parseInt(ConfigReader.getProperty("maxResponseTime"));
         
         logger.info("============================================");
         logger.info("MLX Login API Test Suite - Starting");
         logger.info("Test Email: " + testEmail);
         logger.info("Application Type: " + applicationType);
-        logger.info("Max Response Time: " + maxResponseTime + "ms");
         logger.info("============================================");
     }
     
@@ -44,7 +39,9 @@ public class MLXLoginTest extends BaseTest {
      */
     @Test(priority = 1, description = "MLX Login - Valid Credentials with Comprehensive Validations")
     public void testMLXLoginWithValidCredentials() {
-        test = extent.createTest("MLX Login - Valid Credentials Test", 
+        MLXLoginPage loginPage = new MLXLoginPage();
+        
+        AsyncExtentTest test = extent.createTest("MLX Login - Valid Credentials Test", 
                                   "Verify login with valid email and password - 14 Validations");
         
         test.info("Test Email: " + testEmail);
@@ -60,11 +57,10 @@ public class MLXLoginTest extends BaseTest {
         test.pass("✓ Status Code: " + statusCode + " (Expected: 200)");
         
         // ============= VALIDATION 2: Response Time =============
-        test.info("<b>VALIDATION 2:</b> Verify Response Time is within acceptable range");
+        // One response time says little about a percentile - the latency SLOs are judged at suite end (BaseTest)
+        test.info("<b>VALIDATION 2:</b> Record response time");
         long responseTime = loginPage.getResponseTime();
-        Assert.assertTrue(responseTime < maxResponseTime, 
-                         "Response time should be less than " + maxResponseTime + "ms");
-        test.pass("✓ Response Time: " + responseTime + "ms (Max: " + maxResponseTime + "ms)");
+        test.info("Response Time: " + responseTime + "ms");
         
         // ============= VALIDATION 3: Content-Type =============
         test.info("<b>VALIDATION 3:</b> Verify Content-Type is application/json");
@@ -150,7 +146,9 @@ public class MLXLoginTest extends BaseTest {
      */
     @Test(priority = 2, description = "MLX Login - Invalid Email")
     public void testMLXLoginWithInvalidEmail() {
-        test = extent.createTest("MLX Login - Invalid Email Test", 
+        MLXLoginPage loginPage = new MLXLoginPage();
+        
+        AsyncExtentTest test = extent.createTest("MLX Login - Invalid Email Test", 
                                   "Verify login fails with invalid email");
         
         String invalidEmail = "invalid.email@test.com";
@@ -183,7 +181,9 @@ public class MLXLoginTest extends BaseTest {
      */
     @Test(priority = 3, description = "MLX Login - Invalid Password")
     public void testMLXLoginWithInvalidPassword() {
-        test = extent.createTest("MLX Login - Invalid Password Test", 
+        MLXLoginPage loginPage = new MLXLoginPage();
+        
+        AsyncExtentTest test = extent.createTest("MLX Login - Invalid Password Test", 
                                   "Verify login fails with incorrect password");
         
         String invalidPassword = "wrongpassword123";
@@ -210,7 +210,9 @@ public class MLXLoginTest extends BaseTest {
      */
     @Test(priority = 4, description = "MLX Login - Missing Email Field")
     public void testMLXLoginWithMissingEmail() {
-        test = extent.createTest("MLX Login - Missing Email Field", 
+        MLXLoginPage loginPage = new MLXLoginPage();
+        
+        AsyncExtentTest test = extent.createTest("MLX Login - Missing Email Field", 
                                   "Verify login fails when email field is missing");
         
         test.info("Attempting login with null email");
@@ -230,7 +232,9 @@ public class MLXLoginTest extends BaseTest {
      */
     @Test(priority = 5, description = "MLX Login - Empty Credentials")
     public void testMLXLoginWithEmptyCredentials() {
-        test = extent.createTest("MLX Login - Empty Credentials", 
+        MLXLoginPage loginPage = new MLXLoginPage();
+        
+        AsyncExtentTest test = extent.createTest("MLX Login - Empty Credentials", 
                                   "Verify login fails with empty email and password");
         
         test.info("Attempting login with empty credentials");
@@ -254,7 +258,9 @@ public class MLXLoginTest extends BaseTest {
      */
     @Test(priority = 6, description = "MLX Login - Different Application Types")
     public void testMLXLoginWithDifferentAppTypes() {
-        test = extent.createTest("MLX Login - Application Types Test", 
+        MLXLoginPage loginPage = new MLXLoginPage();
+        
+        AsyncExtentTest test = extent.createTest("MLX Login - Application Types Test", 
                                   "Verify login works with different application types (web/mobile)");
         
         // Test with "web" application type
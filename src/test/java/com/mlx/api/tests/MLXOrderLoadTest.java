@@ -0,0 +1,88 @@
+package com.mlx.api.tests;
+
+import com.mlx.api.base.BaseTest;
+import com.mlx.api.utils.AsyncExtentTest;
+import com.mlx.api.load.ClosedLoopLoadEngine;
+import com.mlx.api.load.LoadConfig;
+import com.mlx.api.load.LoadReport;
+import com.mlx.api.load.OpenLoopConfig;
+import com.mlx.api.load.OpenLoopLoadEngine;
+import com.mlx.api.limit.RequestLimiter;
+import com.mlx.api.load.OpenLoopReport;
+import com.mlx.api.metrics.Endpoint;
+import com.mlx.api.metrics.SloChecker;
+import com.mlx.api.metrics.SloResult;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Load test for MLX Create Order API
+ * Drives the order service with concurrent virtual users (settings: load* keys in config)
+ */
+public class MLXOrderLoadTest extends BaseTest {
+    
+    @Test(description = "Closed-loop load: login -> build order -> saveOrder")
+    public void testClosedLoopOrderLoad() throws InterruptedException {
+        LoadConfig config = LoadConfig.fromConfig();
+        AsyncExtentTest test = extent.createTest("Closed-Loop Order Load",
+            "Concurrent virtual users looping login -> build order -> saveOrder");
+        test.info("Load settings: " + config);
+        
+        LoadReport report = ClosedLoopLoadEngine.fromConfig().run();
+        
+        test.info("<pre>" + report.toSummary() + "</pre>");
+        logLimiter(test);
+        Assert.assertTrue(report.getOrdersSent() > 0, "At least one saveOrder request should be sent");
+        Assert.assertEquals(report.getErrors(), 0, "No virtual user iteration should throw");
+        
+        SloChecker sloChecker = SloChecker.fromConfig();
+        List<SloResult> sloResults = new ArrayList<>(sloChecker.check(Endpoint.LOGIN, report.getLoginLatency()));
+        sloResults.addAll(sloChecker.check(Endpoint.SAVE_ORDER, report.getOrderLatency()));
+        assertSlos(test, sloResults);
+        test.pass("✓ " + report.getOrdersSent() + " orders sent at "
+            + String.format("%.2f", report.getOrderThroughput()) + " req/s");
+    }
+    
+    @Test(description = "Open-loop load: constant arrival rate, latency from scheduled send time")
+    public void testOpenLoopOrderLoad() throws InterruptedException {
+        OpenLoopConfig config = OpenLoopConfig.fromConfig();
+        AsyncExtentTest test = extent.createTest("Open-Loop " + config.getOperation() + " Load",
+            "Fixed arrival rate of " + config.getRatePerSecond() + " req/s regardless of response times");
+        test.info("Open-loop settings: " + config);
+        
+        OpenLoopReport report = OpenLoopLoadEngine.fromConfig().run();
+        
+        test.info("<pre>" + report.toSummary() + "</pre>");
+        logLimiter(test);
+        if (!report.isScheduleKept()) {
+            test.warning("Engine could not keep to the schedule - missed: " + report.getMissed()
+                + String.format(" (%.2f%% of arrivals, not in the percentiles)", report.getMissedRate() * 100)
+                + ", late starts: " + report.getLateStarts());
+        }
+        Assert.assertTrue(report.getCompleted() > 0, "At least one request should complete");
+        Assert.assertEquals(report.getErrors(), 0, "No request should throw");
+        
+        // Judge the SLO on response time from the scheduled send, which includes queueing (coordinated omission)
+        Endpoint endpoint = Endpoint.valueOf(config.getOperation().name());
+        assertSlos(test, SloChecker.fromConfig().check(endpoint, report.getResponseTime()));
+        test.pass("✓ " + report.getCompleted() + " requests completed at "
+            + String.format("%.2f", report.getAchievedRate()) + " req/s");
+    }
+    
+    private static void logLimiter(AsyncExtentTest test) {
+        RequestLimiter limiter = RequestLimiter.getInstance();
+        if (limiter.isEnabled()) {
+            test.info("<pre>Request limiter " + limiter.statsSummary() + "</pre>");
+        }
+    }
+    
+    private static void assertSlos(AsyncExtentTest test, List<SloResult> sloResults) {
+        test.info("<pre>" + SloChecker.summary(sloResults) + "</pre>");
+        logSloResults(test, sloResults);
+        Assert.assertFalse(SloChecker.anyBreached(sloResults),
+            "Latency SLO significantly breached: " + SloChecker.summary(sloResults));
+    }
+}
@@ -0,0 +1,43 @@
+package com.mlx.api.tests;
+
+import com.mlx.api.base.BaseTest;
+import com.mlx.api.utils.AsyncExtentTest;
+import com.mlx.api.load.VirtualThreadConfig;
+import com.mlx.api.load.VirtualThreadLoadEngine;
+import com.mlx.api.load.VirtualThreadReport;
+import com.mlx.api.load.VirtualThreadStats;
+import com.mlx.api.load.VirtualThreads;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+/**
+ * Virtual-thread session load: one virtual thread per MLX session (settings: vt* keys in config)
+ * Runs on Java 21+; skipped on older JDKs unless vtPlatformFallback=true
+ */
+public class MLXVirtualThreadLoadTest extends BaseTest {
+    
+    @Test(description = "Virtual-thread sessions: login -> createOrder -> getUserDetails per session")
+    public void testVirtualThreadSessions() throws InterruptedException {
+        VirtualThreadConfig config = VirtualThreadConfig.fromConfig();
+        if (!VirtualThreads.isAvailable() && !config.isPlatformFallback()) {
+            throw new SkipException("Virtual threads need Java 21+, running on " + System.getProperty("java.version"));
+        }
+        AsyncExtentTest test = extent.createTest("Virtual-Thread Sessions",
+            config.getSessions() + " concurrent sessions, one virtual thread each");
+        test.info("Virtual-thread settings: " + config);
+        
+        VirtualThreadReport report = VirtualThreadLoadEngine.fromConfig().run();
+        
+        test.info("<pre>" + report.toSummary() + "</pre>");
+        VirtualThreadStats stats = report.getStats();
+        if (stats.getPinnedCount() > 0) {
+            test.warning("Carrier threads were pinned " + stats.getPinnedCount() + " times - top site: "
+                + stats.getPinnedSites().keySet().iterator().next());
+        }
+        Assert.assertTrue(report.getSessionsStarted() > 0, "At least one session should start");
+        Assert.assertEquals(report.getErrors(), 0, "No session should throw");
+        test.pass("✓ " + report.getSessionsStarted() + " sessions, peak " + stats.getPeakActiveSessions()
+            + " active on " + stats.getPeakPlatformThreads() + " platform threads");
+    }
+}